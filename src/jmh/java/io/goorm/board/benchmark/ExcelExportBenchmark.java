@@ -0,0 +1,69 @@
+package io.goorm.board.benchmark;
+
+import io.goorm.board.util.ExcelUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 엑셀 내보내기 벤치마크 (ExcelUtil.createExcelWithTypes, 상품 목록 형식)
+ * 1회 실행이 수 초 이상 걸리는 크기도 있으므로 SingleShotTime으로 xlsx 1개 생성 시간을 측정
+ * 1,000,000행은 결과 byte[]도 수십 MB이므로 힙을 넉넉히 지정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsPrepend = "-Xmx4g")
+public class ExcelExportBenchmark {
+
+    private static final String[] HEADERS = {"상품코드", "상품명", "카테고리", "공급업체", "단가", "재고"};
+    private static final ExcelUtil.CellType[] COLUMN_TYPES = {
+            ExcelUtil.CellType.STRING, ExcelUtil.CellType.STRING, ExcelUtil.CellType.STRING,
+            ExcelUtil.CellType.STRING, ExcelUtil.CellType.NUMERIC, ExcelUtil.CellType.NUMERIC
+    };
+
+    @Param({"1000", "100000", "1000000"})
+    private int rowCount;
+
+    private List<Object[]> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new Object[]{
+                    String.format("PROD-%07d", i),
+                    "벤치마크 상품 " + i,
+                    "카테고리 " + (i % 20),
+                    "공급업체 " + (i % 50),
+                    BigDecimal.valueOf(1_000 + random.nextInt(500_000)),
+                    random.nextInt(1_000)
+            });
+        }
+    }
+
+    @Benchmark
+    public byte[] createExcelWithTypes() throws IOException {
+        return ExcelUtil.createExcelWithTypes("상품목록", HEADERS, rows, Function.identity(), COLUMN_TYPES);
+    }
+}
@@ -0,0 +1,80 @@
+package io.goorm.board.benchmark;
+
+import io.goorm.board.dto.excel.ExcelStockDto;
+import io.goorm.board.service.ExcelService;
+import io.goorm.board.util.ExcelUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 입고 엑셀 파싱 벤치마크 (ExcelService.parseStockReceivingExcel, .xlsx 스트리밍 파싱)
+ * 입고 템플릿과 같은 열 구성의 파일을 미리 만들어 두고 파일 1개 파싱 시간을 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExcelParseBenchmark {
+
+    private static final String[] HEADERS = {"상품코드", "상품명", "입고수량", "입고단가", "비고"};
+    private static final ExcelUtil.CellType[] COLUMN_TYPES = {
+            ExcelUtil.CellType.STRING, ExcelUtil.CellType.STRING, ExcelUtil.CellType.NUMERIC,
+            ExcelUtil.CellType.NUMERIC, ExcelUtil.CellType.STRING
+    };
+
+    @Param({"1000", "100000"})
+    private int rowCount;
+
+    private Path path;
+    private ExcelService excelService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        path = Files.createTempFile("stock-receiving-bench", ".xlsx");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            ExcelUtil.writeExcel("입고처리", HEADERS, IntStream.range(0, rowCount).iterator(),
+                    i -> new Object[]{
+                            String.format("PROD-%07d", i),
+                            "벤치마크 상품 " + i,
+                            1 + random.nextInt(100),
+                            1_000 + random.nextInt(500_000),
+                            i % 10 == 0 ? "정기 입고" : null
+                    },
+                    COLUMN_TYPES, out);
+        }
+        excelService = new ExcelService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public List<ExcelStockDto> parseStockReceivingExcel() {
+        return excelService.parseStockReceivingExcel(path);
+    }
+}
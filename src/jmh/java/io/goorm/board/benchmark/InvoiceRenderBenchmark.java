@@ -0,0 +1,110 @@
+package io.goorm.board.benchmark;
+
+import io.goorm.board.dto.order.OrderDto;
+import io.goorm.board.dto.order.OrderItemDto;
+import io.goorm.board.service.invoice.InvoicePdfRenderer;
+import io.goorm.board.service.invoice.InvoiceQrCodeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인보이스 생성 벤치마크
+ * - renderPdf: InvoicePdfRenderer의 HTML → PDF 변환 (템플릿 처리 + XHTML 파싱 + 레이아웃 + PDF 기록)
+ * - qrCode: InvoiceQrCodeGenerator의 QR 코드 PNG/Base64 생성
+ * 렌더러 풀은 1개로 두어 단일 스레드 변환 비용만 측정하며, 폰트는 등록하지 않음 (기본 폰트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InvoiceRenderBenchmark {
+
+    @Param({"5", "50"})
+    private int itemCount;
+
+    private InvoicePdfRenderer renderer;
+    private InvoiceQrCodeGenerator qrCodeGenerator;
+    private OrderDto order;
+    private String invoiceId;
+    private LocalDateTime issuedAt;
+    private Map<String, Object> templateData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        renderer = new InvoicePdfRenderer(1, 30, new String[0]);
+        qrCodeGenerator = new InvoiceQrCodeGenerator();
+
+        issuedAt = LocalDateTime.of(2025, 10, 15, 14, 30);
+        List<OrderItemDto> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItemDto.builder()
+                    .productName("Benchmark Product " + i)
+                    .categoryName("Category " + (i % 5))
+                    .quantity(1 + i % 10)
+                    .unitPrice(BigDecimal.valueOf(10_000L + i * 1_000L))
+                    .build());
+        }
+        order = OrderDto.builder()
+                .orderSeq(1234L)
+                .companySeq(56L)
+                .companyName("Benchmark Company")
+                .userName("Benchmark User")
+                .userEmail("bench@example.com")
+                .orderNumber("ORD-20251015-0001")
+                .orderDate(issuedAt.minusDays(3))
+                .totalAmount(new BigDecimal("12345000.00"))
+                .discountAmount(new BigDecimal("617250.00"))
+                .discountRate(new BigDecimal("5.00"))
+                .finalAmount(new BigDecimal("11727750.00"))
+                .invoiceGeneratedAt(issuedAt)
+                .paymentDueDate(LocalDate.of(2025, 11, 30))
+                .orderItems(items)
+                .build();
+        invoiceId = "INV-20251015-234";
+
+        // InvoiceService.prepareTemplateData와 같은 변수 구성
+        templateData = new HashMap<>();
+        templateData.put("order", order);
+        templateData.put("invoiceId", invoiceId);
+        templateData.put("invoiceGeneratedAt", order.getInvoiceGeneratedAt());
+        templateData.put("paymentDueDate", order.getPaymentDueDate());
+        templateData.put("qrCodeBase64", qrCodeGenerator.generate(invoiceId, order, issuedAt));
+        templateData.put("currentDateTime", issuedAt);
+    }
+
+    @Benchmark
+    public void renderPdf(Blackhole blackhole) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        renderer.render(templateData, out);
+        blackhole.consume(out.size());
+    }
+
+    @Benchmark
+    public String qrCode() {
+        return qrCodeGenerator.generate(invoiceId, order, issuedAt);
+    }
+}
@@ -0,0 +1,109 @@
+package io.goorm.board.benchmark;
+
+import io.goorm.board.dto.order.OrderDto;
+import io.goorm.board.dto.order.OrderItemDto;
+import io.goorm.board.entity.Order;
+import io.goorm.board.entity.OrderItem;
+import io.goorm.board.enums.DeliveryStatus;
+import io.goorm.board.enums.OrderStatus;
+import io.goorm.board.enums.PaymentStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 발주 DTO 변환 벤치마크
+ * OrderService.findInvoicedOrders와 같은 방식으로 발주 Entity를 DTO로 바꾸고 상품 목록을 발주별로 나눠 붙임
+ * (OrderService.convertToDto / convertToItemDto는 OrderDto.from / OrderItemDto.from에 위임)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDtoConversionBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Param({"100", "1000"})
+    private int orderCount;
+
+    private List<Order> orders;
+    private List<OrderItem> orderItems;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 10, 15, 14, 30);
+        orders = new ArrayList<>(orderCount);
+        orderItems = new ArrayList<>(orderCount * ITEMS_PER_ORDER);
+        for (long seq = 1; seq <= orderCount; seq++) {
+            orders.add(Order.builder()
+                    .orderSeq(seq)
+                    .companySeq(seq % 30)
+                    .userSeq(seq % 100)
+                    .orderNumber(String.format("ORD-20251015-%04d", seq))
+                    .orderDate(now)
+                    .status(OrderStatus.COMPLETED)
+                    .deliveryStatus(DeliveryStatus.DELIVERY_COMPLETED)
+                    .totalAmount(new BigDecimal("1000000.00"))
+                    .discountAmount(new BigDecimal("50000.00"))
+                    .finalAmount(new BigDecimal("950000.00"))
+                    .discountRate(new BigDecimal("5.00"))
+                    .createdAt(now)
+                    .paymentStatus(PaymentStatus.PENDING)
+                    .paymentDueDate(LocalDate.of(2025, 11, 30))
+                    .invoiceGeneratedAt(now)
+                    .deliveryCompletedBy("관리자")
+                    .deliveryCompletedAt(now)
+                    .companyName("회사 " + (seq % 30))
+                    .userName("사용자 " + (seq % 100))
+                    .userEmail("user" + (seq % 100) + "@example.com")
+                    .build());
+            for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                orderItems.add(OrderItem.builder()
+                        .orderItemSeq(seq * ITEMS_PER_ORDER + i)
+                        .orderSeq(seq)
+                        .productSeq((long) i)
+                        .quantity(1 + i)
+                        .unitPrice(new BigDecimal("200000.00"))
+                        .createdAt(now)
+                        .productName("상품 " + i)
+                        .productCode("PROD-" + i)
+                        .categoryName("카테고리")
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<OrderDto> convertWithItems() {
+        List<OrderDto> dtos = orders.stream()
+                .map(OrderDto::from)
+                .toList();
+
+        Map<Long, List<OrderItemDto>> itemsByOrder = orderItems.stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderSeq,
+                        Collectors.mapping(OrderItemDto::from, Collectors.toList())));
+        dtos.forEach(dto -> dto.setOrderItems(itemsByOrder.getOrDefault(dto.getOrderSeq(), List.of())));
+        return dtos;
+    }
+}
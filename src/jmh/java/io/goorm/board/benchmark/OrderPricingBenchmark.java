@@ -0,0 +1,120 @@
+package io.goorm.board.benchmark;
+
+import io.goorm.board.service.discount.DiscountCalculator;
+import io.goorm.board.util.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발주 금액 계산 벤치마크 (발주 1건 = 상품 합계 + 할인 + 최종 금액 + 전년도 등급 판정)
+ * - bigDecimal: 고정 소수점 도입 전 구현 (스트림 합산, 호출마다 상수 생성, ROUND_HALF_UP)
+ * - money: 현재 구현 (Money 고정 소수점, 단가 변환은 경계에서 한 번)
+ * gc 프로파일러의 gc.alloc.rate.norm이 발주 1건당 할당 바이트
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderPricingBenchmark {
+
+    @Param({"5", "50"})
+    private int lineCount;
+
+    private BigDecimal[] unitPrices;
+    private int[] quantities;
+    private BigDecimal discountRate;
+    private BigDecimal previousYearAmount;
+
+    private DiscountCalculator calculator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        unitPrices = new BigDecimal[lineCount];
+        quantities = new int[lineCount];
+        for (int i = 0; i < lineCount; i++) {
+            unitPrices[i] = BigDecimal.valueOf(1_000 + random.nextInt(500_000), 0).setScale(2);
+            quantities[i] = 1 + random.nextInt(100);
+        }
+        discountRate = new BigDecimal("5.00");
+        previousYearAmount = new BigDecimal("95000000.00");
+        calculator = new DiscountCalculator();
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lineCount; i++) {
+            total = total.add(unitPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        BigDecimal discount = legacyApplyDiscount(total, discountRate);
+        BigDecimal finalAmount = total.subtract(discount).max(BigDecimal.ZERO);
+
+        blackhole.consume(finalAmount);
+        blackhole.consume(legacyEvaluateGrade(previousYearAmount));
+    }
+
+    @Benchmark
+    public void money(Blackhole blackhole) {
+        Money total = Money.ZERO;
+        for (int i = 0; i < lineCount; i++) {
+            total = total.plus(Money.of(unitPrices[i]).times(quantities[i]));
+        }
+        Money discount = calculator.applyDiscount(total, Money.basisPoints(discountRate));
+        Money finalAmount = calculator.calculateFinalAmount(total, discount);
+
+        blackhole.consume(finalAmount.getMinorUnits());
+        blackhole.consume(calculator.evaluateDiscountGrade(previousYearAmount));
+    }
+
+    /**
+     * 고정 소수점 도입 전 DiscountCalculator.applyDiscount
+     */
+    private static BigDecimal legacyApplyDiscount(BigDecimal orderAmount, BigDecimal rate) {
+        if (orderAmount.compareTo(BigDecimal.ZERO) <= 0 || rate.compareTo(BigDecimal.ZERO) <= 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal effectiveRate = rate.min(new BigDecimal("100"));
+        return orderAmount.multiply(effectiveRate).divide(new BigDecimal("100"), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 고정 소수점 도입 전 DiscountCalculator.evaluateDiscountGrade
+     */
+    private static DiscountCalculator.DiscountGrade legacyEvaluateGrade(BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            return DiscountCalculator.DiscountGrade.NONE;
+        }
+        if (amount.compareTo(new BigDecimal("150000000")) >= 0) {
+            return DiscountCalculator.DiscountGrade.PREMIUM;
+        }
+        if (amount.compareTo(new BigDecimal("80000000")) >= 0) {
+            return DiscountCalculator.DiscountGrade.GOLD;
+        }
+        if (amount.compareTo(new BigDecimal("30000000")) >= 0) {
+            return DiscountCalculator.DiscountGrade.SILVER;
+        }
+        if (amount.compareTo(new BigDecimal("10000000")) >= 0) {
+            return DiscountCalculator.DiscountGrade.BRONZE;
+        }
+        return DiscountCalculator.DiscountGrade.BASIC;
+    }
+}
@@ -0,0 +1,25 @@
+package io.goorm.board.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 데드락/락 대기 타임아웃 발생 시 트랜잭션 전체를 재시도하기 위한 어노테이션
+ * 트랜잭션 경계(@Transactional) 메소드에 함께 선언해야 함
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnDeadlock {
+
+    /**
+     * 최대 시도 횟수 (최초 실행 포함)
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * 재시도 간 기본 대기 시간 (ms, 시도마다 배수 증가)
+     */
+    long backoffMillis() default 50;
+}
@@ -0,0 +1,50 @@
+package io.goorm.board.aspect;
+
+import io.goorm.board.annotation.RetryOnDeadlock;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 데드락 재시도 AOP
+ * 트랜잭션 프록시보다 바깥에서 실행되어, 롤백된 트랜잭션을 처음부터 다시 시작
+ */
+@Aspect
+@Component
+@Slf4j
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class DeadlockRetryAspect {
+
+    @Around("@annotation(retryOnDeadlock)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnDeadlock retryOnDeadlock) throws Throwable {
+        // 이미 바깥 트랜잭션에 참여 중이면 재시도 불가 (롤백 대상은 바깥 트랜잭션)
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int maxAttempts = Math.max(1, retryOnDeadlock.maxAttempts());
+        String methodName = joinPoint.getSignature().toShortString();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("데드락 재시도 한도 초과 - {}, 시도: {}회", methodName, attempt);
+                    throw e;
+                }
+
+                long backoff = retryOnDeadlock.backoffMillis() * attempt;
+                log.warn("데드락 감지, 재시도 - {}, 시도: {}/{}, 대기: {}ms, 원인: {}",
+                        methodName, attempt, maxAttempts, backoff, e.getMostSpecificCause().getMessage());
+                Thread.sleep(backoff);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.goorm.board.controller;
+
+import io.goorm.board.dto.excel.ExportJobProgressDto;
+import io.goorm.board.service.excel.ExportJob;
+import io.goorm.board.service.excel.ExportJobService;
+import io.goorm.board.util.ExcelUtil;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.Optional;
+
+/**
+ * 목록 내보내기 작업 컨트롤러
+ * 상품/카테고리/공급업체 내보내기 요청이 등록한 작업의 진행 확인과 파일 다운로드
+ */
+@Slf4j
+@Controller
+@RequestMapping("/admin/exports")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminExportController {
+
+    private final ExportJobService exportJobService;
+    private final MessageSource messageSource;
+
+    /**
+     * 내보내기 작업 진행 화면 (완료 시 자동 다운로드)
+     */
+    @GetMapping("/{jobId}")
+    public String job(@PathVariable String jobId, Model model, RedirectAttributes redirectAttributes) {
+        Optional<ExportJob> job = exportJobService.findJob(jobId);
+        if (job.isEmpty()) {
+            redirectAttributes.addFlashAttribute("errorMessage", jobNotFoundMessage());
+            return "redirect:/admin/dashboard";
+        }
+
+        model.addAttribute("job", job.get());
+        return "admin/exports/job";
+    }
+
+    /**
+     * 내보내기 작업 진행 상태 API (폴링)
+     */
+    @GetMapping("/{jobId}/progress")
+    @ResponseBody
+    public ResponseEntity<ExportJobProgressDto> progress(@PathVariable String jobId) {
+        return exportJobService.findJob(jobId)
+                .map(ExportJobProgressDto::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 내보내기 파일 다운로드
+     * 아직 생성 중이면 진행 화면으로 이동
+     */
+    @GetMapping("/{jobId}/download")
+    public String download(@PathVariable String jobId, HttpServletResponse response,
+                           RedirectAttributes redirectAttributes) throws IOException {
+        Optional<ExportJob> found = exportJobService.findJob(jobId);
+        if (found.isEmpty()) {
+            redirectAttributes.addFlashAttribute("errorMessage", jobNotFoundMessage());
+            return "redirect:/admin/dashboard";
+        }
+
+        ExportJob job = found.get();
+        if (!job.isDownloadable()) {
+            return "redirect:/admin/exports/" + jobId;
+        }
+
+        ExcelUtil.setDownloadHeaders(response, job.getDownloadFilename(), job.getFormat().getContentType());
+        response.setContentLengthLong(job.getFileSize());
+        try {
+            Files.copy(job.getFilePath(), response.getOutputStream());
+        } catch (NoSuchFileException e) {
+            // 조회 직후 TTL 만료로 파일이 정리된 경우
+            log.warn("Export file already evicted - JobId: {}", jobId);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_GONE, jobNotFoundMessage());
+            }
+        }
+        return null;
+    }
+
+    private String jobNotFoundMessage() {
+        return messageSource.getMessage("excel.export.job.notfound", null, LocaleContextHolder.getLocale());
+    }
+}
@@ -1,14 +1,15 @@
 package io.goorm.board.controller;
 
-import io.goorm.board.dto.excel.ExcelStockDto;
 import io.goorm.board.dto.inventory.InventoryTransactionSearchDto;
+import io.goorm.board.dto.inventory.StockReceivingJobProgressDto;
 import io.goorm.board.dto.supplier.SupplierDto;
 import io.goorm.board.entity.InventoryTransaction;
+import io.goorm.board.entity.StockReceivingJob;
 import io.goorm.board.entity.User;
 import io.goorm.board.mapper.InventoryTransactionMapper;
 import io.goorm.board.mapper.SupplierMapper;
 import io.goorm.board.service.ExcelService;
-import io.goorm.board.service.InventoryService;
+import io.goorm.board.service.inventory.StockReceivingJobService;
 import io.goorm.board.util.FileUploadUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,13 +24,12 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 관리자 재고 관리 컨트롤러
@@ -42,10 +42,10 @@ import java.util.List;
 public class AdminInventoryController {
 
     private final ExcelService excelService;
-    private final InventoryService inventoryService;
     private final FileUploadUtil fileUploadUtil;
     private final InventoryTransactionMapper inventoryTransactionMapper;
     private final SupplierMapper supplierMapper;
+    private final StockReceivingJobService stockReceivingJobService;
 
     /**
      * 재고 관리 메인 페이지
@@ -159,41 +159,13 @@ public class AdminInventoryController {
                 return "redirect:/admin/inventory/receiving";
             }
 
-            // 엑셀 파싱
-            List<ExcelStockDto> stockList = excelService.parseStockReceivingExcel(file);
+            // 입고 작업 등록 (청크 단위 백그라운드 처리, 진행률은 작업 화면에서 확인)
+            StockReceivingJob job = stockReceivingJobService.submit(
+                    supplierSeq, user.getUserSeq(), uploadResult.getFilename(), uploadResult.getFullPath());
 
-            if (stockList.isEmpty()) {
-                redirectAttributes.addFlashAttribute("errorMessage", "처리할 데이터가 없습니다.");
-                // 빈 파일이면 업로드된 파일 삭제
-                try {
-                    fileUploadUtil.deleteFileByPath(uploadResult.getFullPath());
-                } catch (IOException ignored) {}
-                return "redirect:/admin/inventory/receiving";
-            }
-
-            // 입고 처리 (파일 정보 및 공급업체 정보 포함)
-            List<String> errors = inventoryService.processStockReceiving(
-                stockList, supplierSeq, user, uploadResult.getFilename(), uploadResult.getFullPath());
-
-            // 결과 메시지 설정
-            int successCount = stockList.size() - errors.size();
-            int totalCount = stockList.size();
-
-            if (errors.isEmpty()) {
-                redirectAttributes.addFlashAttribute("successMessage",
-                    String.format("입고 처리가 완료되었습니다. (성공: %d건) - 파일: %s",
-                        successCount, uploadResult.getFilename()));
-            } else {
-                redirectAttributes.addFlashAttribute("warningMessage",
-                    String.format("입고 처리가 완료되었습니다. (성공: %d건, 실패: %d건) - 파일: %s",
-                        successCount, errors.size(), uploadResult.getFilename()));
-                redirectAttributes.addFlashAttribute("errorDetails", errors);
-            }
+            log.info("엑셀 입고 작업 등록 완료 - JobSeq: {}, 저장파일: {}", job.getJobSeq(), uploadResult.getFullPath());
 
-            log.info("엑셀 입고 처리 완료 - 전체: {}건, 성공: {}건, 실패: {}건, 저장파일: {}",
-                    totalCount, successCount, errors.size(), uploadResult.getFullPath());
-
-            return "redirect:/admin/inventory/receiving";
+            return "redirect:/admin/inventory/receiving/jobs/" + job.getJobSeq();
 
         } catch (Exception e) {
             log.error("엑셀 입고 처리 실패 - User: {}, Error: {}", user.getEmail(), e.getMessage(), e);
@@ -202,4 +174,35 @@ public class AdminInventoryController {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 엑셀 입고 작업 진행 화면
+     */
+    @GetMapping("/receiving/jobs/{jobSeq}")
+    public String receivingJob(@PathVariable Long jobSeq, Model model, RedirectAttributes redirectAttributes) {
+        Optional<StockReceivingJob> job = stockReceivingJobService.findJob(jobSeq);
+        if (job.isEmpty()) {
+            redirectAttributes.addFlashAttribute("errorMessage", "입고 작업을 찾을 수 없습니다.");
+            return "redirect:/admin/inventory/receiving";
+        }
+
+        model.addAttribute("job", job.get());
+        model.addAttribute("rowErrors", stockReceivingJobService.findErrors(jobSeq));
+        return "admin/inventory/receiving-job";
+    }
+
+    /**
+     * 엑셀 입고 작업 진행률 API (폴링)
+     */
+    @GetMapping("/receiving/jobs/{jobSeq}/progress")
+    @ResponseBody
+    public ResponseEntity<StockReceivingJobProgressDto> receivingJobProgress(@PathVariable Long jobSeq) {
+        return stockReceivingJobService.findJob(jobSeq)
+                .map(job -> StockReceivingJobProgressDto.from(job,
+                        job.getStatus().isFinished() || job.getFailureCount() > 0
+                                ? stockReceivingJobService.findErrors(jobSeq)
+                                : List.of()))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+}
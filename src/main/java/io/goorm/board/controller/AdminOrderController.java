@@ -1,19 +1,29 @@
 package io.goorm.board.controller;
 
+import io.goorm.board.dto.order.DeliveryCompletionResultDto;
 import io.goorm.board.dto.order.OrderDto;
 import io.goorm.board.dto.order.OrderSearchDto;
+import io.goorm.board.dto.order.OrderSummaryReconciliationDto;
 import io.goorm.board.entity.Company;
 import io.goorm.board.entity.User;
 import io.goorm.board.enums.DeliveryStatus;
 import io.goorm.board.enums.PaymentStatus;
 import io.goorm.board.exception.DeliveryCompleteException;
 import io.goorm.board.exception.PaymentCompleteException;
+import io.goorm.board.service.AdminOrderService;
 import io.goorm.board.service.OrderService;
 import io.goorm.board.service.UserService;
+import io.goorm.board.service.invoice.InvoiceBatchService;
+import io.goorm.board.service.order.OrderSummaryAggregator;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -21,8 +31,12 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Controller
@@ -31,13 +45,16 @@ import java.util.List;
 public class AdminOrderController {
 
     private final OrderService orderService;
+    private final AdminOrderService adminOrderService;
     private final UserService userService;
+    private final InvoiceBatchService invoiceBatchService;
+    private final OrderSummaryAggregator orderSummaryAggregator;
     private final MessageSource messageSource;
 
     @GetMapping
     public String list(@ModelAttribute OrderSearchDto searchDto, Model model) {
         // 관리자는 모든 발주 보기 + 회사 검색 조건
-        List<OrderDto> orders = orderService.findAll(searchDto);
+        Slice<OrderDto> orders = adminOrderService.findAll(searchDto);
         List<Company> companies = userService.findAllCompanies();
 
         model.addAttribute("orders", orders);
@@ -74,6 +91,60 @@ public class AdminOrderController {
         return "buyer/orders/detail"; // 같은 템플릿 사용
     }
 
+    /**
+     * 청구월 인보이스 일괄 다운로드 (ZIP)
+     * 입금예정일이 청구월에 속하는 확정 인보이스를 회사별 폴더로 묶어 응답 스트림에 바로 기록
+     */
+    @GetMapping("/invoices")
+    @PreAuthorize("hasRole('ADMIN')")
+    public String downloadInvoices(@RequestParam YearMonth billingMonth,
+                                   @RequestParam(required = false) Long companySeq,
+                                   @AuthenticationPrincipal User user,
+                                   HttpServletResponse response,
+                                   RedirectAttributes redirectAttributes) throws IOException {
+        Optional<OrderDto> firstTarget = invoiceBatchService.findFirstTarget(billingMonth, companySeq);
+        if (firstTarget.isEmpty()) {
+            String errorMessage = messageSource.getMessage("order.invoice.batch.empty",
+                    new Object[]{billingMonth.toString()}, LocaleContextHolder.getLocale());
+            redirectAttributes.addFlashAttribute("error", errorMessage);
+            return "redirect:/admin/orders";
+        }
+
+        String fileName = invoiceBatchService.generateFileName(billingMonth, firstTarget.get(), companySeq);
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+
+        try {
+            int count = invoiceBatchService.writeInvoiceZip(billingMonth, companySeq, user, response.getOutputStream());
+            log.info("인보이스 일괄 다운로드 - 청구월: {}, 회사: {}, {}건, 관리자: {}",
+                    billingMonth, companySeq, count, user.getEmail());
+        } catch (Exception e) {
+            log.error("인보이스 일괄 다운로드 실패 - 청구월: {}, 회사: {}", billingMonth, companySeq, e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 월별 발주 집계 재집계 (발주 기준 재계산 후 불일치 보고)
+     * apply=false(기본)면 보고만, apply=true면 불일치 행을 발주 기준 값으로 덮어씀
+     */
+    @PostMapping("/summary/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseBody
+    public ResponseEntity<OrderSummaryReconciliationDto> reconcileSummary(
+            @RequestParam(defaultValue = "false") boolean apply,
+            @AuthenticationPrincipal User user) {
+        OrderSummaryReconciliationDto result = orderSummaryAggregator.reconcile(apply);
+        log.info("월별 발주 집계 재집계 요청 - 불일치: {}건, 반영: {}, 관리자: {}",
+                result.getDriftCount(), result.isApplied(), user.getEmail());
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 배송 완료 처리
      */
@@ -100,6 +171,39 @@ public class AdminOrderController {
         return "redirect:/admin/orders";
     }
 
+    /**
+     * 일괄 배송 완료 처리
+     */
+    @PostMapping("/complete-delivery")
+    @PreAuthorize("hasRole('ADMIN')")
+    public String completeDeliveries(@RequestParam(value = "orderSeqs", required = false) List<Long> orderSeqs,
+                                     @AuthenticationPrincipal User user,
+                                     RedirectAttributes redirectAttributes) {
+        if (orderSeqs == null || orderSeqs.isEmpty()) {
+            String errorMessage = messageSource.getMessage("order.delivery.batch.empty", null, LocaleContextHolder.getLocale());
+            redirectAttributes.addFlashAttribute("error", errorMessage);
+            return "redirect:/admin/orders";
+        }
+
+        try {
+            DeliveryCompletionResultDto result = orderService.completeDeliveries(orderSeqs, user);
+            String message = messageSource.getMessage("order.delivery.batch.result",
+                    new Object[]{result.getCompletedCount(), result.getFailedCount()}, LocaleContextHolder.getLocale());
+            redirectAttributes.addFlashAttribute("message", message);
+            if (result.hasFailures()) {
+                redirectAttributes.addFlashAttribute("deliveryFailures", result.getFailures());
+            }
+            log.info("일괄 배송 완료 처리됨 - 성공: {}건, 실패: {}건, 관리자: {}",
+                    result.getCompletedCount(), result.getFailedCount(), user.getEmail());
+        } catch (Exception e) {
+            String errorMessage = messageSource.getMessage("order.delivery.complete.error", null, LocaleContextHolder.getLocale());
+            redirectAttributes.addFlashAttribute("error", errorMessage);
+            log.error("일괄 배송 완료 처리 중 예외 발생 - 주문: {}", orderSeqs, e);
+        }
+
+        return "redirect:/admin/orders";
+    }
+
     /**
      * 배송 시작 처리
      */
@@ -3,7 +3,6 @@ package io.goorm.board.controller;
 import io.goorm.board.entity.User;
 import io.goorm.board.service.OrderService;
 import io.goorm.board.service.UserService;
-import io.goorm.board.dto.order.OrderSearchDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -20,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class BuyerController {
 
+    private static final int RECENT_ORDER_LIMIT = 5;
+
     private final OrderService orderService;
     private final UserService userService;
 
@@ -50,8 +51,7 @@ public class BuyerController {
             // 최근 발주 목록 (최대 5개)
             if (userWithCompany != null && userWithCompany.getCompanySeq() != null) {
                 System.out.println("회사 정보 있음, 발주 목록 조회 시작");
-                OrderSearchDto searchDto = new OrderSearchDto();
-                model.addAttribute("recentOrders", orderService.findByCompany(userWithCompany.getCompanySeq(), searchDto));
+                model.addAttribute("recentOrders", orderService.findRecentByCompany(userWithCompany.getCompanySeq(), RECENT_ORDER_LIMIT));
                 System.out.println("발주 목록 조회 완료");
             } else {
                 System.out.println("회사 정보 없음");
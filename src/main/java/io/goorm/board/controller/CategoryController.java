@@ -4,18 +4,19 @@ import io.goorm.board.dto.category.CategoryCreateDto;
 import io.goorm.board.dto.category.CategoryDto;
 import io.goorm.board.dto.category.CategorySearchDto;
 import io.goorm.board.dto.category.CategoryUpdateDto;
+import io.goorm.board.dto.common.SearchPage;
 import io.goorm.board.entity.User;
 import io.goorm.board.enums.CategoryStatus;
 import io.goorm.board.service.CategoryService;
-import io.goorm.board.service.ExcelExportService;
+import io.goorm.board.service.excel.ExportFormat;
+import io.goorm.board.service.excel.ExportJob;
+import io.goorm.board.service.excel.ExportJobService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -35,7 +36,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class CategoryController {
 
     private final CategoryService categoryService;
-    private final ExcelExportService excelExportService;
+    private final ExportJobService exportJobService;
     private final MessageSource messageSource;
     private final LocaleResolver localeResolver;
 
@@ -54,6 +55,7 @@ public class CategoryController {
         model.addAttribute("categories", categories);
         model.addAttribute("search", searchDto);
         model.addAttribute("totalElements", categories.getTotalElements());
+        model.addAttribute("totalEstimated", SearchPage.isTotalEstimated(categories));
         model.addAttribute("totalPages", categories.getTotalPages());
         model.addAttribute("currentPage", categories.getNumber() + 1);
 
@@ -254,30 +256,21 @@ public class CategoryController {
 
     /**
      * 카테고리 목록 Excel 다운로드
+     * format 파라미터로 CSV, Arrow 형식도 지원 (기본 XLSX)
+     * 파일은 백그라운드 내보내기 작업으로 생성하고, 같은 조건의 캐시 파일이 있으면 바로 다운로드
      */
     @GetMapping("/excel")
-    public ResponseEntity<byte[]> downloadExcel(@ModelAttribute CategorySearchDto searchDto, HttpServletRequest request) {
-        try {
-            log.debug("Excel download request with search: {}", searchDto);
-
-            // 서비스에서 Excel 데이터 생성
-            byte[] excelData = categoryService.exportToExcel(searchDto);
-
-            // 파일명 생성 (한글 지원)
-            String fileName = excelExportService.generateFileName("카테고리목록", localeResolver.resolveLocale(request));
+    public String downloadExcel(@ModelAttribute CategorySearchDto searchDto,
+                                @RequestParam(defaultValue = "XLSX") ExportFormat format) {
+        log.debug("Excel download request with search: {}", searchDto);
 
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDispositionFormData("attachment", fileName);
+        // 같은 조건의 작업이 진행 중이거나 캐시되어 있으면 그 작업으로 병합
+        ExportJob job = exportJobService.submit("카테고리목록", format, searchDto,
+                outputStream -> categoryService.export(searchDto, format, outputStream));
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(excelData);
-
-        } catch (Exception e) {
-            log.error("Failed to download Excel", e);
-            return ResponseEntity.internalServerError().build();
+        if (job.isDownloadable()) {
+            return "redirect:/admin/exports/" + job.getJobId() + "/download";
         }
+        return "redirect:/admin/exports/" + job.getJobId();
     }
 }
\ No newline at end of file
@@ -10,14 +10,16 @@ import io.goorm.board.service.OrderService;
 import io.goorm.board.service.ProductService;
 import io.goorm.board.service.DiscountService;
 import io.goorm.board.service.InvoiceService;
+import io.goorm.board.service.invoice.InvoiceArtifact;
+import io.goorm.board.util.FileDownloadUtil;
 import org.springframework.security.access.prepost.PreAuthorize;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -25,8 +27,10 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDate;
-import java.util.List;
 
 @Slf4j
 @Controller
@@ -44,7 +48,7 @@ public class OrderController {
                       @ModelAttribute OrderSearchDto searchDto,
                       Model model) {
         // 바이어는 본인 회사 발주만 보기
-        List<OrderDto> orders = orderService.findByCompany(user.getCompanySeq(), searchDto);
+        Slice<OrderDto> orders = orderService.findByCompany(user.getCompanySeq(), searchDto);
         model.addAttribute("orders", orders);
         model.addAttribute("searchDto", searchDto);
         return "buyer/orders/list";
@@ -123,8 +127,10 @@ public class OrderController {
 
     @GetMapping("/{orderSeq}/invoice")
     @PreAuthorize("hasRole('BUYER')")
-    public ResponseEntity<byte[]> downloadInvoice(@PathVariable Long orderSeq,
-                                                 @AuthenticationPrincipal User user) {
+    public void downloadInvoice(@PathVariable Long orderSeq,
+                                @AuthenticationPrincipal User user,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
         try {
             log.info("인보이스 다운로드 요청 - OrderSeq: {}, User: {}", orderSeq, user.getEmail());
 
@@ -133,29 +139,36 @@ public class OrderController {
             if (!order.getCompanySeq().equals(user.getCompanySeq())) {
                 log.warn("권한 없는 인보이스 다운로드 시도 - OrderSeq: {}, UserCompany: {}, OrderCompany: {}",
                         orderSeq, user.getCompanySeq(), order.getCompanySeq());
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+                response.sendError(HttpServletResponse.SC_FORBIDDEN);
+                return;
             }
 
-            // PDF 생성
-            byte[] pdfBytes = invoiceService.generateInvoicePdf(orderSeq, user);
-
             // 파일명 생성
             String fileName = invoiceService.generateFileName(order);
 
             // 응답 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", fileName);
-            headers.setContentLength(pdfBytes.length);
+            response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(fileName).build().toString());
+
+            if (invoiceService.isInvoiceConfirmed(order)) {
+                // 확정 인보이스는 저장된 PDF를 복사 없이 전송 (PDF 준비는 트랜잭션 없이, 출력 이력만 짧은 트랜잭션)
+                InvoiceArtifact artifact = invoiceService.storeInvoiceArtifact(order);
+                invoiceService.recordInvoicePrint(artifact, user);
+                FileDownloadUtil.sendFile(request, response, artifact.getPath(), artifact.getSize());
+            } else {
+                // PDF를 byte[]로 만들지 않고 응답 스트림에 바로 기록
+                invoiceService.writeInvoicePdf(orderSeq, user, response.getOutputStream());
+            }
 
             log.info("인보이스 다운로드 성공 - OrderSeq: {}, FileName: {}", orderSeq, fileName);
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(pdfBytes);
 
         } catch (Exception e) {
             log.error("인보이스 다운로드 실패 - OrderSeq: {}, Error: {}", orderSeq, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
         }
     }
 
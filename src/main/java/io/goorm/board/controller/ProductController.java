@@ -1,21 +1,24 @@
 package io.goorm.board.controller;
 
+import io.goorm.board.dto.common.SearchPage;
 import io.goorm.board.dto.product.ProductCreateDto;
 import io.goorm.board.dto.product.ProductDto;
+import io.goorm.board.dto.product.ProductFacetDto;
 import io.goorm.board.dto.product.ProductSearchDto;
 import io.goorm.board.dto.product.ProductUpdateDto;
 import io.goorm.board.enums.ProductStatus;
 import io.goorm.board.service.CategoryService;
-import io.goorm.board.service.ExcelExportService;
 import io.goorm.board.service.ProductService;
 import io.goorm.board.service.SupplierService;
+import io.goorm.board.service.excel.ExportFormat;
+import io.goorm.board.service.excel.ExportJob;
+import io.goorm.board.service.excel.ExportJobService;
+import io.goorm.board.service.product.ProductCodeFilter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -38,7 +41,8 @@ public class ProductController {
     private final ProductService productService;
     private final CategoryService categoryService;
     private final SupplierService supplierService;
-    private final ExcelExportService excelExportService;
+    private final ExportJobService exportJobService;
+    private final ProductCodeFilter productCodeFilter;
     private final MessageSource messageSource;
     private final LocaleResolver localeResolver;
 
@@ -57,12 +61,14 @@ public class ProductController {
         model.addAttribute("products", products);
         model.addAttribute("search", searchDto);
         model.addAttribute("totalElements", products.getTotalElements());
+        model.addAttribute("totalEstimated", SearchPage.isTotalEstimated(products));
         model.addAttribute("totalPages", products.getTotalPages());
         model.addAttribute("currentPage", products.getNumber() + 1);
 
-        // 검색 필터용 데이터
+        // 검색 필터용 데이터 (패싯 건수는 검색 인덱스 사용 불가 시 null)
         model.addAttribute("categories", categoryService.findAllActive());
         model.addAttribute("productStatuses", ProductStatus.values());
+        model.addAttribute("facets", productService.getFacets(searchDto));
 
         return "products/list";
     }
@@ -250,6 +256,25 @@ public class ProductController {
         return ResponseEntity.ok(isDuplicate);
     }
 
+    /**
+     * 상품 코드 필터 통계 API (DB 조회 생략 건수, 오탐률)
+     */
+    @GetMapping("/code-filter/stats")
+    @ResponseBody
+    public ResponseEntity<ProductCodeFilter.Stats> getCodeFilterStats() {
+        return ResponseEntity.ok(productCodeFilter.stats());
+    }
+
+    /**
+     * 상품 패싯 건수 API (카테고리/공급업체/상태/단위/가격 구간별 상품 수)
+     */
+    @GetMapping("/facets")
+    @ResponseBody
+    public ResponseEntity<ProductFacetDto> getFacets(@ModelAttribute ProductSearchDto searchDto) {
+        ProductFacetDto facets = productService.getFacets(searchDto);
+        return facets != null ? ResponseEntity.ok(facets) : ResponseEntity.noContent().build();
+    }
+
     /**
      * 상태별 상품 목록 API
      */
@@ -282,30 +307,21 @@ public class ProductController {
 
     /**
      * 상품 목록 Excel 다운로드
+     * format 파라미터로 CSV, Arrow 형식도 지원 (기본 XLSX)
+     * 파일은 백그라운드 내보내기 작업으로 생성하고, 같은 조건의 캐시 파일이 있으면 바로 다운로드
      */
     @GetMapping("/excel")
-    public ResponseEntity<byte[]> downloadExcel(@ModelAttribute ProductSearchDto searchDto, HttpServletRequest request) {
-        try {
-            log.debug("Excel download request with search: {}", searchDto);
-
-            // 서비스에서 Excel 데이터 생성
-            byte[] excelData = productService.exportToExcel(searchDto);
+    public String downloadExcel(@ModelAttribute ProductSearchDto searchDto,
+                                @RequestParam(defaultValue = "XLSX") ExportFormat format) {
+        log.debug("Excel download request with search: {}", searchDto);
 
-            // 파일명 생성 (한글 지원)
-            String fileName = excelExportService.generateFileName("상품목록", localeResolver.resolveLocale(request));
+        // 같은 조건의 작업이 진행 중이거나 캐시되어 있으면 그 작업으로 병합
+        ExportJob job = exportJobService.submit("상품목록", format, searchDto,
+                outputStream -> productService.export(searchDto, format, outputStream));
 
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDispositionFormData("attachment", fileName);
-
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(excelData);
-
-        } catch (Exception e) {
-            log.error("Failed to download Excel", e);
-            return ResponseEntity.internalServerError().build();
+        if (job.isDownloadable()) {
+            return "redirect:/admin/exports/" + job.getJobId() + "/download";
         }
+        return "redirect:/admin/exports/" + job.getJobId();
     }
 }
\ No newline at end of file
@@ -1,22 +1,22 @@
 package io.goorm.board.controller;
 
+import io.goorm.board.dto.common.SearchPage;
 import io.goorm.board.dto.supplier.SupplierCreateDto;
 import io.goorm.board.dto.supplier.SupplierDto;
 import io.goorm.board.dto.supplier.SupplierSearchDto;
 import io.goorm.board.dto.supplier.SupplierUpdateDto;
 import io.goorm.board.entity.User;
 import io.goorm.board.enums.SupplierStatus;
-import io.goorm.board.service.ExcelExportService;
 import io.goorm.board.service.SupplierService;
+import io.goorm.board.service.excel.ExportFormat;
+import io.goorm.board.service.excel.ExportJob;
+import io.goorm.board.service.excel.ExportJobService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -35,7 +35,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class SupplierController {
 
     private final SupplierService supplierService;
-    private final ExcelExportService excelExportService;
+    private final ExportJobService exportJobService;
     private final MessageSource messageSource;
     private final LocaleResolver localeResolver;
 
@@ -55,6 +55,7 @@ public class SupplierController {
         model.addAttribute("currentPage", suppliers.getNumber() + 1);
         model.addAttribute("totalPages", suppliers.getTotalPages());
         model.addAttribute("totalElements", suppliers.getTotalElements());
+        model.addAttribute("totalEstimated", SearchPage.isTotalEstimated(suppliers));
         model.addAttribute("size", suppliers.getSize());
         model.addAttribute("search", searchDto);
         model.addAttribute("statuses", SupplierStatus.values());
@@ -205,27 +206,21 @@ public class SupplierController {
 
     /**
      * Excel 다운로드
+     * format 파라미터로 CSV, Arrow 형식도 지원 (기본 XLSX)
+     * 파일은 백그라운드 내보내기 작업으로 생성하고, 같은 조건의 캐시 파일이 있으면 바로 다운로드
      */
     @GetMapping("/excel")
-    @ResponseBody
-    public ResponseEntity<byte[]> downloadExcel(
-            @ModelAttribute SupplierSearchDto searchDto,
-            HttpServletRequest request
-    ) {
+    public String downloadExcel(@ModelAttribute SupplierSearchDto searchDto,
+                                @RequestParam(defaultValue = "XLSX") ExportFormat format) {
         log.debug("Supplier Excel download request with search: {}", searchDto);
 
-        byte[] excelData = supplierService.exportToExcel(searchDto);
+        // 같은 조건의 작업이 진행 중이거나 캐시되어 있으면 그 작업으로 병합
+        ExportJob job = exportJobService.submit("공급업체목록", format, searchDto,
+                outputStream -> supplierService.export(searchDto, format, outputStream));
 
-        // 파일명 생성 (한글 지원)
-        String fileName = excelExportService.generateFileName("공급업체목록", localeResolver.resolveLocale(request));
-
-        // HTTP 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", fileName);
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(excelData);
+        if (job.isDownloadable()) {
+            return "redirect:/admin/exports/" + job.getJobId() + "/download";
+        }
+        return "redirect:/admin/exports/" + job.getJobId();
     }
 }
\ No newline at end of file
@@ -14,7 +14,7 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-public abstract class BaseSearchConditionDto {
+public abstract class BaseSearchConditionDto implements Cloneable {
     
     // ========== 공통 검색 필드 ==========
     protected String keyword;                // 검색 키워드
@@ -26,6 +26,7 @@ public abstract class BaseSearchConditionDto {
     protected int page = 1;                  // 페이지 번호
     @Builder.Default
     protected int size = 10;                 // 페이지 크기
+    protected Boolean exactCount;            // 정확한 전체 건수 요청 (추정 건수를 쓰는 목록에서 COUNT 쿼리 실행)
     
     // ========== 공통 정렬 필드 ==========
     @Builder.Default
@@ -42,6 +43,21 @@ public abstract class BaseSearchConditionDto {
         return Math.max(0, (page - 1) * size);
     }
     
+    /**
+     * 정확한 전체 건수 요청 여부
+     */
+    public boolean isExactCountRequested() {
+        return Boolean.TRUE.equals(exactCount);
+    }
+
+    /**
+     * 목록 쿼리 조회 건수
+     * 추정 건수 방식은 COUNT 없이 다음 페이지 유무를 알기 위해 페이지 크기보다 한 건 더 조회
+     */
+    public int getFetchSize() {
+        return isExactCountRequested() ? size : (int) Math.min((long) size + 1, Integer.MAX_VALUE);
+    }
+
     /**
      * 키워드 검색 여부 확인
      */
@@ -56,6 +72,59 @@ public abstract class BaseSearchConditionDto {
         return "created_at".equals(sortBy) && "DESC".equals(sortDirection);
     }
     
+    /**
+     * 내보내기 작업 키로 쓰기 위한 정규화
+     * 결과에 영향을 주지 않는 값(공백뿐인 검색어, 페이징)을 통일해 같은 조건의 요청이 equals로 일치하도록 함
+     * 하위 클래스는 자신의 문자열 검색 필드를 추가로 정규화
+     */
+    public void normalizeForExport() {
+        keyword = blankToNull(keyword);
+        page = 1;
+        size = 10;
+        exactCount = null;
+    }
+
+    /**
+     * 전체 건수 캐시 키로 쓰기 위한 사본
+     * 건수에 영향을 주지 않는 값(페이징, 정렬, 건수 방식)을 통일해 같은 필터 조건이 equals로 일치하도록 함
+     */
+    public BaseSearchConditionDto toCountCondition() {
+        BaseSearchConditionDto condition;
+        try {
+            condition = (BaseSearchConditionDto) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        condition.normalizeForExport();
+        condition.sortBy = "created_at";
+        condition.sortDirection = "DESC";
+        return condition;
+    }
+
+    /**
+     * 키워드 LIKE 검색값 (%, _를 문자 그대로 비교하도록 이스케이프, 쿼리에서 ESCAPE '!' 사용)
+     */
+    public String getKeywordLike() {
+        return escapeLike(keyword);
+    }
+
+    /**
+     * LIKE 패턴 문자 이스케이프 (이스케이프 문자는 '!')
+     */
+    protected static String escapeLike(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * 공백뿐인 문자열은 null로 변환 (검색 조건 미사용과 동일하게 취급)
+     */
+    protected static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value;
+    }
+
     /**
      * 각 하위 클래스에서 구현해야 하는 비어있음 체크
      * 각 도메인별로 고유한 검색 조건들을 확인
@@ -0,0 +1,30 @@
+package io.goorm.board.dto.common;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 목록 검색 결과 페이지
+ * 전체 건수가 COUNT 쿼리 결과가 아닌 캐시된 추정치이면 totalEstimated가 true
+ */
+@Getter
+public class SearchPage<T> extends PageImpl<T> {
+
+    private final boolean totalEstimated;
+
+    public SearchPage(List<T> content, Pageable pageable, long total, boolean totalEstimated) {
+        super(content, pageable, total);
+        this.totalEstimated = totalEstimated;
+    }
+
+    /**
+     * 전체 건수가 추정치인지 확인 (SearchPage가 아니면 정확한 건수)
+     */
+    public static boolean isTotalEstimated(Page<?> page) {
+        return page instanceof SearchPage<?> searchPage && searchPage.isTotalEstimated();
+    }
+}
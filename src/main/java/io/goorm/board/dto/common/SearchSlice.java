@@ -0,0 +1,29 @@
+package io.goorm.board.dto.common;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * COUNT 없는 목록 결과(Slice) 변환
+ * 목록 쿼리는 BaseSearchConditionDto.getFetchSize(페이지 크기 + 1)만큼 조회하고,
+ * 초과분이 있으면 다음 페이지가 있는 것으로 판단한 뒤 페이지 크기로 잘라 변환
+ */
+public final class SearchSlice {
+
+    private SearchSlice() {
+    }
+
+    public static <T, R> Slice<R> of(List<T> rows, BaseSearchConditionDto search, Function<T, R> converter) {
+        boolean hasNext = rows.size() > search.getSize();
+        List<R> content = rows.stream()
+                .limit(search.getSize())
+                .map(converter)
+                .toList();
+
+        return new SliceImpl<>(content, PageRequest.ofSize(Math.max(1, search.getSize())), hasNext);
+    }
+}
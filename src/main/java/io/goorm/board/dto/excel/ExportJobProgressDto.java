@@ -0,0 +1,45 @@
+package io.goorm.board.dto.excel;
+
+import io.goorm.board.enums.ExportJobStatus;
+import io.goorm.board.service.excel.ExportJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 내보내기 작업 진행 상태 DTO (폴링 응답)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExportJobProgressDto {
+
+    private String jobId;
+    private String exportName;
+    private String format;
+    private ExportJobStatus status;
+    private String statusName;
+    private boolean finished;
+    private boolean downloadable;
+    private long fileSize;
+    private String errorMessage;
+
+    /**
+     * 작업 -> DTO 변환
+     */
+    public static ExportJobProgressDto from(ExportJob job) {
+        return ExportJobProgressDto.builder()
+                .jobId(job.getJobId())
+                .exportName(job.getExportName())
+                .format(job.getFormat().name())
+                .status(job.getStatus())
+                .statusName(job.getStatus().getDisplayName())
+                .finished(job.getStatus().isFinished())
+                .downloadable(job.isDownloadable())
+                .fileSize(job.getFileSize())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
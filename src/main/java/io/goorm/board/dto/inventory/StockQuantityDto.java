@@ -0,0 +1,19 @@
+package io.goorm.board.dto.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 재고 수량 DTO (일괄 예약/소모/입고용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockQuantityDto {
+
+    private Long productSeq;
+    private Integer quantity;
+}
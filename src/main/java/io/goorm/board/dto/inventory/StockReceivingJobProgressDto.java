@@ -0,0 +1,56 @@
+package io.goorm.board.dto.inventory;
+
+import io.goorm.board.entity.StockReceivingJob;
+import io.goorm.board.entity.StockReceivingJobError;
+import io.goorm.board.enums.ReceivingJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 엑셀 입고 작업 진행률 DTO (폴링 응답)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReceivingJobProgressDto {
+
+    private Long jobSeq;
+    private ReceivingJobStatus status;
+    private String statusName;
+    private boolean finished;
+    private Integer totalRows;
+    private int processedRows;
+    private int successCount;
+    private int failureCount;
+    private int progressPercent;
+    private String errorMessage;
+
+    // 행별 오류 (엑셀 행 순서, 최대 표시 건수까지)
+    private List<String> rowErrors;
+
+    /**
+     * Entity -> DTO 변환
+     */
+    public static StockReceivingJobProgressDto from(StockReceivingJob job, List<StockReceivingJobError> errors) {
+        return StockReceivingJobProgressDto.builder()
+                .jobSeq(job.getJobSeq())
+                .status(job.getStatus())
+                .statusName(job.getStatus().getDisplayName())
+                .finished(job.getStatus().isFinished())
+                .totalRows(job.getTotalRows())
+                .processedRows(job.getProcessedRows())
+                .successCount(job.getSuccessCount())
+                .failureCount(job.getFailureCount())
+                .progressPercent(job.getProgressPercent())
+                .errorMessage(job.getErrorMessage())
+                .rowErrors(errors.stream()
+                        .map(error -> String.format("%d행: %s", error.getExcelRowNum(), error.getMessage()))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package io.goorm.board.dto.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 부족 상품 정보 DTO (일괄 예약 실패 리포트용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockShortageDto {
+
+    private Long productSeq;
+    private String productName;
+    private int requestedQuantity;
+    private int availableQuantity;
+
+    @Override
+    public String toString() {
+        return String.format("%s(요청 %d / 가용 %d)", productName, requestedQuantity, availableQuantity);
+    }
+}
@@ -0,0 +1,39 @@
+package io.goorm.board.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 배송완료 처리 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeliveryCompletionResultDto {
+
+    @Builder.Default
+    private List<String> completedOrderNumbers = new ArrayList<>();  // 처리 성공 발주번호
+
+    @Builder.Default
+    private Map<Long, String> failures = new LinkedHashMap<>();       // 처리 실패 (발주ID → 사유)
+
+    public int getCompletedCount() {
+        return completedOrderNumbers.size();
+    }
+
+    public int getFailedCount() {
+        return failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
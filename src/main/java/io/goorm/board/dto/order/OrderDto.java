@@ -65,6 +65,7 @@ public class OrderDto {
         return OrderDto.builder()
                 .orderSeq(order.getOrderSeq())
                 .companySeq(order.getCompanySeq())
+                .userSeq(order.getUserSeq())
                 .orderNumber(order.getOrderNumber())
                 .orderDate(order.getOrderDate())
                 .status(order.getStatus())
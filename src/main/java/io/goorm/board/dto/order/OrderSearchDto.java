@@ -11,6 +11,7 @@ import lombok.experimental.SuperBuilder;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * 발주 검색 DTO
@@ -33,6 +34,32 @@ public class OrderSearchDto extends BaseSearchConditionDto {
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate endDate;
 
+    // 키셋 페이징 커서 (직전 페이지 마지막 행의 주문일시/주문번호)
+    @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime cursorOrderDate;
+    private Long cursorOrderSeq;
+
+    /**
+     * 시작일시 반환 (해당일 00:00, 포함)
+     */
+    public LocalDateTime getStartDateTime() {
+        return startDate != null ? startDate.atStartOfDay() : null;
+    }
+
+    /**
+     * 종료일시 반환 (종료일 다음날 00:00, 미포함 - 반열린 구간으로 인덱스 사용)
+     */
+    public LocalDateTime getEndDateTimeExclusive() {
+        return endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+    }
+
+    /**
+     * 커서 존재 여부 (첫 페이지가 아닌지 확인)
+     */
+    public boolean hasCursor() {
+        return cursorOrderDate != null && cursorOrderSeq != null;
+    }
+
     @Override
     public boolean isEmpty() {
         return orderNumber == null || orderNumber.trim().isEmpty()
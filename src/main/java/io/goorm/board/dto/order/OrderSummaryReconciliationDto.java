@@ -0,0 +1,58 @@
+package io.goorm.board.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 월별 발주 집계 재집계 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSummaryReconciliationDto {
+
+    private int orderMonthCount;     // 발주 기준 회사/월 수
+    private int summaryRowCount;     // 기존 집계 행 수
+    private boolean applied;         // 재집계 결과 반영 여부
+
+    @Builder.Default
+    private List<Drift> drifts = new ArrayList<>();
+
+    public int getDriftCount() {
+        return drifts.size();
+    }
+
+    /**
+     * 집계 불일치 유형
+     */
+    public enum DriftType {
+        MISSING,       // 발주는 있으나 집계 행 없음
+        MISMATCH,      // 카운터 값 불일치
+        SUMMARY_ONLY   // 집계 행만 있음 (이관된 과거 집계 등, 반영 시에도 유지)
+    }
+
+    /**
+     * 회사/월별 불일치 내역 (expected: 발주 기준, actual: 집계 테이블)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Drift {
+        private Long companySeq;
+        private String summaryYear;
+        private String summaryMonth;
+        private DriftType type;
+        private Integer expectedOrderCount;
+        private Integer actualOrderCount;
+        private BigDecimal expectedFinalAmount;
+        private BigDecimal actualFinalAmount;
+    }
+}
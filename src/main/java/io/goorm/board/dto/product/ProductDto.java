@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
  * 상품 정보 전송용 DTO
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductDto {
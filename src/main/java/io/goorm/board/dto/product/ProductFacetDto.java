@@ -0,0 +1,63 @@
+package io.goorm.board.dto.product;
+
+import io.goorm.board.enums.ProductPriceRange;
+import io.goorm.board.enums.ProductStatus;
+import io.goorm.board.enums.ProductUnit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상품 목록 패싯 건수 DTO
+ * 각 패싯의 건수는 자신을 뺀 나머지 검색 조건을 적용한 결과 기준
+ * (예: 카테고리를 선택해도 다른 카테고리로 바꿨을 때의 건수를 함께 보여줌)
+ * 건수가 0인 값은 포함하지 않음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductFacetDto {
+
+    private int total;    // 전체 검색 조건 결과 수
+
+    @Builder.Default
+    private Map<Long, Integer> categories = new HashMap<>();
+
+    @Builder.Default
+    private Map<Long, Integer> suppliers = new HashMap<>();
+
+    @Builder.Default
+    private Map<ProductStatus, Integer> statuses = new EnumMap<>(ProductStatus.class);
+
+    @Builder.Default
+    private Map<ProductUnit, Integer> units = new EnumMap<>(ProductUnit.class);
+
+    @Builder.Default
+    private Map<ProductPriceRange, Integer> priceRanges = new EnumMap<>(ProductPriceRange.class);
+
+    public int getCategoryCount(Long categorySeq) {
+        return categories.getOrDefault(categorySeq, 0);
+    }
+
+    public int getSupplierCount(Long supplierSeq) {
+        return suppliers.getOrDefault(supplierSeq, 0);
+    }
+
+    public int getStatusCount(ProductStatus status) {
+        return statuses.getOrDefault(status, 0);
+    }
+
+    public int getUnitCount(ProductUnit unit) {
+        return units.getOrDefault(unit, 0);
+    }
+
+    public int getPriceRangeCount(ProductPriceRange priceRange) {
+        return priceRanges.getOrDefault(priceRange, 0);
+    }
+}
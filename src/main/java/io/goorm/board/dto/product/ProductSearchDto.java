@@ -41,6 +41,13 @@ public class ProductSearchDto extends BaseSearchConditionDto {
                hasImage == null;
     }
 
+    @Override
+    public void normalizeForExport() {
+        super.normalizeForExport();
+        name = blankToNull(name);
+        code = blankToNull(code);
+    }
+
     /**
      * 이름 검색 여부
      */
@@ -55,6 +62,20 @@ public class ProductSearchDto extends BaseSearchConditionDto {
         return code != null && !code.trim().isEmpty();
     }
 
+    /**
+     * 이름 LIKE 검색값 (%, _ 이스케이프)
+     */
+    public String getNameLike() {
+        return escapeLike(name);
+    }
+
+    /**
+     * 코드 LIKE 검색값 (%, _ 이스케이프)
+     */
+    public String getCodeLike() {
+        return escapeLike(code);
+    }
+
     /**
      * 카테고리 검색 여부
      */
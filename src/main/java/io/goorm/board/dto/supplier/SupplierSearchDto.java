@@ -35,6 +35,12 @@ public class SupplierSearchDto extends BaseSearchConditionDto {
         return status != null;
     }
 
+    @Override
+    public void normalizeForExport() {
+        super.normalizeForExport();
+        email = blankToNull(email);
+    }
+
     @Override
     public boolean isEmpty() {
         return !hasKeyword() && !hasEmail() && !hasStatus();
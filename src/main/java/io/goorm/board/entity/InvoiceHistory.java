@@ -19,10 +19,11 @@ public class InvoiceHistory {
     private Long printSeq;              // 출력 시퀀스
     private Long orderSeq;              // 주문 시퀀스
     private String invoiceId;           // 인보이스 ID (INV-20251224-001)
-    private LocalDateTime printedAt;    // 출력일시
-    private Long printedBySeq;          // 출력자 시퀀스
-    private String printedBy;           // 출력자명
-    private Integer printCount;         // 출력 횟수
+    private String contentHash;         // 출력한 PDF 콘텐츠 해시 (확정 인보이스만)
+    private LocalDateTime printedAt;    // 마지막 출력일시
+    private Long printedBySeq;          // 마지막 출력자 시퀀스
+    private String printedBy;           // 마지막 출력자명
+    private Integer printCount;         // 누적 출력 횟수
     private LocalDateTime createdAt;    // 생성일시
 
     // 조인 필드 (필요시)
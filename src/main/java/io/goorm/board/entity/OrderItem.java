@@ -28,6 +28,7 @@ public class OrderItem {
     private String productName;
     private String productCode;
     private String categoryName;
+    private Long categorySeq;
 
     /**
      * 라인 총액 계산 (단가 × 수량)
@@ -0,0 +1,51 @@
+package io.goorm.board.entity;
+
+import io.goorm.board.enums.ReceivingJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엑셀 입고 작업 엔티티
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReceivingJob {
+    private Long jobSeq;                // 입고 작업 시퀀스
+    private Long supplierSeq;           // 공급업체 시퀀스
+    private String excelFilename;       // 엑셀 파일명
+    private String excelFilepath;       // 엑셀 파일 전체 경로
+    private ReceivingJobStatus status;  // 작업 상태
+    private Integer totalRows;          // 전체 데이터 행 수
+    private Integer processedRows;      // 커밋된 처리 행 수
+    private Integer successCount;       // 성공 행 수
+    private Integer failureCount;       // 실패 행 수
+    private Integer lastExcelRowNum;    // 마지막으로 커밋된 엑셀 행 번호 (재개 지점)
+    private String errorMessage;        // 작업 실패 사유
+    private Long requestedBySeq;        // 요청자 시퀀스
+    private LocalDateTime startedAt;    // 처리 시작 일시
+    private LocalDateTime finishedAt;   // 처리 종료 일시
+    private LocalDateTime createdAt;    // 생성 일시
+    private LocalDateTime updatedAt;    // 수정 일시
+
+    // 조인을 위한 추가 필드 (조회 시에만 사용)
+    private String supplierName;        // 공급업체명 (suppliers 테이블)
+
+    /**
+     * 진행률 (0~100)
+     */
+    public int getProgressPercent() {
+        if (status == ReceivingJobStatus.COMPLETED) {
+            return 100;
+        }
+        if (totalRows == null || totalRows == 0 || processedRows == null) {
+            return 0;
+        }
+        return Math.min(100, processedRows * 100 / totalRows);
+    }
+}
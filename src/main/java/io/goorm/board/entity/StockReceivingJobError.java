@@ -0,0 +1,23 @@
+package io.goorm.board.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엑셀 입고 작업 행별 오류 엔티티
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReceivingJobError {
+    private Long errorSeq;              // 오류 시퀀스
+    private Long jobSeq;                // 입고 작업 시퀀스
+    private Integer excelRowNum;        // 엑셀 내 행 번호
+    private String message;             // 오류 사유
+    private LocalDateTime createdAt;    // 생성 일시
+}
@@ -0,0 +1,31 @@
+package io.goorm.board.enums;
+
+/**
+ * 목록 내보내기 작업 상태
+ */
+public enum ExportJobStatus {
+    PENDING("대기", "작업 등록 후 워커 대기"),
+    RUNNING("생성중", "파일 생성 중"),
+    COMPLETED("완료", "파일 생성 완료, 캐시 만료 전까지 다운로드 가능"),
+    FAILED("실패", "파일 생성 실패");
+
+    private final String displayName;
+    private final String description;
+
+    ExportJobStatus(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
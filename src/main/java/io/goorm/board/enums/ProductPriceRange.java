@@ -0,0 +1,48 @@
+package io.goorm.board.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 판매가 구간 Enum (상품 목록 가격 패싯)
+ * 하한은 포함, 상한은 미포함
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProductPriceRange {
+    UNDER_10K(null, new BigDecimal("10000"), "1만원 미만"),
+    FROM_10K_TO_50K(new BigDecimal("10000"), new BigDecimal("50000"), "1만~5만원"),
+    FROM_50K_TO_100K(new BigDecimal("50000"), new BigDecimal("100000"), "5만~10만원"),
+    FROM_100K_TO_500K(new BigDecimal("100000"), new BigDecimal("500000"), "10만~50만원"),
+    FROM_500K_TO_1M(new BigDecimal("500000"), new BigDecimal("1000000"), "50만~100만원"),
+    OVER_1M(new BigDecimal("1000000"), null, "100만원 이상");
+
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final String displayName;
+
+    /**
+     * 판매가가 속한 구간 (판매가가 없으면 null)
+     */
+    public static ProductPriceRange of(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+        for (ProductPriceRange range : values()) {
+            if (range.contains(price)) {
+                return range;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 구간 포함 여부
+     */
+    public boolean contains(BigDecimal price) {
+        return (minPrice == null || price.compareTo(minPrice) >= 0)
+                && (maxPrice == null || price.compareTo(maxPrice) < 0);
+    }
+}
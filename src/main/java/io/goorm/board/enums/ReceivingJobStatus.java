@@ -0,0 +1,31 @@
+package io.goorm.board.enums;
+
+/**
+ * 엑셀 입고 작업 상태
+ */
+public enum ReceivingJobStatus {
+    PENDING("대기", "작업 등록 후 처리 대기"),
+    RUNNING("처리중", "청크 단위로 입고 처리 중"),
+    COMPLETED("완료", "모든 행 처리 완료"),
+    FAILED("실패", "파일 오류 등으로 작업 중단");
+
+    private final String displayName;
+    private final String description;
+
+    ReceivingJobStatus(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
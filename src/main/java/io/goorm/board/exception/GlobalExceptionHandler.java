@@ -1,6 +1,7 @@
 package io.goorm.board.exception;
 
 import io.goorm.board.exception.excel.ExcelExportException;
+import io.goorm.board.exception.excel.ExcelExportRejectedException;
 import io.goorm.board.exception.supplier.SupplierNotFoundException;
 import io.goorm.board.exception.supplier.SupplierValidationException;
 import io.goorm.board.exception.supplier.SupplierDuplicateException;
@@ -169,6 +170,18 @@ public class GlobalExceptionHandler {
                 .body(e.getMessage());
     }
 
+    /**
+     * 내보내기 대기열 초과 처리
+     * 워커와 대기열이 모두 찬 경우 잠시 후 재시도하도록 503 반환
+     */
+    @ExceptionHandler(ExcelExportRejectedException.class)
+    public ResponseEntity<String> handleExcelExportRejectedException(ExcelExportRejectedException e) {
+        log.warn("Excel export rejected: {}", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(e.getMessage());
+    }
+
     /**
      * SupplierNotFoundException 처리
      * 공급업체를 찾을 수 없을 때 404 페이지로 이동
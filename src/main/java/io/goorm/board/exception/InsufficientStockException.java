@@ -1,20 +1,44 @@
 package io.goorm.board.exception;
 
+import io.goorm.board.dto.inventory.StockShortageDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * 재고 부족 예외
  */
 public class InsufficientStockException extends RuntimeException {
 
+    private final List<StockShortageDto> shortages;
+
     public InsufficientStockException(String message) {
         super(message);
+        this.shortages = List.of();
     }
 
     public InsufficientStockException(String message, Throwable cause) {
         super(message, cause);
+        this.shortages = List.of();
     }
 
     public InsufficientStockException(String productName, int requestedQuantity, int availableQuantity) {
         super(String.format("재고가 부족합니다. 상품: %s, 요청수량: %d, 가용재고: %d",
                 productName, requestedQuantity, availableQuantity));
+        this.shortages = List.of(new StockShortageDto(null, productName, requestedQuantity, availableQuantity));
+    }
+
+    /**
+     * 일괄 예약 실패 시 부족한 상품 전체를 담아 생성
+     */
+    public InsufficientStockException(List<StockShortageDto> shortages) {
+        super(String.format("재고가 부족합니다. %s", shortages.stream()
+                .map(StockShortageDto::toString)
+                .collect(Collectors.joining(", "))));
+        this.shortages = List.copyOf(shortages);
+    }
+
+    public List<StockShortageDto> getShortages() {
+        return shortages;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package io.goorm.board.exception.excel;
+
+/**
+ * 내보내기 작업 대기열 초과 예외
+ */
+public class ExcelExportRejectedException extends ExcelExportException {
+
+    public ExcelExportRejectedException(String message, Throwable cause) {
+        super("EXCEL_EXPORT_REJECTED", message, cause);
+    }
+}
@@ -4,6 +4,7 @@ import io.goorm.board.dto.category.CategoryDto;
 import io.goorm.board.dto.category.CategorySearchDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -64,7 +65,7 @@ public interface CategoryMapper {
     Integer findMaxSortOrder();
 
     /**
-     * Excel용 전체 카테고리 조회
+     * Excel용 전체 카테고리 스트리밍 조회 (Cursor - 트랜잭션 안에서 순회 후 닫아야 함)
      */
-    List<CategoryDto> findAllForExcel(@Param("search") CategorySearchDto searchDto);
-}
\ No newline at end of file
+    Cursor<CategoryDto> streamAllForExcel(@Param("search") CategorySearchDto searchDto);
+}
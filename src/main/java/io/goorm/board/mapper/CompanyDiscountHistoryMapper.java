@@ -20,6 +20,16 @@ public interface CompanyDiscountHistoryMapper {
      */
     int insert(CompanyDiscountHistory history);
 
+    /**
+     * 할인율 이력 일괄 등록 (회사/적용 연도 행이 이미 있으면 기존 값 유지)
+     */
+    int insertBatchIfAbsent(@Param("histories") List<CompanyDiscountHistory> histories);
+
+    /**
+     * 적용 연도의 전체 회사 할인율 조회
+     */
+    List<CompanyDiscountHistory> findByApplyYear(@Param("applyYear") String applyYear);
+
     /**
      * 회사별 현재 할인율 조회
      */
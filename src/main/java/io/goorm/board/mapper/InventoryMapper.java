@@ -1,5 +1,6 @@
 package io.goorm.board.mapper;
 
+import io.goorm.board.dto.inventory.StockQuantityDto;
 import io.goorm.board.entity.Inventory;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -62,6 +63,16 @@ public interface InventoryMapper {
     int reserveStock(@Param("productSeq") Long productSeq,
                     @Param("quantity") Integer quantity);
 
+    /**
+     * 여러 상품의 재고 행 잠금 조회 (product_seq 순서로 잠가 데드락 방지)
+     */
+    List<Inventory> lockByProductSeqs(@Param("productSeqs") List<Long> productSeqs);
+
+    /**
+     * 재고 일괄 예약 (단일 UPDATE)
+     */
+    int reserveStocks(@Param("items") List<StockQuantityDto> items);
+
     /**
      * 재고 예약 해제 (주문 취소 시)
      */
@@ -74,6 +85,11 @@ public interface InventoryMapper {
     int consumeStock(@Param("productSeq") Long productSeq,
                     @Param("quantity") Integer quantity);
 
+    /**
+     * 재고 일괄 소모 처리 (배송 완료 시, 단일 UPDATE)
+     */
+    int consumeStocks(@Param("items") List<StockQuantityDto> items);
+
     /**
      * 재고 차감 (주문 승인 시)
      */
@@ -86,6 +102,11 @@ public interface InventoryMapper {
     int increaseStock(@Param("productSeq") Long productSeq,
                      @Param("quantity") Integer quantity);
 
+    /**
+     * 입고 재고 일괄 반영 (없으면 생성, 있으면 current_stock 증가 - uk_inventory_product_location 기준)
+     */
+    int upsertReceivedStocks(@Param("items") List<StockQuantityDto> items);
+
     /**
      * 신규 재고 생성
      */
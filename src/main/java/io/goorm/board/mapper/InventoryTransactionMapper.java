@@ -20,6 +20,11 @@ public interface InventoryTransactionMapper {
      */
     int insert(InventoryTransaction inventoryTransaction);
 
+    /**
+     * 거래 이력 일괄 등록 (다중 행 INSERT)
+     */
+    int insertBatch(@Param("transactions") List<InventoryTransaction> transactions);
+
     /**
      * 거래 이력 조회 (상세)
      */
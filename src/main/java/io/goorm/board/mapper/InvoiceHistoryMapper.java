@@ -17,6 +17,16 @@ public interface InvoiceHistoryMapper {
      */
     int insert(InvoiceHistory invoiceHistory);
 
+    /**
+     * 인보이스 출력 기록 (주문/인보이스당 한 행, 재출력 시 출력 횟수 증가 및 마지막 출력자 갱신)
+     */
+    int upsertPrint(InvoiceHistory invoiceHistory);
+
+    /**
+     * 인보이스 출력 일괄 기록 (upsertPrint와 같은 규칙, 다중 행 한 문장)
+     */
+    int upsertPrintBatch(@Param("histories") List<InvoiceHistory> histories);
+
     /**
      * 주문별 인보이스 출력 이력 조회
      */
@@ -28,4 +28,9 @@ public interface OrderItemMapper {
      */
     List<OrderItem> findByOrderSeq(Long orderSeq);
 
+    /**
+     * 여러 발주의 상품 목록 일괄 조회
+     */
+    List<OrderItem> findByOrderSeqs(@Param("orderSeqs") List<Long> orderSeqs);
+
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import io.goorm.board.entity.Order;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,11 @@ public interface OrderMapper {
      */
     int updateDeliveryComplete(Order order);
 
+    /**
+     * 배송완료 + 인보이스 발행 일괄 처리 (완료 정보는 template 기준으로 동일 적용)
+     */
+    int updateDeliveryCompleteBatch(@Param("orderSeqs") List<Long> orderSeqs, @Param("template") Order template);
+
     /**
      * 입금완료 처리
      */
@@ -35,13 +41,18 @@ public interface OrderMapper {
      */
     Optional<Order> findById(Long orderSeq);
 
+    /**
+     * 여러 발주 잠금 조회 (order_seq 순서로 잠금, 조인 없음)
+     */
+    List<Order> lockByIds(@Param("orderSeqs") List<Long> orderSeqs);
+
     /**
      * 발주 조회 (발주번호)
      */
     Optional<Order> findByOrderNumber(String orderNumber);
 
     /**
-     * 발주 목록 조회 (검색 조건)
+     * 발주 목록 조회 (검색 조건, 키셋 페이징 - size + 1건 조회)
      */
     List<Order> findAll(OrderSearchDto searchDto);
 
@@ -51,10 +62,15 @@ public interface OrderMapper {
     long countAll(OrderSearchDto searchDto);
 
     /**
-     * 회사별 발주 목록 조회
+     * 회사별 발주 목록 조회 (키셋 페이징 - size + 1건 조회)
      */
     List<Order> findByCompanySeq(@Param("companySeq") Long companySeq, @Param("searchDto") OrderSearchDto searchDto);
 
+    /**
+     * 회사별 최근 발주 목록 (대시보드용)
+     */
+    List<Order> findRecentByCompanySeq(@Param("companySeq") Long companySeq, @Param("limit") int limit);
+
     /**
      * 회사별 발주 총 개수
      */
@@ -66,8 +82,13 @@ public interface OrderMapper {
     List<Order> findPendingOrders();
 
     /**
-     * 발주번호 생성을 위한 당일 최대 시퀀스 조회
+     * 인보이스 확정 발주 목록 (입금예정일 기간, 회사는 선택)
+     * 발주 순서 키셋 페이지 - afterOrderSeq 다음부터 limit건 (afterOrderSeq가 null이면 처음부터)
      */
-    Integer findMaxDailySequence(String datePrefix);
+    List<Order> findInvoicedByPaymentDueDate(@Param("dueDateFrom") LocalDate dueDateFrom,
+                                             @Param("dueDateTo") LocalDate dueDateTo,
+                                             @Param("companySeq") Long companySeq,
+                                             @Param("afterOrderSeq") Long afterOrderSeq,
+                                             @Param("limit") int limit);
 
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package io.goorm.board.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 발주번호 일자별 시퀀스 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface OrderNumberSequenceMapper {
+
+    /**
+     * 일자별 시퀀스 블록 증가 (없으면 생성)
+     */
+    int increaseBy(@Param("sequenceDate") String sequenceDate, @Param("blockSize") int blockSize);
+
+    /**
+     * 일자별 마지막 할당 시퀀스 조회
+     */
+    Integer findLastValue(@Param("sequenceDate") String sequenceDate);
+}
@@ -23,11 +23,36 @@ public interface OrderSummaryMonthlyMapper {
      */
     int update(OrderSummaryMonthly summary);
 
+    /**
+     * 월별 집계 증감 반영 (uk_company_year_month 기준, 없으면 생성하고 있으면 카운터에 더함)
+     */
+    int upsertDelta(OrderSummaryMonthly delta);
+
+    /**
+     * 월별 집계 일괄 덮어쓰기 (재집계 결과 반영)
+     */
+    int upsertBatch(@Param("summaries") List<OrderSummaryMonthly> summaries);
+
+    /**
+     * 발주 테이블에서 회사/연/월별 집계를 다시 계산 (GROUP BY 한 번)
+     */
+    List<OrderSummaryMonthly> aggregateFromOrders();
+
+    /**
+     * 전체 연도 월별 집계 조회 (재집계 비교용)
+     */
+    List<OrderSummaryMonthly> findAllYears();
+
     /**
      * 회사별 전년도 총 발주액 조회
      */
     BigDecimal findPreviousYearTotalAmount(@Param("companySeq") Long companySeq, @Param("year") String year);
 
+    /**
+     * 전체 회사의 연간 발주 합계 (발주가 없는 회사는 0, 한 번의 집계 쿼리)
+     */
+    List<OrderSummaryMonthly> findYearTotalsByCompany(@Param("year") String year);
+
     /**
      * 회사별 월별 집계 조회
      */
@@ -5,6 +5,7 @@ import io.goorm.board.dto.product.ProductSearchDto;
 import io.goorm.board.entity.Product;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,11 +35,21 @@ public interface ProductMapper {
      */
     Optional<Product> findById(@Param("productSeq") Long productSeq);
 
+    /**
+     * 여러 상품 일괄 조회 (Entity)
+     */
+    List<Product> findByIds(@Param("productSeqs") List<Long> productSeqs);
+
     /**
      * 상품 코드로 조회 (Entity)
      */
     Optional<Product> findByCode(@Param("code") String code);
 
+    /**
+     * 상품 코드 목록으로 일괄 조회 (Entity)
+     */
+    List<Product> findByCodes(@Param("codes") List<String> codes);
+
     /**
      * 상품 단건 조회 (DTO)
      */
@@ -84,6 +95,11 @@ public interface ProductMapper {
      */
     List<ProductDto> findSellableProducts();
 
+    /**
+     * 판매 가능한 상품의 본창고 가용 재고 조회 (productSeq, stock만 채움)
+     */
+    List<ProductDto> findSellableStocks();
+
     /**
      * 최근 등록된 상품 목록 조회
      */
@@ -94,4 +110,24 @@ public interface ProductMapper {
      */
     Optional<Product> findByNameAndCategory(@Param("productName") String productName,
                                           @Param("categoryName") String categoryName);
-}
\ No newline at end of file
+
+    /**
+     * Excel용 전체 상품 스트리밍 조회 (Cursor - 트랜잭션 안에서 순회 후 닫아야 함)
+     */
+    Cursor<ProductDto> streamAllForExcel(@Param("search") ProductSearchDto searchDto);
+
+    /**
+     * 검색 인덱스 적재용 전체 상품 스트리밍 조회 (Cursor - 트랜잭션 안에서 순회 후 닫아야 함)
+     */
+    Cursor<Product> streamAllForSearchIndex();
+
+    /**
+     * 상품 코드 필터 적재용 전체 코드 스트리밍 조회 (Cursor - 트랜잭션 안에서 순회 후 닫아야 함)
+     */
+    Cursor<String> streamAllCodes();
+
+    /**
+     * 상품 번호 목록으로 DTO 조회 (순서는 보장하지 않음, 검색 인덱스 결과 페이지 조회용)
+     */
+    List<ProductDto> findDtosByIds(@Param("productSeqs") List<Long> productSeqs);
+}
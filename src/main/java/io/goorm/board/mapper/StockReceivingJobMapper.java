@@ -0,0 +1,64 @@
+package io.goorm.board.mapper;
+
+import io.goorm.board.entity.StockReceivingJob;
+import io.goorm.board.entity.StockReceivingJobError;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 엑셀 입고 작업 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface StockReceivingJobMapper {
+
+    /**
+     * 작업 등록 (PENDING)
+     */
+    int insert(StockReceivingJob job);
+
+    /**
+     * 작업 조회 (공급업체명 포함)
+     */
+    Optional<StockReceivingJob> findById(@Param("jobSeq") Long jobSeq);
+
+    /**
+     * 완료되지 않은 작업 목록 (재시작 시 재개 대상)
+     */
+    List<StockReceivingJob> findUnfinished();
+
+    /**
+     * 처리 시작 표시 (PENDING/RUNNING 상태일 때만)
+     */
+    int markRunning(@Param("jobSeq") Long jobSeq, @Param("totalRows") int totalRows);
+
+    /**
+     * 청크 커밋 결과 반영 (청크와 같은 트랜잭션에서 호출)
+     */
+    int updateProgress(@Param("jobSeq") Long jobSeq,
+                       @Param("successCount") int successCount,
+                       @Param("failureCount") int failureCount,
+                       @Param("lastExcelRowNum") int lastExcelRowNum);
+
+    /**
+     * 작업 완료 표시
+     */
+    int markCompleted(@Param("jobSeq") Long jobSeq);
+
+    /**
+     * 작업 실패 표시
+     */
+    int markFailed(@Param("jobSeq") Long jobSeq, @Param("errorMessage") String errorMessage);
+
+    /**
+     * 행별 오류 일괄 등록 (다중 행 INSERT)
+     */
+    int insertErrors(@Param("errors") List<StockReceivingJobError> errors);
+
+    /**
+     * 행별 오류 조회 (엑셀 행 순서)
+     */
+    List<StockReceivingJobError> findErrors(@Param("jobSeq") Long jobSeq, @Param("limit") int limit);
+}
@@ -4,6 +4,7 @@ import io.goorm.board.dto.supplier.SupplierDto;
 import io.goorm.board.dto.supplier.SupplierSearchDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -66,7 +67,7 @@ public interface SupplierMapper {
     int countByEmailAndNotSeq(@Param("email") String email, @Param("supplierSeq") Long supplierSeq);
 
     /**
-     * Excel용 전체 공급업체 조회
+     * Excel용 전체 공급업체 스트리밍 조회 (Cursor - 트랜잭션 안에서 순회 후 닫아야 함)
      */
-    List<SupplierDto> findAllForExcel(@Param("search") SupplierSearchDto searchDto);
-}
\ No newline at end of file
+    Cursor<SupplierDto> streamAllForExcel(@Param("search") SupplierSearchDto searchDto);
+}
@@ -1,11 +1,13 @@
 package io.goorm.board.service;
 
+import io.goorm.board.dto.common.SearchSlice;
 import io.goorm.board.dto.order.OrderDto;
 import io.goorm.board.dto.order.OrderSearchDto;
 import io.goorm.board.entity.Order;
 import io.goorm.board.exception.OrderNotFoundException;
 import io.goorm.board.mapper.OrderMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,10 +20,8 @@ public class AdminOrderService {
 
     private final OrderMapper orderMapper;
 
-    public List<OrderDto> findAll(OrderSearchDto searchDto) {
-        return orderMapper.findAll(searchDto).stream()
-                .map(this::convertToDto)
-                .toList();
+    public Slice<OrderDto> findAll(OrderSearchDto searchDto) {
+        return SearchSlice.of(orderMapper.findAll(searchDto), searchDto, this::convertToDto);
     }
 
     public long countAll(OrderSearchDto searchDto) {
@@ -4,8 +4,10 @@ import io.goorm.board.dto.category.CategoryCreateDto;
 import io.goorm.board.dto.category.CategoryDto;
 import io.goorm.board.dto.category.CategorySearchDto;
 import io.goorm.board.dto.category.CategoryUpdateDto;
+import io.goorm.board.service.excel.ExportFormat;
 import org.springframework.data.domain.Page;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -34,14 +36,19 @@ public interface CategoryService {
     Page<CategoryDto> findAll(CategorySearchDto searchDto);
 
     /**
-     * Excel 내보내기용 카테고리 목록 조회 (페이징 없음)
+     * 카테고리 목록 Excel 내보내기
      */
-    List<CategoryDto> findAllForExport(CategorySearchDto searchDto);
+    byte[] exportToExcel(CategorySearchDto searchDto);
 
     /**
-     * 카테고리 목록 Excel 내보내기
+     * 카테고리 목록 Excel 내보내기 (Cursor 기반 스트리밍, 출력 스트림에 바로 기록)
      */
-    byte[] exportToExcel(CategorySearchDto searchDto);
+    void exportToExcel(CategorySearchDto searchDto, OutputStream outputStream);
+
+    /**
+     * 카테고리 목록 내보내기 (XLSX/CSV/Arrow, 출력 스트림에 바로 기록)
+     */
+    void export(CategorySearchDto searchDto, ExportFormat format, OutputStream outputStream);
 
     /**
      * 활성 카테고리 목록 조회
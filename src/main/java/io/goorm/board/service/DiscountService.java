@@ -1,39 +1,81 @@
 package io.goorm.board.service;
 
+import io.goorm.board.entity.CompanyDiscountHistory;
+import io.goorm.board.entity.OrderSummaryMonthly;
+import io.goorm.board.mapper.CompanyDiscountHistoryMapper;
 import io.goorm.board.mapper.OrderMapper;
 import io.goorm.board.mapper.OrderSummaryMonthlyMapper;
+import io.goorm.board.service.discount.CompanyDiscountRate;
 import io.goorm.board.service.discount.DiscountCalculator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 회사별 할인율 서비스
+ * 할인율은 전년도 구매액으로 연 1회 정해지므로 적용 연도의 회사별 할인율을 메모리에 보관하고,
+ * 매년 1월 1일 갱신 작업이 전체 회사 할인율을 company_discount_history에 저장한 뒤 캐시를 교체
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DiscountService {
 
+    private static final String ROLLOVER_CREATED_BY = "system";
+
     private final OrderMapper orderMapper;
     private final OrderSummaryMonthlyMapper summaryMapper;
     private final DiscountCalculator discountCalculator;
+    private final CompanyDiscountHistoryMapper discountHistoryMapper;
+
+    // 적용 연도의 회사별 할인율 (연도가 바뀌면 통째로 교체)
+    private volatile DiscountRateSnapshot snapshot = DiscountRateSnapshot.EMPTY;
 
     /**
-     * 회사별 현재 적용 할인율 계산 (전년도 구매액 기준)
+     * 회사별 현재 적용 할인율 (전년도 구매액 기준)
+     * 캐시 적중 시 DB를 사용하지 않도록 트랜잭션(커넥션)도 시작하지 않음
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BigDecimal calculateDiscountRate(Long companySeq) {
-        // 전년도 구매액을 기준으로 할인율 계산
-        String lastYear = String.valueOf(LocalDate.now().getYear() - 1);
-        BigDecimal previousYearAmount = getPreviousYearAmount(companySeq, lastYear);
+        return getCompanyDiscount(companySeq).getDiscountRate();
+    }
 
-        DiscountCalculator.DiscountGrade grade = discountCalculator.evaluateDiscountGrade(previousYearAmount);
-        return discountCalculator.getRecommendedDiscountRate(grade);
+    /**
+     * 회사별 현재 할인 정보 (연도/등급/할인율)
+     * 올해 할인율 이력이 없는 회사(연중 신규 회사 등)는 전년도 집계로 계산해 캐시에만 보관
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CompanyDiscountRate getCompanyDiscount(Long companySeq) {
+        int applyYear = LocalDate.now().getYear();
+        Map<Long, CompanyDiscountRate> rates = currentRates(applyYear);
+
+        CompanyDiscountRate cached = rates.get(companySeq);
+        if (cached != null) {
+            return cached;
+        }
+
+        BigDecimal previousYearAmount = getPreviousYearAmount(companySeq, String.valueOf(applyYear - 1));
+        CompanyDiscountRate computed = toDiscountRate(companySeq, applyYear, previousYearAmount, null);
+        CompanyDiscountRate existing = rates.putIfAbsent(companySeq, computed);
+        return existing != null ? existing : computed;
     }
 
     /**
      * 주문 금액에 할인 적용
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BigDecimal applyDiscount(BigDecimal orderAmount, Long companySeq) {
         BigDecimal discountRate = calculateDiscountRate(companySeq);
         return discountCalculator.applyDiscount(orderAmount, discountRate);
@@ -42,6 +84,7 @@ public class DiscountService {
     /**
      * 최종 결제 금액 계산
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BigDecimal calculateFinalAmount(BigDecimal orderAmount, Long companySeq) {
         BigDecimal discountAmount = applyDiscount(orderAmount, companySeq);
         return discountCalculator.calculateFinalAmount(orderAmount, discountAmount);
@@ -69,4 +112,114 @@ public class DiscountService {
         DiscountCalculator.DiscountGrade grade = evaluateDiscountGrade(companySeq, year);
         return discountCalculator.getRecommendedDiscountRate(grade);
     }
-}
\ No newline at end of file
+
+    /**
+     * 할인율 연간 갱신 (매년 1월 1일)
+     * 전체 회사의 전년도 구매액을 한 번의 집계 쿼리로 구해 등급/할인율을 정하고 한 문장으로 저장
+     * 이미 등록된 회사/연도 행(관리자 지정 할인율 등)은 덮어쓰지 않으며, 저장 후 캐시를 새 연도로 교체
+     *
+     * @return 새로 등록된 할인율 이력 수
+     */
+    @Transactional
+    public int rolloverDiscountRates(int applyYear) {
+        String previousYear = String.valueOf(applyYear - 1);
+        List<OrderSummaryMonthly> totals = summaryMapper.findYearTotalsByCompany(previousYear);
+
+        List<CompanyDiscountHistory> histories = totals.stream()
+                .map(total -> {
+                    DiscountCalculator.DiscountGrade grade = discountCalculator.evaluateDiscountGrade(total.getFinalAmount());
+                    return CompanyDiscountHistory.builder()
+                            .companySeq(total.getCompanySeq())
+                            .applyYear(String.valueOf(applyYear))
+                            .previousYearAmount(total.getFinalAmount())
+                            .discountRate(discountCalculator.getRecommendedDiscountRate(grade))
+                            .effectiveFrom(LocalDate.of(applyYear, 1, 1))
+                            .effectiveTo(LocalDate.of(applyYear, 12, 31))
+                            .reason(previousYear + "년 구매액 기준 " + grade.getDisplayName() + " 등급 자동 산정")
+                            .createdBy(ROLLOVER_CREATED_BY)
+                            .build();
+                })
+                .toList();
+
+        int inserted = histories.isEmpty() ? 0 : discountHistoryMapper.insertBatchIfAbsent(histories);
+        snapshot = loadSnapshot(applyYear);
+
+        log.info("할인율 연간 갱신 완료 - 적용 연도: {}, 대상 회사: {}개, 캐시: {}개",
+                applyYear, histories.size(), snapshot.rates().size());
+        return inserted;
+    }
+
+    /**
+     * 매년 1월 1일 할인율 갱신 작업
+     */
+    @Scheduled(cron = "${app.discount.rollover-cron:0 5 0 1 1 *}")
+    @Transactional
+    public void scheduledRollover() {
+        rolloverDiscountRates(LocalDate.now().getYear());
+    }
+
+    /**
+     * 기동 시 올해 할인율 캐시 적재
+     * 갱신 작업이 실행되지 못해 올해 이력이 없으면 이 시점에 갱신
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warmUpDiscountRates() {
+        int applyYear = LocalDate.now().getYear();
+        try {
+            DiscountRateSnapshot loaded = loadSnapshot(applyYear);
+            if (loaded.rates().isEmpty()) {
+                rolloverDiscountRates(applyYear);
+            } else {
+                snapshot = loaded;
+                log.info("할인율 캐시 적재 - 적용 연도: {}, 회사: {}개", applyYear, loaded.rates().size());
+            }
+        } catch (Exception e) {
+            // 캐시가 비어 있어도 회사별로 계산해 채우므로 기동은 계속
+            log.warn("할인율 캐시 적재 실패 - 적용 연도: {}, Error: {}", applyYear, e.getMessage());
+        }
+    }
+
+    /**
+     * 적용 연도의 할인율 맵 (연도가 바뀌었는데 갱신 작업 전이면 이력에서 다시 적재)
+     */
+    private Map<Long, CompanyDiscountRate> currentRates(int applyYear) {
+        DiscountRateSnapshot current = snapshot;
+        if (current.year() == applyYear) {
+            return current.rates();
+        }
+
+        synchronized (this) {
+            if (snapshot.year() != applyYear) {
+                snapshot = loadSnapshot(applyYear);
+            }
+            return snapshot.rates();
+        }
+    }
+
+    private DiscountRateSnapshot loadSnapshot(int applyYear) {
+        Map<Long, CompanyDiscountRate> rates = new ConcurrentHashMap<>();
+        for (CompanyDiscountHistory history : discountHistoryMapper.findByApplyYear(String.valueOf(applyYear))) {
+            rates.put(history.getCompanySeq(), toDiscountRate(history.getCompanySeq(), applyYear,
+                    history.getPreviousYearAmount(), history.getDiscountRate()));
+        }
+        return new DiscountRateSnapshot(applyYear, rates);
+    }
+
+    /**
+     * 할인 정보 생성 (이력에 저장된 할인율이 있으면 그 값을, 없으면 등급 권장 할인율 사용)
+     */
+    private CompanyDiscountRate toDiscountRate(Long companySeq, int applyYear,
+                                               BigDecimal previousYearAmount, BigDecimal storedRate) {
+        DiscountCalculator.DiscountGrade grade = discountCalculator.evaluateDiscountGrade(previousYearAmount);
+        BigDecimal discountRate = storedRate != null ? storedRate : discountCalculator.getRecommendedDiscountRate(grade);
+        return new CompanyDiscountRate(companySeq, applyYear, grade, discountRate);
+    }
+
+    /**
+     * 연도별 할인율 캐시
+     */
+    private record DiscountRateSnapshot(int year, Map<Long, CompanyDiscountRate> rates) {
+        static final DiscountRateSnapshot EMPTY = new DiscountRateSnapshot(0, new ConcurrentHashMap<>());
+    }
+}
@@ -3,6 +3,7 @@ package io.goorm.board.service;
 import io.goorm.board.exception.excel.ExcelCreationException;
 import io.goorm.board.exception.excel.ExcelDataException;
 import io.goorm.board.exception.excel.ExcelFileNameException;
+import io.goorm.board.service.excel.ExportFormat;
 import io.goorm.board.util.ExcelUtil;
 import io.goorm.board.util.ExcelUtil.CellType;
 import lombok.RequiredArgsConstructor;
@@ -13,12 +14,15 @@ import org.springframework.web.servlet.LocaleResolver;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.function.Function;
 
 /**
  * 범용 Excel 내보내기 서비스
+ * 스트리밍 경로는 {@link ExportFormat}에 따라 XLSX 외에 CSV, Arrow 형식도 지원
  */
 @Slf4j
 @Service
@@ -86,6 +90,69 @@ public class ExcelExportService {
         }
     }
 
+    /**
+     * 데이터 스트림을 Excel로 내보내기 (SXSSF, 출력 스트림에 바로 기록)
+     * data는 MyBatis Cursor처럼 한 번만 순회 가능한 소스를 그대로 받아 행 단위로 소비함
+     *
+     * @param sheetName 시트명
+     * @param headers 헤더 배열
+     * @param data 데이터 스트림 (1회 순회)
+     * @param rowMapper 엔티티를 Object 배열로 변환하는 함수
+     * @param columnTypes 각 컬럼의 데이터 타입
+     * @param outputStream 출력 스트림 (응답 스트림 등, 닫지 않음)
+     * @param locale 로케일
+     * @param <T> 엔티티 타입
+     * @return 내보낸 데이터 행 수
+     */
+    public <T> int exportToExcelStream(String sheetName, String[] headers, Iterable<T> data,
+                                       Function<T, Object[]> rowMapper, CellType[] columnTypes,
+                                       OutputStream outputStream, Locale locale) {
+        return exportStream(ExportFormat.XLSX, sheetName, headers, data, rowMapper, columnTypes, outputStream, locale);
+    }
+
+    /**
+     * 데이터 스트림을 지정한 형식(XLSX/CSV/Arrow)으로 내보내기 (출력 스트림에 바로 기록)
+     * 헤더/rowMapper/컬럼 타입 계약은 Excel 내보내기와 동일
+     *
+     * @param format 내보내기 형식
+     * @param sheetName 시트명 (Arrow는 스키마 메타데이터로 기록)
+     * @param headers 헤더 배열
+     * @param data 데이터 스트림 (1회 순회)
+     * @param rowMapper 엔티티를 Object 배열로 변환하는 함수
+     * @param columnTypes 각 컬럼의 데이터 타입
+     * @param outputStream 출력 스트림 (응답 스트림 등, 닫지 않음)
+     * @param locale 로케일
+     * @param <T> 엔티티 타입
+     * @return 내보낸 데이터 행 수
+     */
+    public <T> int exportStream(ExportFormat format, String sheetName, String[] headers, Iterable<T> data,
+                                Function<T, Object[]> rowMapper, CellType[] columnTypes,
+                                OutputStream outputStream, Locale locale) {
+        try {
+            // 데이터 검증 (첫 행 존재 여부만 확인, 출력 스트림에 쓰기 전)
+            Iterator<T> iterator = data.iterator();
+            if (!iterator.hasNext()) {
+                String message = messageSource.getMessage("excel.no.data", null, locale);
+                throw new ExcelDataException(message);
+            }
+
+            int rowCount = format.write(sheetName, headers, iterator, rowMapper, columnTypes, outputStream);
+            log.debug("Exported {} records to {} ({})", rowCount, format, sheetName);
+            return rowCount;
+
+        } catch (ExcelDataException e) {
+            throw e; // 이미 메시지가 처리된 예외는 그대로 전파
+        } catch (IOException e) {
+            log.error("Failed to create {} export file", format, e);
+            String message = messageSource.getMessage("excel.creation.failed", null, locale);
+            throw new ExcelCreationException(message, e);
+        } catch (Exception e) {
+            log.error("Unexpected error during {} export", format, e);
+            String message = messageSource.getMessage("excel.data.processing.failed", null, locale);
+            throw new ExcelDataException(message, e);
+        }
+    }
+
     /**
      * Excel 파일명 생성
      *
@@ -94,8 +161,20 @@ public class ExcelExportService {
      * @return URL 인코딩된 파일명
      */
     public String generateFileName(String prefix, Locale locale) {
+        return generateFileName(prefix, ExportFormat.XLSX, locale);
+    }
+
+    /**
+     * 내보내기 파일명 생성 (형식별 확장자)
+     *
+     * @param prefix 파일명 접두사
+     * @param format 내보내기 형식
+     * @param locale 로케일
+     * @return URL 인코딩된 파일명
+     */
+    public String generateFileName(String prefix, ExportFormat format, Locale locale) {
         try {
-            return ExcelUtil.generateFileName(prefix);
+            return ExcelUtil.generateFileName(prefix, format.getExtension());
         } catch (Exception e) {
             log.error("Failed to generate Excel filename", e);
             String message = messageSource.getMessage("excel.filename.generation.failed", null, locale);
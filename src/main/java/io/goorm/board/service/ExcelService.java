@@ -1,18 +1,36 @@
 package io.goorm.board.service;
 
 import io.goorm.board.dto.excel.ExcelStockDto;
+import io.goorm.board.service.excel.StockReceivingSheetHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
+import javax.xml.parsers.ParserConfigurationException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.math.BigDecimal;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * 엑셀 파일 처리 서비스
@@ -109,136 +127,145 @@ public class ExcelService {
     }
 
     /**
-     * 엑셀 파일에서 입고 데이터 파싱
+     * 엑셀 파일에서 입고 데이터 파싱 (업로드 후 저장된 파일 기준)
      */
-    public List<ExcelStockDto> parseStockReceivingExcel(MultipartFile file) {
+    public List<ExcelStockDto> parseStockReceivingExcel(Path path) {
         List<ExcelStockDto> stockList = new ArrayList<>();
+        readStockReceivingExcel(path, stockList::add);
 
-        try (Workbook workbook = WorkbookFactory.create(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
+        log.info("엑셀 파싱 완료 - 총 {}개 행 처리", stockList.size());
+        return stockList;
+    }
 
-            // 헤더 행 건너뛰기
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null || isEmptyRow(row)) {
-                    continue;
-                }
+    /**
+     * 입고 엑셀을 한 행씩 읽어 rowConsumer로 전달
+     * .xlsx는 XSSFReader + SAX로 스트리밍하여 시트 전체를 메모리에 올리지 않음
+     * .xls(최대 65,536행)는 기존 DOM 방식으로 처리
+     *
+     * @return 파싱에 성공하여 전달된 행 수
+     */
+    public int readStockReceivingExcel(Path path, Consumer<ExcelStockDto> rowConsumer) {
+        return readStockReceivingExcel(path, rowConsumer, (rowNumber, message) -> { });
+    }
 
-                try {
-                    ExcelStockDto dto = parseRowToDto(row, i + 1);
-                    if (dto != null) {
-                        stockList.add(dto);
-                    }
-                } catch (Exception e) {
-                    log.warn("엑셀 {}행 파싱 실패: {}", i + 1, e.getMessage());
-                    // 개별 행 오류는 로그만 남기고 계속 진행
-                }
+    /**
+     * 입고 엑셀을 한 행씩 읽어 rowConsumer로 전달하고, 검증 실패 행은 rowErrorConsumer로 전달
+     *
+     * @return 파싱에 성공하여 전달된 행 수
+     */
+    public int readStockReceivingExcel(Path path, Consumer<ExcelStockDto> rowConsumer,
+                                       BiConsumer<Integer, String> rowErrorConsumer) {
+        try {
+            if (FileMagic.valueOf(path.toFile()) == FileMagic.OLE2) {
+                return readLegacyStockReceivingExcel(path, rowConsumer, rowErrorConsumer);
             }
+            return readStreamingStockReceivingExcel(path, rowConsumer, rowErrorConsumer);
 
-            log.info("엑셀 파싱 완료 - 총 {}개 행 처리", stockList.size());
-            return stockList;
-
-        } catch (IOException e) {
-            log.error("엑셀 파일 읽기 실패", e);
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            log.error("엑셀 파일 읽기 실패 - Path: {}", path, e);
             throw new RuntimeException("엑셀 파일을 읽을 수 없습니다.");
         }
     }
 
     /**
-     * 행을 DTO로 변환 (상품코드 기반)
+     * .xlsx 스트리밍 파싱 (첫 번째 시트)
      */
-    private ExcelStockDto parseRowToDto(Row row, int rowNumber) {
-        ExcelStockDto dto = new ExcelStockDto();
-        dto.setRowNumber(rowNumber);
-
-        // 상품코드 (필수)
-        String productCode = getCellStringValue(row.getCell(0));
-        if (productCode == null || productCode.trim().isEmpty()) {
-            throw new RuntimeException("상품코드가 비어있습니다.");
-        }
-        dto.setProductCode(productCode.trim());
+    private int readStreamingStockReceivingExcel(Path path, Consumer<ExcelStockDto> rowConsumer,
+                                                 BiConsumer<Integer, String> rowErrorConsumer)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return 0;
+            }
 
-        // 상품명 (참조용, 선택사항)
-        String productName = getCellStringValue(row.getCell(1));
-        dto.setProductName(productName != null ? productName.trim() : "");
+            StockReceivingSheetHandler handler = new StockReceivingSheetHandler(rowConsumer, rowErrorConsumer);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, sharedStrings, handler, new StockReceivingSheetHandler.RawValueFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
 
-        // 입고수량 (필수)
-        Double quantity = getCellNumericValue(row.getCell(2));
-        if (quantity == null || quantity <= 0) {
-            throw new RuntimeException("입고수량이 올바르지 않습니다.");
-        }
-        dto.setQuantity(quantity.intValue());
+            log.debug("엑셀 스트리밍 파싱 - 성공: {}행, 실패: {}행", handler.getParsedCount(), handler.getFailedCount());
+            return handler.getParsedCount();
 
-        // 입고단가 (필수)
-        Double unitPrice = getCellNumericValue(row.getCell(3));
-        if (unitPrice == null || unitPrice < 0) {
-            throw new RuntimeException("입고단가가 올바르지 않습니다.");
+        } finally {
+            // 읽기 전용 패키지는 close() 대신 revert()로 해제
+            pkg.revert();
         }
-        dto.setUnitPrice(BigDecimal.valueOf(unitPrice));
-
-        // 비고 (선택)
-        String note = getCellStringValue(row.getCell(4));
-        dto.setNote(note != null ? note.trim() : "");
-
-        return dto;
     }
 
     /**
-     * 셀 문자열 값 가져오기
+     * .xls 파싱 (HSSF는 행 수 상한이 있어 DOM으로 읽어도 메모리가 제한됨)
      */
-    private String getCellStringValue(Cell cell) {
-        if (cell == null) return null;
+    private int readLegacyStockReceivingExcel(Path path, Consumer<ExcelStockDto> rowConsumer,
+                                              BiConsumer<Integer, String> rowErrorConsumer) throws IOException {
+        int parsedCount = 0;
 
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                return String.valueOf((long) cell.getNumericCellValue());
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return null;
+        try (Workbook workbook = WorkbookFactory.create(path.toFile(), null, true)) {
+            Sheet sheet = workbook.getSheetAt(0);
+
+            // 헤더 행 건너뛰기
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) {
+                    continue;
+                }
+
+                String[] values = new String[StockReceivingSheetHandler.COLUMN_COUNT];
+                for (int col = 0; col < values.length; col++) {
+                    values[col] = getCellText(row.getCell(col));
+                }
+                if (StockReceivingSheetHandler.isEmptyRow(values)) {
+                    continue;
+                }
+
+                ExcelStockDto dto;
+                try {
+                    dto = StockReceivingSheetHandler.toDto(values, i + 1);
+                } catch (IllegalArgumentException e) {
+                    log.warn("엑셀 {}행 파싱 실패: {}", i + 1, e.getMessage());
+                    // 개별 행 오류는 기록만 하고 계속 진행
+                    rowErrorConsumer.accept(i + 1, e.getMessage());
+                    continue;
+                }
+
+                rowConsumer.accept(dto);
+                parsedCount++;
+            }
         }
+
+        return parsedCount;
     }
 
     /**
-     * 셀 숫자 값 가져오기
+     * 셀 값을 문자열로 가져오기 (수식은 캐시된 결과값 사용)
      */
-    private Double getCellNumericValue(Cell cell) {
+    private String getCellText(Cell cell) {
         if (cell == null) return null;
 
-        switch (cell.getCellType()) {
-            case NUMERIC:
-                return cell.getNumericCellValue();
+        CellType type = cell.getCellType() == CellType.FORMULA
+                ? cell.getCachedFormulaResultType()
+                : cell.getCellType();
+
+        switch (type) {
             case STRING:
-                try {
-                    return Double.parseDouble(cell.getStringCellValue());
-                } catch (NumberFormatException e) {
-                    return null;
-                }
+                return cell.getStringCellValue();
+            case NUMERIC:
+                return NumberToTextConverter.toText(cell.getNumericCellValue());
+            case BOOLEAN:
+                return String.valueOf(cell.getBooleanCellValue());
             default:
                 return null;
         }
     }
 
-    /**
-     * 빈 행 체크
-     */
-    private boolean isEmptyRow(Row row) {
-        for (int i = 0; i < 5; i++) { // 5개 컬럼 체크
-            Cell cell = row.getCell(i);
-            if (cell != null && cell.getCellType() != CellType.BLANK) {
-                String value = getCellStringValue(cell);
-                if (value != null && !value.trim().isEmpty()) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
     /**
      * 헤더 스타일 생성
      */
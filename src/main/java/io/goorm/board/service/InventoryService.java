@@ -1,12 +1,13 @@
 package io.goorm.board.service;
 
 import io.goorm.board.dto.excel.ExcelStockDto;
+import io.goorm.board.dto.inventory.StockQuantityDto;
+import io.goorm.board.dto.inventory.StockShortageDto;
 import io.goorm.board.entity.Inventory;
 import io.goorm.board.entity.Product;
 import io.goorm.board.entity.InventoryTransaction;
 import io.goorm.board.entity.Order;
 import io.goorm.board.entity.OrderItem;
-import io.goorm.board.entity.User;
 import io.goorm.board.enums.TransactionType;
 import io.goorm.board.exception.InsufficientStockException;
 import io.goorm.board.mapper.CategoryMapper;
@@ -14,6 +15,7 @@ import io.goorm.board.mapper.InventoryMapper;
 import io.goorm.board.mapper.InventoryTransactionMapper;
 import io.goorm.board.mapper.OrderItemMapper;
 import io.goorm.board.mapper.ProductMapper;
+import io.goorm.board.service.product.ProductCodeFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,8 +23,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -30,11 +41,18 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class InventoryService {
 
+    // 거래 이력 다중 행 INSERT 1회당 최대 행 수 (max_allowed_packet 초과 방지)
+    private static final int TRANSACTION_BATCH_SIZE = 500;
+
+    // 상품코드 IN 조회 1회당 최대 코드 수
+    private static final int PRODUCT_LOOKUP_BATCH_SIZE = 1000;
+
     private final InventoryMapper inventoryMapper;
     private final ProductMapper productMapper;
     private final InventoryTransactionMapper inventoryTransactionMapper;
     private final OrderItemMapper orderItemMapper;
     private final CategoryMapper categoryMapper;
+    private final ProductCodeFilter productCodeFilter;
 
     /**
      * 재고 확인 및 검증
@@ -56,6 +74,45 @@ public class InventoryService {
         }
     }
 
+    /**
+     * 여러 상품의 재고 일괄 조회 (상품ID → 재고)
+     */
+    public Map<Long, Inventory> findInventoryMap(Collection<Long> productSeqs) {
+        if (productSeqs == null || productSeqs.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return inventoryMapper.findByProductSeqs(new ArrayList<>(productSeqs)).stream()
+                .collect(Collectors.toMap(Inventory::getProductSeq, Function.identity(), (first, second) -> first));
+    }
+
+    /**
+     * 여러 상품의 재고 잠금 조회 (상품ID → 재고, product_seq 순서로 잠금)
+     */
+    @Transactional
+    public Map<Long, Inventory> lockInventoryMap(Collection<Long> productSeqs) {
+        if (productSeqs == null || productSeqs.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return inventoryMapper.lockByProductSeqs(productSeqs.stream().sorted().toList()).stream()
+                .collect(Collectors.toMap(Inventory::getProductSeq, Function.identity(), (first, second) -> first));
+    }
+
+    /**
+     * 재고 확인 및 검증 (미리 조회한 상품/재고 기준, DB 조회 없음)
+     */
+    public void checkStock(Product product, Inventory inventory, Integer quantity) {
+        if (inventory == null || !inventory.canOrder(quantity)) {
+            String productName = (product != null) ? product.getName() : "Unknown Product";
+
+            int available = (inventory != null && inventory.getAvailableStock() != null)
+                    ? inventory.getAvailableStock() : 0;
+
+            throw new InsufficientStockException(productName, quantity, available);
+        }
+    }
+
     /**
      * 재고 차감 (주문 승인 시)
      */
@@ -100,6 +157,65 @@ public class InventoryService {
         log.info("재고 예약 완료 - 상품: {}, 수량: {}", productSeq, quantity);
     }
 
+    /**
+     * 재고 일괄 예약 (주문 시)
+     * 상품별 수량을 합산한 뒤 product_seq 순서로 행을 잠그고 단일 UPDATE로 예약
+     * 부족한 상품이 있으면 해당 상품 전체를 담아 예외 발생
+     */
+    @Transactional
+    public void reserveStocks(List<StockQuantityDto> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        // 상품별 수량 합산 (product_seq 오름차순 고정)
+        Map<Long, Integer> quantities = new TreeMap<>();
+        items.forEach(item -> quantities.merge(item.getProductSeq(), item.getQuantity(), Integer::sum));
+
+        List<Long> productSeqs = new ArrayList<>(quantities.keySet());
+        Map<Long, Inventory> inventories = inventoryMapper.lockByProductSeqs(productSeqs).stream()
+                .collect(Collectors.toMap(Inventory::getProductSeq, Function.identity(), (first, second) -> first));
+
+        List<StockShortageDto> shortages = new ArrayList<>();
+        quantities.forEach((productSeq, quantity) -> {
+            Inventory inventory = inventories.get(productSeq);
+            if (inventory == null || !inventory.canOrder(quantity)) {
+                int available = (inventory != null && inventory.getAvailableStock() != null)
+                        ? inventory.getAvailableStock() : 0;
+                shortages.add(StockShortageDto.builder()
+                        .productSeq(productSeq)
+                        .requestedQuantity(quantity)
+                        .availableQuantity(available)
+                        .build());
+            }
+        });
+
+        if (!shortages.isEmpty()) {
+            // 상품명 일괄 조회 (예외 메시지용)
+            Map<Long, String> productNames = productMapper.findByIds(shortages.stream()
+                            .map(StockShortageDto::getProductSeq)
+                            .toList()).stream()
+                    .collect(Collectors.toMap(Product::getProductSeq, Product::getName));
+            shortages.forEach(shortage -> shortage.setProductName(
+                    productNames.getOrDefault(shortage.getProductSeq(), "Unknown Product")));
+
+            throw new InsufficientStockException(shortages);
+        }
+
+        List<StockQuantityDto> merged = quantities.entrySet().stream()
+                .map(entry -> new StockQuantityDto(entry.getKey(), entry.getValue()))
+                .toList();
+
+        int updatedRows = inventoryMapper.reserveStocks(merged);
+        if (updatedRows != merged.size()) {
+            // 행 잠금 이후이므로 정상적으로는 발생하지 않음
+            throw new InsufficientStockException(
+                    String.format("재고 일괄 예약에 실패했습니다. 요청: %d건, 처리: %d건", merged.size(), updatedRows));
+        }
+
+        log.info("재고 일괄 예약 완료 - 상품 {}건", merged.size());
+    }
+
     /**
      * 재고 소모 처리 (배송 완료 시)
      */
@@ -119,23 +235,53 @@ public class InventoryService {
     }
 
     /**
-     * 엑셀 입고 처리 (파일 정보 및 공급업체 정보 포함)
+     * 재고 일괄 소모 처리 (배송 완료 시)
+     * 호출 전에 lockInventoryMap으로 행을 잠그고 수량을 검증해야 함
      */
     @Transactional
-    public List<String> processStockReceiving(List<ExcelStockDto> stockList, Long supplierSeq,
-                                            User user, String excelFilename, String excelFilepath) {
-        List<String> errors = new ArrayList<>();
+    public void consumeStocks(List<StockQuantityDto> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        int updatedRows = inventoryMapper.consumeStocks(items);
+        if (updatedRows != items.size()) {
+            throw new InsufficientStockException(
+                    String.format("재고 일괄 소모에 실패했습니다. 요청: %d건, 처리: %d건", items.size(), updatedRows));
+        }
+
+        log.info("재고 일괄 소모 완료 - 상품 {}건", items.size());
+    }
+
+    /**
+     * 엑셀 입고 청크 처리 (호출자의 트랜잭션에 참여)
+     * 청크의 상품코드를 한 번의 IN 조회로 코드→상품 맵에 올린 뒤 메모리에서 검증하고,
+     * 재고는 상품별로 합산하여 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 반영
+     *
+     * @return 실패한 엑셀 행 번호와 사유 (행 순서 유지)
+     */
+    @Transactional
+    public Map<Integer, String> receiveStockChunk(List<ExcelStockDto> stockList, Long supplierSeq,
+                                                  Long processedBySeq, String excelFilename, String excelFilepath) {
+        Map<Integer, String> failures = new LinkedHashMap<>();
+        List<InventoryTransaction> transactions = new ArrayList<>();
+        // 상품 순서로 합산하여 행 잠금 순서를 고정 (데드락 방지)
+        Map<Long, Integer> receivedQuantities = new TreeMap<>();
         LocalDateTime processedAt = LocalDateTime.now();
 
+        // 1. 상품코드 일괄 조회
+        Map<String, Product> productsByCode = findProductsByCode(stockList.stream()
+                .map(ExcelStockDto::getProductCode)
+                .toList());
+
         for (ExcelStockDto dto : stockList) {
             try {
-                // 1. 상품코드로 상품 조회 및 검증
-                Product product = validateAndFindProduct(dto.getProductCode(), supplierSeq, dto.getRowNumber());
+                // 2. 상품 검증 (메모리)
+                Product product = validateAndFindProduct(productsByCode, dto.getProductCode(), supplierSeq, dto.getRowNumber());
 
-                // 2. 재고 업데이트
-                updateStock(product.getProductSeq(), dto.getQuantity());
+                receivedQuantities.merge(product.getProductSeq(), dto.getQuantity(), Integer::sum);
 
-                // 3. 입고 이력 저장
+                // 3. 입고 이력
                 InventoryTransaction transaction = InventoryTransaction.builder()
                         .transactionType(TransactionType.RECEIVING)
                         .productSeq(product.getProductSeq())
@@ -144,137 +290,148 @@ public class InventoryService {
                         .unitPrice(dto.getUnitPrice())
                         .totalAmount(dto.getUnitPrice().multiply(java.math.BigDecimal.valueOf(dto.getQuantity())))
                         .note(dto.getNote())
-                        .processedBySeq(user.getUserSeq())
+                        .processedBySeq(processedBySeq)
                         .excelFilename(excelFilename)
                         .excelFilepath(excelFilepath)
                         .excelRowNum(dto.getRowNumber())
                         .processedAt(processedAt)
                         .build();
 
-                inventoryTransactionMapper.insert(transaction);
-
-                log.info("입고 처리 완료 - {}행: {} ({}) +{} (이력ID: {})",
-                        dto.getRowNumber(), dto.getProductName(), dto.getCategoryName(), dto.getQuantity(),
-                        transaction.getTransactionSeq());
+                transactions.add(transaction);
 
             } catch (Exception e) {
-                String errorMsg = String.format("%d행: %s", dto.getRowNumber(), e.getMessage());
-                errors.add(errorMsg);
-                log.error("입고 처리 실패 - {}", errorMsg, e);
+                failures.put(dto.getRowNumber(), e.getMessage());
+                log.warn("입고 처리 실패 - {}행: {}", dto.getRowNumber(), e.getMessage());
             }
         }
 
-        log.info("엑셀 입고 처리 완료 - 총 {}건, 성공 {}건, 실패 {}건, 파일: {}",
-                stockList.size(), stockList.size() - errors.size(), errors.size(), excelFilename);
+        // 4. 재고 일괄 반영 (없으면 생성, 있으면 current_stock 증가)
+        List<StockQuantityDto> items = receivedQuantities.entrySet().stream()
+                .map(entry -> new StockQuantityDto(entry.getKey(), entry.getValue()))
+                .toList();
+        for (int from = 0; from < items.size(); from += TRANSACTION_BATCH_SIZE) {
+            inventoryMapper.upsertReceivedStocks(items.subList(from, Math.min(from + TRANSACTION_BATCH_SIZE, items.size())));
+        }
+
+        // 5. 입고 이력 일괄 저장
+        insertTransactions(transactions);
+
+        log.info("엑셀 입고 처리 완료 - 총 {}건, 성공 {}건, 실패 {}건, 상품 {}종, 파일: {}",
+                stockList.size(), transactions.size(), failures.size(), items.size(), excelFilename);
 
-        return errors;
+        return failures;
     }
 
     /**
-     * 엑셀 입고 처리 (기존 호환성 유지)
+     * 주문 출고 이력 기록 (배송완료 시 호출)
      */
     @Transactional
-    public List<String> processStockReceiving(List<ExcelStockDto> stockList, User user) {
-        return processStockReceiving(stockList, null, user, "unknown.xlsx", "");
-    }
+    public void recordOrderConsumption(Order order, Long processedBySeq, String processedBy) {
+        log.info("주문 출고 이력 기록 시작 - 주문: {}, 처리자: {}", order.getOrderNumber(), processedBy);
 
+        // 주문 상품들 조회 (categorySeq 포함) 후 일괄 저장
+        List<OrderItem> orderItems = orderItemMapper.findByOrderSeq(order.getOrderSeq());
+        recordOrderConsumptions(List.of(order), Map.of(order.getOrderSeq(), orderItems), processedBySeq, processedBy);
+
+        log.info("주문 출고 이력 기록 완료 - 주문: {}, 상품 {}건 처리", order.getOrderNumber(), orderItems.size());
+    }
 
     /**
-     * 재고 업데이트 (입고 처리)
+     * 여러 주문의 출고 이력 일괄 기록 (일괄 배송완료 시 호출)
+     * 주문 상품은 categorySeq가 조인된 상태로 전달받아 추가 조회 없이 한 번에 INSERT
      */
     @Transactional
-    public void updateStock(Long productSeq, Integer quantity) {
-        // 기존 재고 조회
-        Optional<Inventory> existingInventory = inventoryMapper.findByProductSeq(productSeq);
-
-        if (existingInventory.isPresent()) {
-            // 기존 재고에 추가
-            int updatedRows = inventoryMapper.increaseStock(productSeq, quantity);
-            if (updatedRows == 0) {
-                throw new RuntimeException("재고 업데이트에 실패했습니다.");
+    public void recordOrderConsumptions(List<Order> orders, Map<Long, List<OrderItem>> itemsByOrder,
+                                       Long processedBySeq, String processedBy) {
+        LocalDateTime processedAt = LocalDateTime.now();
+
+        List<InventoryTransaction> transactions = new ArrayList<>();
+        for (Order order : orders) {
+            for (OrderItem item : itemsByOrder.getOrDefault(order.getOrderSeq(), List.of())) {
+                transactions.add(InventoryTransaction.builder()
+                        .transactionType(TransactionType.ORDER_CONSUMED)
+                        .productSeq(item.getProductSeq())
+                        .categorySeq(item.getCategorySeq())
+                        .quantity(-item.getQuantity())  // 출고는 음수로 기록
+                        .unitPrice(item.getUnitPrice())
+                        .totalAmount(item.getLineTotal().negate())  // 음수로 기록
+                        .orderSeq(order.getOrderSeq())
+                        .processedBySeq(processedBySeq)
+                        .note(String.format("주문 %s 배송완료 - %s", order.getOrderNumber(), processedBy))
+                        .processedAt(processedAt)
+                        .build());
             }
-            log.debug("기존 재고 업데이트 - 상품: {}, 추가수량: {}", productSeq, quantity);
-        } else {
-            // 새로운 재고 생성
-            Inventory newInventory = Inventory.builder()
-                    .productSeq(productSeq)
-                    .currentStock(quantity)
-                    .reservedStock(0)
-                    .build();
-
-            inventoryMapper.insert(newInventory);
-            log.debug("신규 재고 생성 - 상품: {}, 초기수량: {}", productSeq, quantity);
         }
+
+        insertTransactions(transactions);
+
+        log.info("주문 출고 이력 일괄 기록 완료 - 주문 {}건, 이력 {}건", orders.size(), transactions.size());
     }
 
     /**
-     * 주문 출고 이력 기록 (배송완료 시 호출)
+     * 거래 이력 일괄 저장 (TRANSACTION_BATCH_SIZE 단위 다중 행 INSERT)
      */
-    @Transactional
-    public void recordOrderConsumption(Order order, Long processedBySeq, String processedBy) {
-        log.info("주문 출고 이력 기록 시작 - 주문: {}, 처리자: {}", order.getOrderNumber(), processedBy);
-
-        // 주문 상품들 조회
-        List<OrderItem> orderItems = orderItemMapper.findByOrderSeq(order.getOrderSeq());
+    private void insertTransactions(List<InventoryTransaction> transactions) {
+        for (int from = 0; from < transactions.size(); from += TRANSACTION_BATCH_SIZE) {
+            int to = Math.min(from + TRANSACTION_BATCH_SIZE, transactions.size());
+            inventoryTransactionMapper.insertBatch(transactions.subList(from, to));
+        }
+    }
 
-        for (OrderItem item : orderItems) {
-            // 상품 정보 조회하여 categorySeq 획득
-            Product product = productMapper.findById(item.getProductSeq()).orElse(null);
-            Long categorySeq = (product != null) ? product.getCategorySeq() : null;
-
-            // 출고 이력 생성
-            InventoryTransaction transaction = InventoryTransaction.builder()
-                    .transactionType(TransactionType.ORDER_CONSUMED)
-                    .productSeq(item.getProductSeq())
-                    .categorySeq(categorySeq)
-                    .quantity(-item.getQuantity())  // 출고는 음수로 기록
-                    .unitPrice(item.getUnitPrice())
-                    .totalAmount(item.getLineTotal().negate())  // 음수로 기록
-                    .orderSeq(order.getOrderSeq())
-                    .processedBySeq(processedBySeq)
-                    .note(String.format("주문 %s 배송완료 - %s", order.getOrderNumber(), processedBy))
-                    .processedAt(LocalDateTime.now())
-                    .build();
-
-            inventoryTransactionMapper.insert(transaction);
-
-            log.debug("출고 이력 기록 완료 - 주문: {}, 상품: {}, 수량: {} (이력ID: {})",
-                    order.getOrderNumber(), item.getProductSeq(), item.getQuantity(),
-                    transaction.getTransactionSeq());
+    /**
+     * 상품코드 일괄 조회 (IN 조회, 코드는 DB 비교 규칙과 같게 대소문자 무시)
+     */
+    private Map<String, Product> findProductsByCode(Collection<String> productCodes) {
+        List<String> distinctCodes = productCodes.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        // 코드 필터에 없는 코드는 DB에 없는 코드로 확정되므로 IN 목록에서 제외
+        List<String> candidateCodes = productCodeFilter.filterPossible(distinctCodes);
+
+        Map<String, Product> productsByCode = new HashMap<>();
+        for (int from = 0; from < candidateCodes.size(); from += PRODUCT_LOOKUP_BATCH_SIZE) {
+            int to = Math.min(from + PRODUCT_LOOKUP_BATCH_SIZE, candidateCodes.size());
+            for (Product product : productMapper.findByCodes(candidateCodes.subList(from, to))) {
+                productsByCode.put(normalizeProductCode(product.getCode()), product);
+            }
         }
+        productCodeFilter.recordFalsePositives(candidateCodes.stream()
+                .filter(code -> !productsByCode.containsKey(normalizeProductCode(code)))
+                .count());
+        return productsByCode;
+    }
 
-        log.info("주문 출고 이력 기록 완료 - 주문: {}, 상품 {}건 처리", order.getOrderNumber(), orderItems.size());
+    private String normalizeProductCode(String productCode) {
+        return productCode.trim().toUpperCase(Locale.ROOT);
     }
 
     /**
      * 상품코드로 상품 조회 및 기본 검증 (강사 구현)
      */
-    private Product validateAndFindProduct(String productCode, Long selectedSupplierSeq, int rowNumber) {
-        try {
-            // 1. 상품코드로 상품 조회 (필수 구현)
-            Product product = productMapper.findByCode(productCode)
-                .orElseThrow(() -> new RuntimeException(
-                    String.format("%d행: 상품코드 '%s'를 찾을 수 없습니다", rowNumber, productCode)));
-
-            // 2. 상품 상태 확인 (필수 구현)
-            // TODO: 임시로 상태 검증 비활성화 - DB 데이터 확인 후 재활성화 예정
-            log.debug("{}행: 상품 상태 - 코드: {}, 상태: {}", rowNumber, productCode, product.getStatus());
-            /*
-            if (!"ACTIVE".equals(product.getStatus())) {
-                throw new RuntimeException(
-                    String.format("%d행: 상품코드 '%s'는 비활성 상태입니다", rowNumber, productCode));
-            }
-            */
+    private Product validateAndFindProduct(Map<String, Product> productsByCode, String productCode,
+                                           Long selectedSupplierSeq, int rowNumber) {
+        // 1. 상품코드로 상품 조회 (필수 구현)
+        Product product = productCode != null ? productsByCode.get(normalizeProductCode(productCode)) : null;
+        if (product == null) {
+            throw new RuntimeException(String.format("상품코드 '%s'를 찾을 수 없습니다", productCode));
+        }
 
-            // 3. 공급업체 매칭 검증 (수강생 과제)
-            validateProductSupplierMatch(product, selectedSupplierSeq, rowNumber);
+        // 2. 상품 상태 확인 (필수 구현)
+        // TODO: 임시로 상태 검증 비활성화 - DB 데이터 확인 후 재활성화 예정
+        log.debug("{}행: 상품 상태 - 코드: {}, 상태: {}", rowNumber, productCode, product.getStatus());
+        /*
+        if (!"ACTIVE".equals(product.getStatus())) {
+            throw new RuntimeException(
+                String.format("%d행: 상품코드 '%s'는 비활성 상태입니다", rowNumber, productCode));
+        }
+        */
 
-            return product;
+        // 3. 공급업체 매칭 검증 (수강생 과제)
+        validateProductSupplierMatch(product, selectedSupplierSeq, rowNumber);
 
-        } catch (Exception e) {
-            log.error("상품 검증 실패 - {}행: {}", rowNumber, e.getMessage());
-            throw e;
-        }
+        return product;
     }
 
     /**
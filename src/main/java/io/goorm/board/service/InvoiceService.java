@@ -1,28 +1,38 @@
 package io.goorm.board.service;
 
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
 import io.goorm.board.dto.order.OrderDto;
+import io.goorm.board.dto.order.OrderItemDto;
 import io.goorm.board.entity.InvoiceHistory;
 import io.goorm.board.entity.User;
 import io.goorm.board.mapper.InvoiceHistoryMapper;
+import io.goorm.board.service.invoice.InvoiceArtifact;
+import io.goorm.board.service.invoice.InvoiceArtifactStore;
+import io.goorm.board.service.invoice.InvoicePdfRenderer;
+import io.goorm.board.service.invoice.InvoiceQrCodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
-import org.xhtmlrenderer.pdf.ITextRenderer;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -34,15 +44,33 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class InvoiceService {
 
-    private final TemplateEngine templateEngine;
+    // 출력 이력 다중 행 INSERT 1회당 최대 행 수 (max_allowed_packet 초과 방지)
+    private static final int HISTORY_BATCH_SIZE = 500;
+
+    private final InvoicePdfRenderer invoicePdfRenderer;
     private final OrderService orderService;
     private final InvoiceHistoryMapper invoiceHistoryMapper;
+    private final InvoiceArtifactStore invoiceArtifactStore;
+    private final InvoiceQrCodeGenerator invoiceQrCodeGenerator;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 인보이스 PDF 생성 및 다운로드
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public byte[] generateInvoicePdf(Long orderSeq, User user) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeInvoicePdf(orderSeq, user, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 인보이스 PDF를 출력 스트림에 바로 기록 (응답 스트림 등, 닫지 않음)
+     * 느린 클라이언트에 기록하는 동안 커넥션을 점유하지 않도록 트랜잭션 없이 실행하고,
+     * 주문 조회와 출력 이력 저장만 각각 짧은 트랜잭션으로 처리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeInvoicePdf(Long orderSeq, User user, OutputStream outputStream) {
         try {
             // 주문 정보 조회
             OrderDto order = orderService.findById(orderSeq);
@@ -56,20 +84,15 @@ public class InvoiceService {
             // 템플릿 데이터 준비
             Map<String, Object> templateData = prepareTemplateData(order, invoiceId, qrCodeBase64);
 
-            // HTML 렌더링
-            String htmlContent = renderHtmlTemplate(templateData);
-
-            // PDF 생성
-            byte[] pdfBytes = convertToPdf(htmlContent);
+            // PDF 렌더링 (렌더러 풀)
+            invoicePdfRenderer.render(templateData, outputStream);
 
-            // 출력 이력 저장
-            saveInvoiceHistory(orderSeq, invoiceId, user);
+            // 출력 이력 저장 (렌더링이 끝난 뒤 별도 트랜잭션)
+            transactionTemplate.executeWithoutResult(status -> saveInvoiceHistory(orderSeq, invoiceId, null, user));
 
             log.info("인보이스 PDF 생성 완료 - Order: {}, InvoiceId: {}, User: {}",
                     orderSeq, invoiceId, user.getEmail());
 
-            return pdfBytes;
-
         } catch (Exception e) {
             log.error("인보이스 PDF 생성 실패 - Order: {}, Error: {}", orderSeq, e.getMessage(), e);
             throw new RuntimeException("인보이스 생성 중 오류가 발생했습니다: " + e.getMessage());
@@ -77,40 +100,120 @@ public class InvoiceService {
     }
 
     /**
-     * 인보이스 ID 생성 (INV-YYYYMMDD-SEQ)
+     * 확정 인보이스 여부 (배송 완료로 인보이스 발행 시각이 기록된 주문)
+     * 확정 이후에는 인보이스 내용이 바뀌지 않으므로 저장된 PDF를 재사용할 수 있음
      */
-    private String generateInvoiceId(OrderDto order) {
-        String datePrefix = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        return String.format("INV-%s-%03d", datePrefix, order.getOrderSeq() % 1000);
+    public boolean isInvoiceConfirmed(OrderDto order) {
+        return order.getInvoiceGeneratedAt() != null;
     }
 
     /**
-     * QR 코드 생성 (Base64)
+     * 확정 인보이스 PDF 저장 (이미 있으면 렌더링하지 않음, 출력 이력은 남기지 않음)
+     * 인보이스 내용과 템플릿의 해시로 저장소를 조회하고, 없을 때만 QR 코드 생성과 렌더링 수행
+     * DB를 사용하지 않으므로 렌더러 대기와 렌더링 동안 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     * (같은 클래스 안에서 호출하면 프록시를 거치지 않으므로 컨트롤러/일괄 출력 서비스에서 직접 호출)
      */
-    private String generateQRCode(String invoiceId, OrderDto order) {
-        try {
-            // QR 코드에 포함될 검증 데이터
-            String qrData = String.format(
-                "{\"invoiceId\":\"%s\",\"orderSeq\":%d,\"companySeq\":%d,\"finalAmount\":%s,\"issueDate\":\"%s\"}",
-                invoiceId,
-                order.getOrderSeq(),
-                order.getCompanySeq(),
-                order.getFinalAmount().toString(),
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-            );
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InvoiceArtifact storeInvoiceArtifact(OrderDto order) throws IOException {
+        if (!isInvoiceConfirmed(order)) {
+            throw new IllegalStateException("확정되지 않은 인보이스입니다: " + order.getOrderSeq());
+        }
 
-            QRCodeWriter qrCodeWriter = new QRCodeWriter();
-            BitMatrix bitMatrix = qrCodeWriter.encode(qrData, BarcodeFormat.QR_CODE, 100, 100);
+        String invoiceId = generateInvoiceId(order);
+        String contentHash = calculateContentHash(order, invoiceId);
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
+        // 저장된 PDF가 없을 때만 QR 코드 생성과 렌더링 수행
+        Path path = invoiceArtifactStore.getOrCreate(contentHash, out -> invoicePdfRenderer.render(
+                prepareTemplateData(order, invoiceId, generateQRCode(invoiceId, order)), out));
 
-            return Base64.getEncoder().encodeToString(outputStream.toByteArray());
+        return new InvoiceArtifact(order.getOrderSeq(), invoiceId, contentHash, path, Files.size(path));
+    }
 
-        } catch (Exception e) {
-            log.warn("QR 코드 생성 실패 - InvoiceId: {}, Error: {}", invoiceId, e.getMessage());
-            return ""; // QR 코드 생성 실패해도 인보이스는 생성
+    /**
+     * 확정 인보이스 출력 이력 저장 (같은 인보이스 행의 출력 횟수 증가)
+     * storeInvoiceArtifact로 PDF를 준비한 뒤 짧은 트랜잭션으로 기록
+     */
+    @Transactional
+    public void recordInvoicePrint(InvoiceArtifact artifact, User user) {
+        saveInvoiceHistory(artifact.getOrderSeq(), artifact.getInvoiceId(), artifact.getContentHash(), user);
+
+        log.info("인보이스 PDF 조회 완료 - Order: {}, InvoiceId: {}, Hash: {}, User: {}",
+                artifact.getOrderSeq(), artifact.getInvoiceId(), artifact.getContentHash(), user.getEmail());
+    }
+
+    /**
+     * 여러 인보이스 출력 이력 일괄 저장 (HISTORY_BATCH_SIZE 단위 다중 행 upsert, 같은 인보이스는 출력 횟수 증가)
+     */
+    @Transactional
+    public void recordInvoicePrints(List<InvoiceArtifact> artifacts, User user) {
+        if (artifacts.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime printedAt = LocalDateTime.now();
+        List<InvoiceHistory> histories = artifacts.stream()
+                .map(artifact -> InvoiceHistory.builder()
+                        .orderSeq(artifact.getOrderSeq())
+                        .invoiceId(artifact.getInvoiceId())
+                        .contentHash(artifact.getContentHash())
+                        .printedAt(printedAt)
+                        .printedBySeq(user.getUserSeq())
+                        .printedBy(user.getEmail())
+                        .printCount(1)
+                        .build())
+                .toList();
+
+        for (int from = 0; from < histories.size(); from += HISTORY_BATCH_SIZE) {
+            int to = Math.min(from + HISTORY_BATCH_SIZE, histories.size());
+            invoiceHistoryMapper.upsertPrintBatch(histories.subList(from, to));
         }
+        log.debug("인보이스 출력 이력 일괄 저장 완료 - {}건", histories.size());
+    }
+
+    /**
+     * 기동 시 샘플 인보이스로 렌더러 풀 예열
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void warmUpRenderer() {
+        OrderItemDto sampleItem = OrderItemDto.builder()
+                .productName("예열용 상품")
+                .categoryName("예열")
+                .quantity(1)
+                .unitPrice(BigDecimal.ZERO)
+                .build();
+        OrderDto sampleOrder = OrderDto.builder()
+                .orderSeq(0L)
+                .companySeq(0L)
+                .orderNumber("WARMUP")
+                .orderDate(LocalDateTime.now())
+                .totalAmount(BigDecimal.ZERO)
+                .discountAmount(BigDecimal.ZERO)
+                .discountRate(BigDecimal.ZERO)
+                .finalAmount(BigDecimal.ZERO)
+                .invoiceGeneratedAt(LocalDateTime.now())
+                .paymentDueDate(LocalDate.now())
+                .orderItems(List.of(sampleItem))
+                .build();
+
+        String invoiceId = generateInvoiceId(sampleOrder);
+        invoicePdfRenderer.warmUp(prepareTemplateData(sampleOrder, invoiceId, generateQRCode(invoiceId, sampleOrder)));
+    }
+
+    /**
+     * 인보이스 ID 생성 (INV-YYYYMMDD-SEQ)
+     * 확정 인보이스는 발행 시각 기준으로 만들어 다시 출력해도 같은 ID가 되도록 함
+     */
+    private String generateInvoiceId(OrderDto order) {
+        String datePrefix = issuedAt(order).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("INV-%s-%03d", datePrefix, order.getOrderSeq() % 1000);
+    }
+
+    /**
+     * QR 코드 생성 (Base64)
+     */
+    private String generateQRCode(String invoiceId, OrderDto order) {
+        return invoiceQrCodeGenerator.generate(invoiceId, order, issuedAt(order));
     }
 
     /**
@@ -124,54 +227,80 @@ public class InvoiceService {
         data.put("invoiceGeneratedAt", order.getInvoiceGeneratedAt());
         data.put("paymentDueDate", order.getPaymentDueDate());
         data.put("qrCodeBase64", qrCodeBase64);
-        data.put("currentDateTime", LocalDateTime.now());
+        data.put("currentDateTime", issuedAt(order));
 
         return data;
     }
 
     /**
-     * HTML 템플릿 렌더링
+     * 인보이스 발행 시각 (확정 전 인보이스는 현재 시각)
      */
-    private String renderHtmlTemplate(Map<String, Object> data) {
-        Context context = new Context();
-        data.forEach(context::setVariable);
-
-        return templateEngine.process("invoice/invoice-template", context);
+    private LocalDateTime issuedAt(OrderDto order) {
+        return order.getInvoiceGeneratedAt() != null ? order.getInvoiceGeneratedAt() : LocalDateTime.now();
     }
 
     /**
-     * HTML을 PDF로 변환
+     * 인보이스 내용 해시 (SHA-256)
+     * 템플릿에 출력되는 주문 필드와 템플릿/스타일시트 해시를 순서대로 연결해 계산
      */
-    private byte[] convertToPdf(String htmlContent) throws IOException {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            ITextRenderer renderer = new ITextRenderer();
-
-            // HTML 내용 설정
-            renderer.setDocumentFromString(htmlContent);
-            renderer.layout();
+    private String calculateContentHash(OrderDto order, String invoiceId) {
+        StringBuilder canonical = new StringBuilder(512);
+        append(canonical, invoicePdfRenderer.getTemplateFingerprint());
+        append(canonical, invoiceId);
+        append(canonical, order.getOrderSeq());
+        append(canonical, order.getOrderNumber());
+        append(canonical, order.getCompanySeq());
+        append(canonical, order.getCompanyName());
+        append(canonical, order.getUserName());
+        append(canonical, order.getUserEmail());
+        append(canonical, order.getOrderDate());
+        append(canonical, order.getInvoiceGeneratedAt());
+        append(canonical, order.getPaymentDueDate());
+        append(canonical, order.getTotalAmount());
+        append(canonical, order.getDiscountAmount());
+        append(canonical, order.getDiscountRate());
+        append(canonical, order.getFinalAmount());
+        if (order.getOrderItems() != null) {
+            for (OrderItemDto item : order.getOrderItems()) {
+                append(canonical, item.getProductName());
+                append(canonical, item.getCategoryName());
+                append(canonical, item.getQuantity());
+                append(canonical, item.getUnitPrice());
+            }
+        }
 
-            // PDF 생성
-            renderer.createPDF(outputStream);
-            renderer.finishPDF();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
 
-            return outputStream.toByteArray();
+    private static void append(StringBuilder canonical, Object value) {
+        // 숫자는 스케일 차이(10 vs 10.00)로 해시가 달라지지 않도록 정규화
+        if (value instanceof BigDecimal decimal) {
+            value = decimal.stripTrailingZeros().toPlainString();
         }
+        canonical.append(value).append('\u001F');
     }
 
     /**
      * 인보이스 출력 이력 저장
+     * 같은 인보이스를 다시 출력하면 새 행을 만들지 않고 출력 횟수와 마지막 출력 정보를 갱신
      */
-    private void saveInvoiceHistory(Long orderSeq, String invoiceId, User user) {
+    private void saveInvoiceHistory(Long orderSeq, String invoiceId, String contentHash, User user) {
         InvoiceHistory history = InvoiceHistory.builder()
                 .orderSeq(orderSeq)
                 .invoiceId(invoiceId)
+                .contentHash(contentHash)
                 .printedAt(LocalDateTime.now())
                 .printedBySeq(user.getUserSeq())
                 .printedBy(user.getEmail())
                 .printCount(1)
                 .build();
 
-        invoiceHistoryMapper.insert(history);
+        invoiceHistoryMapper.upsertPrint(history);
         log.debug("인보이스 출력 이력 저장 완료 - InvoiceId: {}", invoiceId);
     }
 
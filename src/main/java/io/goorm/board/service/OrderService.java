@@ -1,10 +1,14 @@
 package io.goorm.board.service;
 
+import io.goorm.board.dto.common.SearchSlice;
+import io.goorm.board.dto.inventory.StockQuantityDto;
+import io.goorm.board.dto.order.DeliveryCompletionResultDto;
 import io.goorm.board.dto.order.OrderCreateDto;
 import io.goorm.board.dto.order.OrderDto;
 import io.goorm.board.dto.order.OrderItemCreateDto;
 import io.goorm.board.dto.order.OrderProductSelectionDto;
 import io.goorm.board.dto.order.OrderSearchDto;
+import io.goorm.board.entity.Inventory;
 import io.goorm.board.entity.Order;
 import io.goorm.board.entity.OrderItem;
 import io.goorm.board.entity.Product;
@@ -15,21 +19,35 @@ import io.goorm.board.exception.OrderNotFoundException;
 import io.goorm.board.exception.InvalidUserRoleException;
 import io.goorm.board.exception.CompanyNotFoundException;
 import io.goorm.board.exception.product.ProductNotFoundException;
+import io.goorm.board.enums.DeliveryStatus;
 import io.goorm.board.enums.UserRole;
 import io.goorm.board.mapper.OrderItemMapper;
 import io.goorm.board.mapper.OrderMapper;
 import io.goorm.board.mapper.ProductMapper;
 import io.goorm.board.annotation.LogExecution;
+import io.goorm.board.annotation.RetryOnDeadlock;
+import io.goorm.board.service.discount.DiscountCalculator;
+import io.goorm.board.service.order.OrderNumberAllocator;
+import io.goorm.board.service.order.OrderSummaryAggregator;
+import io.goorm.board.util.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -42,8 +60,19 @@ public class OrderService {
     private final ProductMapper productMapper;
     private final InventoryService inventoryService;
     private final DiscountService discountService;
+    private final DiscountCalculator discountCalculator;
+    private final OrderNumberAllocator orderNumberAllocator;
+    private final OrderSummaryAggregator orderSummaryAggregator;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional(rollbackFor = Exception.class)
+    /**
+     * 발주 등록
+     * 발주번호는 발주 트랜잭션을 시작하기 전에 할당 (번호 블록 임대는 별도 커넥션을 쓰므로,
+     * 발주 커넥션을 잡은 채 임대용 커넥션을 기다리다 커넥션 풀이 고갈되지 않도록 함)
+     * 트랜잭션은 transactionTemplate으로 직접 시작하므로 바깥 트랜잭션 안에서 호출할 수 없음 (Propagation.NEVER)
+     */
+    @RetryOnDeadlock
+    @Transactional(propagation = Propagation.NEVER)
     @LogExecution(operation = "CREATE_ORDER", resource = "ORDER")
     public OrderDto createOrder(OrderCreateDto createDto, User user) {
         // 사용자 권한 검증 (바이어만 주문 가능)
@@ -56,27 +85,23 @@ public class OrderService {
             throw new CompanyNotFoundException();
         }
 
+        // 발주번호 생성 (트랜잭션 밖, 발주가 롤백되어도 번호는 재사용하지 않음)
+        String orderNumber = generateOrderNumber();
+
+        // 예외 발생 시 롤백 (기존 rollbackFor = Exception.class와 동일, 콜백에서는 검사 예외가 발생하지 않음)
+        return transactionTemplate.execute(status -> placeOrder(createDto, user, orderNumber));
+    }
+
+    /**
+     * 발주 등록 본체 (발주 트랜잭션 안에서 실행)
+     */
+    private OrderDto placeOrder(OrderCreateDto createDto, User user, String orderNumber) {
+
         // selectedProducts를 items로 변환 (새로운 폼 방식 지원)
         log.info("selectedProducts: {}", createDto.getSelectedProducts());
         if (createDto.getSelectedProducts() != null && !createDto.getSelectedProducts().isEmpty()) {
             log.info("Converting selectedProducts to items...");
-            List<OrderItemCreateDto> items = createDto.getSelectedProducts().stream()
-                    .filter(OrderProductSelectionDto::isSelected)
-                    .map(selection -> {
-                        // 상품 정보 조회
-                        Product product = productMapper.findById(selection.getProductSeq())
-                                .orElseThrow(() -> new ProductNotFoundException(selection.getProductSeq()));
-
-                        // 재고 체크
-                        inventoryService.checkStock(selection.getProductSeq(), selection.getQuantity());
-
-                        return OrderItemCreateDto.builder()
-                                .productSeq(selection.getProductSeq())
-                                .quantity(selection.getQuantity())
-                                .unitPrice(product.getUnitPrice()) // DB에서 조회한 실제 단가
-                                .build();
-                    })
-                    .toList();
+            List<OrderItemCreateDto> items = resolveOrderItems(createDto.getSelectedProducts());
             log.info("Converted items: {}", items);
             createDto.setItems(items);
         } else {
@@ -88,9 +113,6 @@ public class OrderService {
             throw new OrderItemsNotSelectedException();
         }
 
-        // 발주번호 생성
-        String orderNumber = generateOrderNumber();
-
         // 할인율 계산 - 예외 처리 추가
         BigDecimal discountRate;
         try {
@@ -102,10 +124,10 @@ public class OrderService {
         }
         final BigDecimal finalDiscountRate = discountRate;
 
-        // 금액 계산
-        BigDecimal totalAmount = calculateTotalAmount(createDto);
-        BigDecimal discountAmount = totalAmount.multiply(discountRate).divide(BigDecimal.valueOf(100), 2, BigDecimal.ROUND_HALF_UP);
-        BigDecimal finalAmount = totalAmount.subtract(discountAmount);
+        // 금액 계산 (고정 소수점, 저장 시에만 BigDecimal 변환)
+        Money totalAmount = calculateTotalAmount(createDto);
+        Money discountAmount = discountCalculator.applyDiscount(totalAmount, Money.basisPoints(discountRate));
+        Money finalAmount = discountCalculator.calculateFinalAmount(totalAmount, discountAmount);
 
         // 발주 등록
         Order order = Order.builder()
@@ -113,10 +135,10 @@ public class OrderService {
                 .userSeq(user.getUserSeq())
                 .orderNumber(orderNumber)
                 .orderDate(LocalDateTime.now())
-                .totalAmount(totalAmount)
+                .totalAmount(totalAmount.toBigDecimal())
                 .discountRate(discountRate)
-                .discountAmount(discountAmount)
-                .finalAmount(finalAmount)
+                .discountAmount(discountAmount.toBigDecimal())
+                .finalAmount(finalAmount.toBigDecimal())
                 .build();
 
         order.approve("SYSTEM"); // 자동 승인
@@ -124,36 +146,40 @@ public class OrderService {
 
         // 발주 상품 등록 (단순화: 할인은 order 레벨에서만 적용)
         List<OrderItem> orderItems = createDto.getItems().stream()
-                .map(itemDto -> {
-                    BigDecimal lineTotal = itemDto.getUnitPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity()));
-
-                    return OrderItem.builder()
-                            .orderSeq(order.getOrderSeq())
-                            .productSeq(itemDto.getProductSeq())
-                            .quantity(itemDto.getQuantity())
-                            .unitPrice(itemDto.getUnitPrice())
-                            .build();
-                })
+                .map(itemDto -> OrderItem.builder()
+                        .orderSeq(order.getOrderSeq())
+                        .productSeq(itemDto.getProductSeq())
+                        .quantity(itemDto.getQuantity())
+                        .unitPrice(itemDto.getUnitPrice())
+                        .build())
                 .toList();
 
         orderItemMapper.insertBatch(orderItems);
 
-        // 주문 승인 후 재고 예약
-        createDto.getItems().forEach(itemDto -> {
-            inventoryService.reserveStock(itemDto.getProductSeq(), itemDto.getQuantity());
-        });
+        // 주문 승인 후 재고 일괄 예약
+        inventoryService.reserveStocks(createDto.getItems().stream()
+                .map(itemDto -> new StockQuantityDto(itemDto.getProductSeq(), itemDto.getQuantity()))
+                .toList());
+
+        // 월별 발주 집계 반영 (집계 행 잠금 시간을 줄이기 위해 마지막에 실행)
+        orderSummaryAggregator.recordOrderCreated(order);
 
         return convertToDto(orderMapper.findById(order.getOrderSeq()).orElseThrow());
     }
 
-    public List<OrderDto> findByCompany(Long companySeq, OrderSearchDto searchDto) {
-        return orderMapper.findByCompanySeq(companySeq, searchDto).stream()
-                .map(this::convertToDto)
-                .toList();
+    public Slice<OrderDto> findByCompany(Long companySeq, OrderSearchDto searchDto) {
+        return SearchSlice.of(orderMapper.findByCompanySeq(companySeq, searchDto), searchDto, this::convertToDto);
+    }
+
+    public Slice<OrderDto> findAll(OrderSearchDto searchDto) {
+        return SearchSlice.of(orderMapper.findAll(searchDto), searchDto, this::convertToDto);
     }
 
-    public List<OrderDto> findAll(OrderSearchDto searchDto) {
-        return orderMapper.findAll(searchDto).stream()
+    /**
+     * 회사별 최근 발주 목록 (대시보드용)
+     */
+    public List<OrderDto> findRecentByCompany(Long companySeq, int limit) {
+        return orderMapper.findRecentByCompanySeq(companySeq, limit).stream()
                 .map(this::convertToDto)
                 .toList();
     }
@@ -173,6 +199,30 @@ public class OrderService {
         return orderDto;
     }
 
+    /**
+     * 청구월(입금예정일 기준) 인보이스 확정 발주 목록 한 페이지 (상품 목록 포함)
+     * 발주 순서 키셋 페이지로 limit건씩 조회하고, 발주 상품은 그 페이지의 발주만 IN 쿼리로 조회해 발주별로 나눔
+     *
+     * @param companySeq 회사 (null이면 전체)
+     * @param afterOrderSeq 이전 페이지의 마지막 발주 (null이면 처음부터)
+     */
+    public List<OrderDto> findInvoicedOrders(YearMonth billingMonth, Long companySeq, Long afterOrderSeq, int limit) {
+        List<OrderDto> orders = orderMapper.findInvoicedByPaymentDueDate(
+                        billingMonth.atDay(1), billingMonth.atEndOfMonth(), companySeq, afterOrderSeq, limit).stream()
+                .map(this::convertToDto)
+                .toList();
+        if (orders.isEmpty()) {
+            return orders;
+        }
+
+        Map<Long, List<io.goorm.board.dto.order.OrderItemDto>> itemsByOrder = orderItemMapper.findByOrderSeqs(
+                        orders.stream().map(OrderDto::getOrderSeq).toList()).stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderSeq,
+                        Collectors.mapping(this::convertToItemDto, Collectors.toList())));
+        orders.forEach(order -> order.setOrderItems(itemsByOrder.getOrDefault(order.getOrderSeq(), List.of())));
+        return orders;
+    }
+
     /**
      * 배송 완료 처리
      */
@@ -203,6 +253,103 @@ public class OrderService {
     }
 
 
+    /**
+     * 일괄 배송 완료 처리
+     * 발주/상품/재고를 집합 단위로 조회하고, 처리 가능한 발주만 한 번의 UPDATE와 일괄 INSERT로 완료 처리
+     * 처리 불가 발주(미존재, 이미 완료, 재고 부족)는 건너뛰고 사유를 결과에 담음
+     */
+    @RetryOnDeadlock
+    @Transactional(rollbackFor = Exception.class)
+    @LogExecution(operation = "COMPLETE_DELIVERY_BATCH", resource = "ORDER")
+    public DeliveryCompletionResultDto completeDeliveries(List<Long> orderSeqs, User user) {
+        DeliveryCompletionResultDto result = new DeliveryCompletionResultDto();
+        if (orderSeqs == null || orderSeqs.isEmpty()) {
+            return result;
+        }
+
+        List<Long> requestedSeqs = orderSeqs.stream().distinct().sorted().toList();
+
+        // 발주 일괄 잠금 조회 (order_seq 순서)
+        Map<Long, Order> orders = orderMapper.lockByIds(requestedSeqs).stream()
+                .collect(Collectors.toMap(Order::getOrderSeq, Function.identity()));
+
+        List<Long> candidateSeqs = new ArrayList<>();
+        for (Long orderSeq : requestedSeqs) {
+            Order order = orders.get(orderSeq);
+            if (order == null) {
+                result.getFailures().put(orderSeq, "발주를 찾을 수 없습니다.");
+            } else if (order.getDeliveryStatus() != DeliveryStatus.ORDER_COMPLETED) {
+                result.getFailures().put(orderSeq, "이미 배송 완료된 발주입니다.");
+            } else {
+                candidateSeqs.add(orderSeq);
+            }
+        }
+
+        if (candidateSeqs.isEmpty()) {
+            return result;
+        }
+
+        // 발주 상품 일괄 조회 (categorySeq 포함)
+        Map<Long, List<OrderItem>> itemsByOrder = orderItemMapper.findByOrderSeqs(candidateSeqs).stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderSeq));
+
+        // 재고 일괄 잠금 조회 후 발주 순서대로 메모리에서 차감 가능 여부 판정
+        Map<Long, Inventory> inventories = inventoryService.lockInventoryMap(itemsByOrder.values().stream()
+                .flatMap(List::stream)
+                .map(OrderItem::getProductSeq)
+                .collect(Collectors.toSet()));
+        Map<Long, Integer> remainingStock = new HashMap<>();
+        inventories.forEach((productSeq, inventory) -> remainingStock.put(productSeq,
+                inventory.getCurrentStock() != null ? inventory.getCurrentStock() : 0));
+
+        List<Order> completedOrders = new ArrayList<>();
+        Map<Long, Integer> consumeQuantities = new TreeMap<>();
+        for (Long orderSeq : candidateSeqs) {
+            Map<Long, Integer> required = new TreeMap<>();
+            itemsByOrder.getOrDefault(orderSeq, List.of())
+                    .forEach(item -> required.merge(item.getProductSeq(), item.getQuantity(), Integer::sum));
+
+            String shortage = required.entrySet().stream()
+                    .filter(entry -> remainingStock.getOrDefault(entry.getKey(), 0) < entry.getValue())
+                    .map(entry -> String.format("상품 %d(요청 %d / 재고 %d)",
+                            entry.getKey(), entry.getValue(), remainingStock.getOrDefault(entry.getKey(), 0)))
+                    .collect(Collectors.joining(", "));
+
+            if (!shortage.isEmpty()) {
+                result.getFailures().put(orderSeq, "재고가 부족합니다. " + shortage);
+                continue;
+            }
+
+            required.forEach((productSeq, quantity) -> {
+                remainingStock.merge(productSeq, -quantity, Integer::sum);
+                consumeQuantities.merge(productSeq, quantity, Integer::sum);
+            });
+            completedOrders.add(orders.get(orderSeq));
+        }
+
+        if (completedOrders.isEmpty()) {
+            return result;
+        }
+
+        // 배송 완료 정보는 엔티티 규칙으로 한 번 계산하여 전체 발주에 동일 적용
+        Order template = new Order();
+        template.completeDelivery(user.getUserSeq(), user.getEmail());
+        orderMapper.updateDeliveryCompleteBatch(completedOrders.stream().map(Order::getOrderSeq).toList(), template);
+
+        // 재고 일괄 소모 및 출고 이력 일괄 기록
+        inventoryService.consumeStocks(consumeQuantities.entrySet().stream()
+                .map(entry -> new StockQuantityDto(entry.getKey(), entry.getValue()))
+                .toList());
+        inventoryService.recordOrderConsumptions(completedOrders, itemsByOrder, user.getUserSeq(), user.getEmail());
+
+        completedOrders.forEach(order -> result.getCompletedOrderNumbers().add(order.getOrderNumber()));
+
+        log.info("일괄 배송 완료 처리 - 요청: {}건, 성공: {}건, 실패: {}건, 사용자: {}",
+                requestedSeqs.size(), result.getCompletedCount(), result.getFailedCount(), user.getEmail());
+
+        return result;
+    }
+
     /**
      * 배송 시작 처리
      */
@@ -260,48 +407,67 @@ public class OrderService {
         }
     }
 
-    private BigDecimal calculateTotalAmount(OrderCreateDto createDto) {
-        return createDto.getItems().stream()
-                .map(item -> item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * 선택 상품을 발주 상품으로 일괄 변환
+     * 상품/재고를 각각 한 번의 IN 쿼리로 조회한 뒤 단가와 재고를 메모리에서 검증
+     */
+    private List<OrderItemCreateDto> resolveOrderItems(List<OrderProductSelectionDto> selectedProducts) {
+        List<OrderProductSelectionDto> selections = selectedProducts.stream()
+                .filter(OrderProductSelectionDto::isSelected)
+                .toList();
+
+        if (selections.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productSeqs = selections.stream()
+                .map(OrderProductSelectionDto::getProductSeq)
+                .distinct()
+                .toList();
+
+        // 상품 정보 일괄 조회
+        Map<Long, Product> products = productMapper.findByIds(productSeqs).stream()
+                .collect(Collectors.toMap(Product::getProductSeq, Function.identity()));
+
+        // 재고 일괄 조회
+        Map<Long, Inventory> inventories = inventoryService.findInventoryMap(productSeqs);
+
+        return selections.stream()
+                .map(selection -> {
+                    Product product = products.get(selection.getProductSeq());
+                    if (product == null) {
+                        throw new ProductNotFoundException(selection.getProductSeq());
+                    }
+
+                    // 재고 체크
+                    inventoryService.checkStock(product, inventories.get(selection.getProductSeq()), selection.getQuantity());
+
+                    return OrderItemCreateDto.builder()
+                            .productSeq(selection.getProductSeq())
+                            .quantity(selection.getQuantity())
+                            .unitPrice(product.getUnitPrice()) // DB에서 조회한 실제 단가
+                            .build();
+                })
+                .toList();
+    }
+
+    private Money calculateTotalAmount(OrderCreateDto createDto) {
+        Money total = Money.ZERO;
+        for (OrderItemCreateDto item : createDto.getItems()) {
+            total = total.plus(Money.of(item.getUnitPrice()).times(item.getQuantity()));
+        }
+        return total;
     }
 
     private String generateOrderNumber() {
-        String datePrefix = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        int sequence = orderMapper.findMaxDailySequence(datePrefix) + 1;
-        return String.format("%s%04d", datePrefix, sequence);
+        return orderNumberAllocator.nextOrderNumber();
     }
 
     private OrderDto convertToDto(Order order) {
-        return OrderDto.builder()
-                .orderSeq(order.getOrderSeq())
-                .companySeq(order.getCompanySeq())
-                .companyName(order.getCompanyName())
-                .userSeq(order.getUserSeq())
-                .userName(order.getUserName())
-                .orderNumber(order.getOrderNumber())
-                .orderDate(order.getOrderDate())
-                .status(order.getStatus())
-                .deliveryStatus(order.getDeliveryStatus())
-                .totalAmount(order.getTotalAmount())
-                .discountAmount(order.getDiscountAmount())
-                .finalAmount(order.getFinalAmount())
-                .discountRate(order.getDiscountRate())
-                .notes(order.getNotes())
-                .createdAt(order.getCreatedAt())
-                .build();
+        return OrderDto.from(order);
     }
 
     private io.goorm.board.dto.order.OrderItemDto convertToItemDto(OrderItem orderItem) {
-        return io.goorm.board.dto.order.OrderItemDto.builder()
-                .orderItemSeq(orderItem.getOrderItemSeq())
-                .orderSeq(orderItem.getOrderSeq())
-                .productSeq(orderItem.getProductSeq())
-                .productName(orderItem.getProductName())
-                .productCode(orderItem.getProductCode())
-                .categoryName(orderItem.getCategoryName())
-                .quantity(orderItem.getQuantity())
-                .unitPrice(orderItem.getUnitPrice())
-                .build();
+        return io.goorm.board.dto.order.OrderItemDto.from(orderItem);
     }
-}
\ No newline at end of file
+}
@@ -2,9 +2,13 @@ package io.goorm.board.service;
 
 import io.goorm.board.dto.product.ProductCreateDto;
 import io.goorm.board.dto.product.ProductDto;
+import io.goorm.board.dto.product.ProductFacetDto;
 import io.goorm.board.dto.product.ProductSearchDto;
 import io.goorm.board.dto.product.ProductUpdateDto;
+import io.goorm.board.service.excel.ExportFormat;
 import org.springframework.data.domain.Page;
+
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -37,6 +41,11 @@ public interface ProductService {
      */
     Page<ProductDto> findAll(ProductSearchDto searchDto);
 
+    /**
+     * 검색 조건 기준 패싯 값별 상품 수 (검색 인덱스를 사용할 수 없으면 null)
+     */
+    ProductFacetDto getFacets(ProductSearchDto searchDto);
+
     /**
      * 상품 코드 중복 확인
      */
@@ -73,12 +82,17 @@ public interface ProductService {
     int countBySupplier(Long supplierSeq);
 
     /**
-     * Excel 내보내기용 상품 목록 조회 (페이징 없음)
+     * 상품 목록 Excel 내보내기
      */
-    List<ProductDto> findAllForExport(ProductSearchDto searchDto);
+    byte[] exportToExcel(ProductSearchDto searchDto);
 
     /**
-     * 상품 목록 Excel 내보내기
+     * 상품 목록 Excel 내보내기 (Cursor 기반 스트리밍, 출력 스트림에 바로 기록)
      */
-    byte[] exportToExcel(ProductSearchDto searchDto);
+    void exportToExcel(ProductSearchDto searchDto, OutputStream outputStream);
+
+    /**
+     * 상품 목록 내보내기 (XLSX/CSV/Arrow, 출력 스트림에 바로 기록)
+     */
+    void export(ProductSearchDto searchDto, ExportFormat format, OutputStream outputStream);
 }
\ No newline at end of file
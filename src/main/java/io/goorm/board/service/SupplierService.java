@@ -2,8 +2,10 @@ package io.goorm.board.service;
 
 import io.goorm.board.dto.supplier.*;
 import io.goorm.board.enums.SupplierStatus;
+import io.goorm.board.service.excel.ExportFormat;
 import org.springframework.data.domain.Page;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -32,14 +34,19 @@ public interface SupplierService {
     Page<SupplierDto> searchSuppliers(SupplierSearchDto searchDto);
 
     /**
-     * Excel 내보내기용 공급업체 목록 조회 (페이징 없음)
+     * 공급업체 목록 Excel 내보내기
      */
-    List<SupplierDto> findAllForExport(SupplierSearchDto searchDto);
+    byte[] exportToExcel(SupplierSearchDto searchDto);
 
     /**
-     * 공급업체 목록 Excel 내보내기
+     * 공급업체 목록 Excel 내보내기 (Cursor 기반 스트리밍, 출력 스트림에 바로 기록)
      */
-    byte[] exportToExcel(SupplierSearchDto searchDto);
+    void exportToExcel(SupplierSearchDto searchDto, OutputStream outputStream);
+
+    /**
+     * 공급업체 목록 내보내기 (XLSX/CSV/Arrow, 출력 스트림에 바로 기록)
+     */
+    void export(SupplierSearchDto searchDto, ExportFormat format, OutputStream outputStream);
 
     /**
      * 활성 공급업체 목록 조회
@@ -65,9 +72,4 @@ public interface SupplierService {
      * 공급업체 상태 목록 조회
      */
     List<SupplierStatus> getSupplierStatuses();
-
-    /**
-     * 엑셀 다운로드용 데이터 조회 (기존 호환성)
-     */
-    List<SupplierExcelDto> findSuppliersForExcel(SupplierSearchDto searchDto);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package io.goorm.board.service.discount;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * 회사별 연간 할인 정보 (캐시 항목, 불변)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CompanyDiscountRate {
+
+    private final Long companySeq;
+    private final int applyYear;
+    private final DiscountCalculator.DiscountGrade grade;
+    private final BigDecimal discountRate;
+}
@@ -1,5 +1,6 @@
 package io.goorm.board.service.discount;
 
+import io.goorm.board.util.Money;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -13,27 +14,48 @@ import java.math.BigDecimal;
 @Slf4j
 public class DiscountCalculator {
 
+    // 등급 기준 금액과 권장 할인율 (호출마다 새로 만들지 않도록 상수로 보관)
+    private static final Money PREMIUM_THRESHOLD = Money.ofWon(150_000_000);
+    private static final Money GOLD_THRESHOLD = Money.ofWon(80_000_000);
+    private static final Money SILVER_THRESHOLD = Money.ofWon(30_000_000);
+    private static final Money BRONZE_THRESHOLD = Money.ofWon(10_000_000);
+
+    private static final BigDecimal PREMIUM_RATE = new BigDecimal("6.0");
+    private static final BigDecimal GOLD_RATE = new BigDecimal("5.0");
+    private static final BigDecimal SILVER_RATE = new BigDecimal("3.0");
+    private static final BigDecimal BRONZE_RATE = new BigDecimal("2.0");
+    private static final BigDecimal BASIC_RATE = new BigDecimal("1.0");
+
+    // 할인율 상한 100%
+    private static final long MAX_RATE_BASIS_POINTS = 10_000;
+
     /**
-     * 주문 금액에 할인율 적용
+     * 주문 금액에 할인율 적용 (DB/화면 경계용 BigDecimal 버전)
      */
     public BigDecimal applyDiscount(BigDecimal orderAmount, BigDecimal discountRate) {
         if (orderAmount == null || discountRate == null) {
             return BigDecimal.ZERO;
         }
 
-        if (orderAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (orderAmount.signum() <= 0 || discountRate.signum() <= 0) {
             return BigDecimal.ZERO;
         }
 
-        if (discountRate.compareTo(BigDecimal.ZERO) <= 0) {
-            return BigDecimal.ZERO;
+        return applyDiscount(Money.of(orderAmount), Money.basisPoints(discountRate)).toBigDecimal();
+    }
+
+    /**
+     * 주문 금액에 할인율 적용 (할인 금액, 소수 둘째 자리에서 HALF_UP)
+     *
+     * @param rateBasisPoints 할인율 (bp, 5% = 500)
+     */
+    public Money applyDiscount(Money orderAmount, long rateBasisPoints) {
+        if (!orderAmount.isPositive() || rateBasisPoints <= 0) {
+            return Money.ZERO;
         }
 
         // 할인율이 100%를 초과하지 않도록 제한
-        BigDecimal effectiveRate = discountRate.min(new BigDecimal("100"));
-
-        return orderAmount.multiply(effectiveRate)
-                .divide(new BigDecimal("100"), 2, BigDecimal.ROUND_HALF_UP);
+        return orderAmount.applyRate(Math.min(rateBasisPoints, MAX_RATE_BASIS_POINTS));
     }
 
     /**
@@ -54,31 +76,48 @@ public class DiscountCalculator {
         return finalAmount.max(BigDecimal.ZERO);
     }
 
+    /**
+     * 최종 결제 금액 계산 (원금 - 할인금액, 음수면 0)
+     */
+    public Money calculateFinalAmount(Money orderAmount, Money discountAmount) {
+        return orderAmount.minus(discountAmount).max(Money.ZERO);
+    }
+
     /**
      * 전년도 구매액 기준 할인율 등급 판정
      */
     public DiscountGrade evaluateDiscountGrade(BigDecimal previousYearAmount) {
-        if (previousYearAmount == null || previousYearAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (previousYearAmount == null || previousYearAmount.signum() <= 0) {
+            return DiscountGrade.NONE;
+        }
+        return evaluateDiscountGrade(Money.of(previousYearAmount));
+    }
+
+    /**
+     * 전년도 구매액 기준 할인율 등급 판정
+     */
+    public DiscountGrade evaluateDiscountGrade(Money previousYearAmount) {
+        if (!previousYearAmount.isPositive()) {
             return DiscountGrade.NONE;
         }
 
         // 1억 5천만원 이상: 프리미엄
-        if (previousYearAmount.compareTo(new BigDecimal("150000000")) >= 0) {
+        if (previousYearAmount.isGreaterThanOrEqual(PREMIUM_THRESHOLD)) {
             return DiscountGrade.PREMIUM;
         }
 
         // 8천만원 이상: 골드
-        if (previousYearAmount.compareTo(new BigDecimal("80000000")) >= 0) {
+        if (previousYearAmount.isGreaterThanOrEqual(GOLD_THRESHOLD)) {
             return DiscountGrade.GOLD;
         }
 
         // 3천만원 이상: 실버
-        if (previousYearAmount.compareTo(new BigDecimal("30000000")) >= 0) {
+        if (previousYearAmount.isGreaterThanOrEqual(SILVER_THRESHOLD)) {
             return DiscountGrade.SILVER;
         }
 
         // 1천만원 이상: 브론즈
-        if (previousYearAmount.compareTo(new BigDecimal("10000000")) >= 0) {
+        if (previousYearAmount.isGreaterThanOrEqual(BRONZE_THRESHOLD)) {
             return DiscountGrade.BRONZE;
         }
 
@@ -89,21 +128,14 @@ public class DiscountCalculator {
      * 할인율 등급별 권장 할인율 계산
      */
     public BigDecimal getRecommendedDiscountRate(DiscountGrade grade) {
-        switch (grade) {
-            case PREMIUM:
-                return new BigDecimal("6.0");
-            case GOLD:
-                return new BigDecimal("5.0");
-            case SILVER:
-                return new BigDecimal("3.0");
-            case BRONZE:
-                return new BigDecimal("2.0");
-            case BASIC:
-                return new BigDecimal("1.0");
-            case NONE:
-            default:
-                return BigDecimal.ZERO;
-        }
+        return switch (grade) {
+            case PREMIUM -> PREMIUM_RATE;
+            case GOLD -> GOLD_RATE;
+            case SILVER -> SILVER_RATE;
+            case BRONZE -> BRONZE_RATE;
+            case BASIC -> BASIC_RATE;
+            case NONE -> BigDecimal.ZERO;
+        };
     }
 
 
@@ -0,0 +1,144 @@
+package io.goorm.board.service.excel;
+
+import io.goorm.board.util.ExcelUtil.CellType;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Apache Arrow IPC 파일 내보내기
+ * STRING 컬럼은 Utf8, NUMERIC 컬럼은 Float64(XLSX 숫자 셀과 같은 정밀도)로 기록하고
+ * BATCH_SIZE 행마다 레코드 배치를 내보내므로 메모리에는 한 배치만 유지됨
+ */
+public final class ArrowExportWriter {
+
+    // 레코드 배치당 행 수
+    private static final int BATCH_SIZE = 4096;
+
+    private ArrowExportWriter() {
+    }
+
+    /**
+     * @return 기록한 데이터 행 수
+     */
+    public static <T> int write(String sheetName, String[] headers, Iterator<T> data,
+                                Function<T, Object[]> rowMapper, CellType[] columnTypes,
+                                OutputStream outputStream) throws IOException {
+        Schema schema = createSchema(sheetName, headers, columnTypes);
+
+        // ArrowFileWriter는 close 시 채널(= 출력 스트림)까지 닫으므로 호출자의 스트림을 보호
+        try (BufferAllocator allocator = new RootAllocator();
+             VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+             ArrowFileWriter writer = new ArrowFileWriter(root, null,
+                     Channels.newChannel(CloseShieldOutputStream.wrap(outputStream)))) {
+
+            root.allocateNew();
+            writer.start();
+
+            List<FieldVector> vectors = root.getFieldVectors();
+            int rowCount = 0;
+            int batchRow = 0;
+            while (data.hasNext()) {
+                Object[] rowData = rowMapper.apply(data.next());
+                for (int j = 0; j < vectors.size(); j++) {
+                    setValue(vectors.get(j), batchRow, j < rowData.length ? rowData[j] : null);
+                }
+                batchRow++;
+                rowCount++;
+
+                if (batchRow == BATCH_SIZE) {
+                    writeBatch(root, writer, batchRow);
+                    batchRow = 0;
+                }
+            }
+
+            // 남은 행 (데이터가 없어도 스키마만 있는 빈 배치는 기록)
+            if (batchRow > 0 || rowCount == 0) {
+                writeBatch(root, writer, batchRow);
+            }
+
+            writer.end();
+            outputStream.flush();
+            return rowCount;
+        }
+    }
+
+    private static Schema createSchema(String sheetName, String[] headers, CellType[] columnTypes) {
+        List<Field> fields = new ArrayList<>(headers.length);
+        for (int i = 0; i < headers.length; i++) {
+            CellType cellType = (columnTypes != null && i < columnTypes.length)
+                ? columnTypes[i] : CellType.STRING;
+            ArrowType arrowType = cellType == CellType.NUMERIC
+                ? new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)
+                : new ArrowType.Utf8();
+            fields.add(new Field(headers[i], FieldType.nullable(arrowType), null));
+        }
+        return new Schema(fields, Map.of("name", sheetName));
+    }
+
+    private static void writeBatch(VectorSchemaRoot root, ArrowFileWriter writer, int rowCount) throws IOException {
+        root.setRowCount(rowCount);
+        writer.writeBatch();
+
+        // 버퍼는 유지한 채 다음 배치를 위해 값만 초기화
+        for (FieldVector vector : root.getFieldVectors()) {
+            vector.reset();
+        }
+    }
+
+    private static void setValue(FieldVector vector, int index, Object value) {
+        if (vector instanceof Float8Vector numeric) {
+            Double number = toDouble(value);
+            if (number == null) {
+                numeric.setNull(index);
+            } else {
+                numeric.setSafe(index, number);
+            }
+            return;
+        }
+
+        VarCharVector text = (VarCharVector) vector;
+        if (value == null) {
+            text.setNull(index);
+        } else {
+            text.setSafe(index, value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 숫자 변환 (문자열로 된 숫자도 파싱, 변환할 수 없는 값은 null)
+     */
+    private static Double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
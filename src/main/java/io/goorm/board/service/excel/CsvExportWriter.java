@@ -0,0 +1,115 @@
+package io.goorm.board.service.excel;
+
+import io.goorm.board.util.ExcelUtil.CellType;
+import org.apache.poi.ss.util.NumberToTextConverter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * CSV 내보내기 (RFC 4180)
+ * 스타일/폭 계산 없이 행을 바로 문자열로 기록하므로 대용량 추출에서 XLSX보다 훨씬 가벼움
+ */
+public final class CsvExportWriter {
+
+    // Excel이 UTF-8로 인식하도록 파일 앞에 붙이는 BOM
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private CsvExportWriter() {
+    }
+
+    /**
+     * @return 기록한 데이터 행 수
+     */
+    public static <T> int write(String[] headers, Iterator<T> data, Function<T, Object[]> rowMapper,
+                                CellType[] columnTypes, OutputStream outputStream) throws IOException {
+        outputStream.write(UTF8_BOM);
+
+        // 출력 스트림은 호출자가 닫으므로 flush만 수행
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        // 헤더
+        for (int i = 0; i < headers.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(writer, headers[i]);
+        }
+        writer.write(LINE_SEPARATOR);
+
+        // 데이터
+        int rowCount = 0;
+        while (data.hasNext()) {
+            Object[] rowData = rowMapper.apply(data.next());
+            for (int j = 0; j < rowData.length; j++) {
+                if (j > 0) {
+                    writer.write(',');
+                }
+                CellType cellType = (columnTypes != null && j < columnTypes.length)
+                    ? columnTypes[j] : CellType.STRING;
+                writeField(writer, formatValue(rowData[j], cellType));
+            }
+            writer.write(LINE_SEPARATOR);
+            rowCount++;
+        }
+
+        writer.flush();
+        return rowCount;
+    }
+
+    /**
+     * 숫자 컬럼은 지수 표기 없이 Excel 표시 값과 같은 문자열로 변환
+     */
+    private static String formatValue(Object value, CellType cellType) {
+        if (value == null) {
+            return "";
+        }
+        if (cellType == CellType.NUMERIC) {
+            if (value instanceof BigDecimal decimal) {
+                return decimal.toPlainString();
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return NumberToTextConverter.toText(((Number) value).doubleValue());
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * 구분자/따옴표/줄바꿈이 포함된 값만 따옴표로 감싸고 내부 따옴표는 두 번 기록
+     */
+    private static void writeField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        boolean needsQuote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                needsQuote = true;
+                break;
+            }
+        }
+
+        if (!needsQuote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,78 @@
+package io.goorm.board.service.excel;
+
+import io.goorm.board.util.ExcelUtil;
+import io.goorm.board.util.ExcelUtil.CellType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * 목록 내보내기 파일 형식
+ * 모든 형식이 같은 헤더/rowMapper/CellType 계약을 받아 출력 스트림에 행 단위로 기록하므로
+ * 기존 Excel 내보내기는 형식만 바꿔 CSV, Arrow로도 내려받을 수 있음
+ */
+public enum ExportFormat {
+
+    /**
+     * 서식이 적용된 Excel (SXSSF)
+     */
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") {
+        @Override
+        public <T> int write(String sheetName, String[] headers, Iterator<T> data,
+                             Function<T, Object[]> rowMapper, CellType[] columnTypes,
+                             OutputStream outputStream) throws IOException {
+            return ExcelUtil.writeExcel(sheetName, headers, data, rowMapper, columnTypes, outputStream);
+        }
+    },
+
+    /**
+     * UTF-8 BOM CSV (Excel에서 바로 열어도 한글이 깨지지 않음)
+     */
+    CSV("csv", "text/csv; charset=UTF-8") {
+        @Override
+        public <T> int write(String sheetName, String[] headers, Iterator<T> data,
+                             Function<T, Object[]> rowMapper, CellType[] columnTypes,
+                             OutputStream outputStream) throws IOException {
+            return CsvExportWriter.write(headers, data, rowMapper, columnTypes, outputStream);
+        }
+    },
+
+    /**
+     * Apache Arrow IPC 파일 (BI 도구/pandas/DuckDB 등에서 바로 읽는 컬럼 기반 형식)
+     */
+    ARROW("arrow", "application/vnd.apache.arrow.file") {
+        @Override
+        public <T> int write(String sheetName, String[] headers, Iterator<T> data,
+                             Function<T, Object[]> rowMapper, CellType[] columnTypes,
+                             OutputStream outputStream) throws IOException {
+            return ArrowExportWriter.write(sheetName, headers, data, rowMapper, columnTypes, outputStream);
+        }
+    };
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 데이터를 출력 스트림에 기록 (출력 스트림은 닫지 않음)
+     *
+     * @return 기록한 데이터 행 수
+     */
+    public abstract <T> int write(String sheetName, String[] headers, Iterator<T> data,
+                                  Function<T, Object[]> rowMapper, CellType[] columnTypes,
+                                  OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,81 @@
+package io.goorm.board.service.excel;
+
+import io.goorm.board.enums.ExportJobStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 목록 내보내기 작업 (메모리 보관)
+ * 상태 변경은 워커 스레드, 조회는 요청 스레드에서 일어나므로 가변 필드는 volatile
+ */
+@Getter
+public class ExportJob {
+
+    private final String jobId;
+    private final String exportName;
+    private final ExportFormat format;
+    private final LocalDateTime createdAt;
+
+    private volatile ExportJobStatus status = ExportJobStatus.PENDING;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile LocalDateTime expiresAt;
+    private volatile Path filePath;
+    private volatile long fileSize;
+    // URL 인코딩된 다운로드 파일명
+    private volatile String downloadFilename;
+    private volatile String errorMessage;
+
+    ExportJob(String jobId, String exportName, ExportFormat format) {
+        this.jobId = jobId;
+        this.exportName = exportName;
+        this.format = format;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    void markRunning() {
+        this.startedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.RUNNING;
+    }
+
+    void markCompleted(Path filePath, long fileSize, String downloadFilename, LocalDateTime expiresAt) {
+        this.filePath = filePath;
+        this.fileSize = fileSize;
+        this.downloadFilename = downloadFilename;
+        this.expiresAt = expiresAt;
+        this.finishedAt = LocalDateTime.now();
+        // 파일 정보를 모두 기록한 뒤 상태를 바꿔 조회 스레드가 완료 상태에서 빈 경로를 보지 않도록 함
+        this.status = ExportJobStatus.COMPLETED;
+    }
+
+    void markFailed(String errorMessage, LocalDateTime expiresAt) {
+        this.errorMessage = errorMessage;
+        this.expiresAt = expiresAt;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.FAILED;
+    }
+
+    /**
+     * 캐시 만료 여부 (완료/실패 후 TTL 경과)
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    /**
+     * 같은 조건의 요청이 이 작업을 그대로 재사용할 수 있는지 여부
+     * 대기/생성 중이거나 만료 전 완료 작업만 재사용하고, 실패 작업은 새로 생성
+     */
+    boolean isReusable(LocalDateTime now) {
+        return status != ExportJobStatus.FAILED && !isExpired(now);
+    }
+
+    /**
+     * 다운로드 가능 여부
+     */
+    public boolean isDownloadable() {
+        return status == ExportJobStatus.COMPLETED && !isExpired(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,229 @@
+package io.goorm.board.service.excel;
+
+import io.goorm.board.dto.common.BaseSearchConditionDto;
+import io.goorm.board.exception.excel.ExcelExportException;
+import io.goorm.board.exception.excel.ExcelExportRejectedException;
+import io.goorm.board.util.ExcelUtil;
+import io.goorm.board.util.FileUploadUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 목록 내보내기 백그라운드 작업 서비스
+ * 요청 스레드는 작업만 등록하고, 제한된 워커 풀이 문서 루트(exports)에 파일을 생성
+ * 정규화된 검색 조건/형식이 같은 요청은 진행 중이거나 캐시된 작업 하나로 병합하고,
+ * 완료 파일은 TTL 동안 작업 ID로 다운로드 가능 (만료 작업은 등록/조회 시점에 정리)
+ */
+@Slf4j
+@Service
+public class ExportJobService {
+
+    private final FileUploadUtil fileUploadUtil;
+    private final MessageSource messageSource;
+    private final ThreadPoolTaskExecutor executor;
+    private final long cacheTtlMinutes;
+
+    // 검색 조건별 작업 (동일 요청 병합 + 결과 캐시)
+    private final Map<JobKey, ExportJob> jobsByKey = new ConcurrentHashMap<>();
+    // 작업 ID별 작업 (진행 조회/다운로드)
+    private final Map<String, ExportJob> jobsById = new ConcurrentHashMap<>();
+
+    public ExportJobService(FileUploadUtil fileUploadUtil,
+                            MessageSource messageSource,
+                            @Value("${app.export.workers:2}") int workers,
+                            @Value("${app.export.queue-capacity:20}") int queueCapacity,
+                            @Value("${app.export.cache-ttl-minutes:10}") long cacheTtlMinutes) {
+        this.fileUploadUtil = fileUploadUtil;
+        this.messageSource = messageSource;
+        this.cacheTtlMinutes = Math.max(1, cacheTtlMinutes);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(Math.max(1, workers));
+        this.executor.setMaxPoolSize(Math.max(1, workers));
+        this.executor.setQueueCapacity(Math.max(0, queueCapacity));
+        this.executor.setThreadNamePrefix("export-");
+        this.executor.initialize();
+    }
+
+    /**
+     * 내보내기 작업 등록
+     * 같은 조건의 작업이 대기/생성 중이거나 캐시되어 있으면 새로 만들지 않고 그 작업을 반환
+     *
+     * @param exportName 내보내기 이름 (다운로드 파일명 접두사)
+     * @param format 내보내기 형식
+     * @param searchDto 검색 조건 (작업 키로 쓰기 위해 정규화됨)
+     * @param renderer 출력 스트림에 파일 내용을 기록하는 함수 (워커 스레드에서 실행)
+     * @return 등록되었거나 병합된 작업
+     */
+    public ExportJob submit(String exportName, ExportFormat format, BaseSearchConditionDto searchDto,
+                            Consumer<OutputStream> renderer) {
+        evictExpired();
+
+        searchDto.normalizeForExport();
+        JobKey key = new JobKey(exportName, format, searchDto);
+        LocalDateTime now = LocalDateTime.now();
+
+        ExportJob[] created = new ExportJob[1];
+        ExportJob job = jobsByKey.compute(key, (k, existing) -> {
+            if (existing != null && existing.isReusable(now)) {
+                return existing;
+            }
+            created[0] = new ExportJob(UUID.randomUUID().toString(), exportName, format);
+            return created[0];
+        });
+
+        if (created[0] == null) {
+            log.debug("내보내기 작업 병합 - JobId: {}, 상태: {}, 조건: {}", job.getJobId(), job.getStatus(), searchDto);
+            return job;
+        }
+
+        jobsById.put(job.getJobId(), job);
+        log.info("내보내기 작업 등록 - JobId: {}, {} ({})", job.getJobId(), exportName, format);
+        dispatch(key, job, renderer, LocaleContextHolder.getLocale());
+        return job;
+    }
+
+    /**
+     * 작업 조회
+     */
+    public Optional<ExportJob> findJob(String jobId) {
+        evictExpired();
+        return Optional.ofNullable(jobsById.get(jobId));
+    }
+
+    /**
+     * 기동 시 이전 실행에서 남은 파일 정리 (작업 목록은 메모리에만 있으므로 모두 고아 파일)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cleanUpExportDirectory() {
+        try (Stream<Path> files = Files.list(fileUploadUtil.getExportDirectory())) {
+            for (Path file : files.toList()) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            log.warn("내보내기 디렉토리 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void dispatch(JobKey key, ExportJob job, Consumer<OutputStream> renderer, Locale locale) {
+        try {
+            executor.execute(() -> run(job, renderer, locale));
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 찬 경우 작업을 등록하지 않은 것으로 되돌림
+            jobsByKey.remove(key, job);
+            jobsById.remove(job.getJobId());
+            log.warn("내보내기 작업 실행 거부 - JobId: {}, {}", job.getJobId(), e.getMessage());
+            String message = messageSource.getMessage("excel.export.queue.full", null, locale);
+            throw new ExcelExportRejectedException(message, e);
+        }
+    }
+
+    /**
+     * 작업 실행 (워커 스레드)
+     * 임시 파일에 기록한 뒤 이름을 바꿔, 다운로드 시 작성 중인 파일이 노출되지 않도록 함
+     */
+    void run(ExportJob job, Consumer<OutputStream> renderer, Locale locale) {
+        // 메시지/날짜 포맷이 요청자 로케일을 따르도록 설정
+        LocaleContextHolder.setLocale(locale);
+        job.markRunning();
+
+        Path tempFile = null;
+        try {
+            Path directory = fileUploadUtil.getExportDirectory();
+            tempFile = directory.resolve(job.getJobId() + ".part");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                renderer.accept(out);
+            }
+
+            Path target = directory.resolve(job.getJobId() + "." + job.getFormat().getExtension());
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+
+            String downloadFilename = ExcelUtil.generateFileName(job.getExportName(), job.getFormat().getExtension());
+            job.markCompleted(target, Files.size(target), downloadFilename, expiresAt());
+            log.info("내보내기 작업 완료 - JobId: {}, 크기: {} bytes", job.getJobId(), job.getFileSize());
+
+        } catch (ExcelExportException e) {
+            // 이미 다국어 처리된 메시지 (데이터 없음 등)
+            fail(job, e.getMessage(), tempFile);
+        } catch (Exception e) {
+            log.error("내보내기 작업 실패 - JobId: {}", job.getJobId(), e);
+            fail(job, messageSource.getMessage("excel.creation.failed", null, locale), tempFile);
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    private void fail(ExportJob job, String message, Path tempFile) {
+        if (tempFile != null) {
+            deleteQuietly(tempFile);
+        }
+        // 실패 사유도 TTL 동안 조회 가능하도록 만료 시각 설정 (같은 조건 재요청 시에는 새 작업 생성)
+        job.markFailed(message, expiresAt());
+        log.warn("내보내기 작업 실패 - JobId: {}, 사유: {}", job.getJobId(), message);
+    }
+
+    private LocalDateTime expiresAt() {
+        return LocalDateTime.now().plusMinutes(cacheTtlMinutes);
+    }
+
+    /**
+     * 만료 작업과 파일 정리
+     */
+    private void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        jobsByKey.values().removeIf(job -> job.isExpired(now));
+
+        List<ExportJob> expired = jobsById.values().stream()
+                .filter(job -> job.isExpired(now))
+                .toList();
+        for (ExportJob job : expired) {
+            if (jobsById.remove(job.getJobId(), job) && job.getFilePath() != null) {
+                deleteQuietly(job.getFilePath());
+                log.debug("만료된 내보내기 파일 삭제 - JobId: {}", job.getJobId());
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            fileUploadUtil.deleteFileByPath(file.toString());
+        } catch (IOException e) {
+            log.warn("내보내기 파일 삭제 실패: {} - {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 병합 키 (검색 DTO의 equals/hashCode 사용)
+     */
+    private record JobKey(String exportName, ExportFormat format, BaseSearchConditionDto search) {
+    }
+}
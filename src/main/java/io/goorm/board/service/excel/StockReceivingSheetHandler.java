@@ -0,0 +1,183 @@
+package io.goorm.board.service.excel;
+
+import io.goorm.board.dto.excel.ExcelStockDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 입고처리 엑셀 시트의 SAX 이벤트를 행 단위 DTO로 변환하는 핸들러
+ * 한 번에 한 행의 셀 값만 보관하므로 파일 크기와 무관하게 메모리 사용량이 일정함
+ */
+@Slf4j
+public class StockReceivingSheetHandler implements SheetContentsHandler {
+
+    // 상품코드, 상품명, 입고수량, 입고단가, 비고
+    public static final int COLUMN_COUNT = 5;
+
+    private final Consumer<ExcelStockDto> rowConsumer;
+    private final BiConsumer<Integer, String> rowErrorConsumer;
+    private final String[] values = new String[COLUMN_COUNT];
+
+    private int currentRow;
+    private int parsedCount;
+    private int failedCount;
+
+    public StockReceivingSheetHandler(Consumer<ExcelStockDto> rowConsumer) {
+        this(rowConsumer, (rowNumber, message) -> { });
+    }
+
+    /**
+     * @param rowErrorConsumer 검증에 실패한 행 번호와 사유를 전달받음
+     */
+    public StockReceivingSheetHandler(Consumer<ExcelStockDto> rowConsumer,
+                                      BiConsumer<Integer, String> rowErrorConsumer) {
+        this.rowConsumer = rowConsumer;
+        this.rowErrorConsumer = rowErrorConsumer;
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+        currentRow = rowNum;
+        Arrays.fill(values, null);
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+        int column = cellReference != null
+                ? new CellReference(cellReference).getCol()
+                : -1;
+        if (column >= 0 && column < COLUMN_COUNT) {
+            values[column] = formattedValue;
+        }
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+        // 헤더 행 건너뛰기
+        if (rowNum == 0 || isEmptyRow(values)) {
+            return;
+        }
+
+        int rowNumber = currentRow + 1;
+        ExcelStockDto dto;
+        try {
+            dto = toDto(values, rowNumber);
+        } catch (IllegalArgumentException e) {
+            failedCount++;
+            log.warn("엑셀 {}행 파싱 실패: {}", rowNumber, e.getMessage());
+            // 개별 행 오류는 기록만 하고 계속 진행
+            rowErrorConsumer.accept(rowNumber, e.getMessage());
+            return;
+        }
+
+        rowConsumer.accept(dto);
+        parsedCount++;
+    }
+
+    public int getParsedCount() {
+        return parsedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * 셀 문자열 배열을 DTO로 변환 (상품코드 기반)
+     * SAX 경로와 .xls 경로가 같은 검증 규칙을 공유
+     */
+    public static ExcelStockDto toDto(String[] values, int rowNumber) {
+        ExcelStockDto dto = new ExcelStockDto();
+        dto.setRowNumber(rowNumber);
+
+        // 상품코드 (필수)
+        String productCode = trimToNull(values[0]);
+        if (productCode == null) {
+            throw new IllegalArgumentException("상품코드가 비어있습니다.");
+        }
+        dto.setProductCode(productCode);
+
+        // 상품명 (참조용, 선택사항)
+        String productName = trimToNull(values[1]);
+        dto.setProductName(productName != null ? productName : "");
+
+        // 입고수량 (필수)
+        Double quantity = parseNumber(values[2]);
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("입고수량이 올바르지 않습니다.");
+        }
+        dto.setQuantity(quantity.intValue());
+
+        // 입고단가 (필수)
+        Double unitPrice = parseNumber(values[3]);
+        if (unitPrice == null || unitPrice < 0) {
+            throw new IllegalArgumentException("입고단가가 올바르지 않습니다.");
+        }
+        dto.setUnitPrice(BigDecimal.valueOf(unitPrice));
+
+        // 비고 (선택)
+        String note = trimToNull(values[4]);
+        dto.setNote(note != null ? note : "");
+
+        return dto;
+    }
+
+    /**
+     * 빈 행 체크
+     */
+    public static boolean isEmptyRow(String[] values) {
+        for (String value : values) {
+            if (trimToNull(value) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Double parseNumber(String value) {
+        String trimmed = trimToNull(value);
+        if (trimmed == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(trimmed);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * 숫자 셀을 표시 형식(천 단위 구분 등) 없이 원본 값 그대로 문자열로 변환하는 포매터
+     * "1,200,000" 같은 서식 문자열이 수량/단가 파싱을 깨뜨리지 않도록 함
+     */
+    public static class RawValueFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            return NumberToTextConverter.toText(value);
+        }
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString,
+                                            boolean use1904Windowing) {
+            return NumberToTextConverter.toText(value);
+        }
+    }
+}
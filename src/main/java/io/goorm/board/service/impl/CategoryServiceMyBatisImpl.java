@@ -9,16 +9,21 @@ import io.goorm.board.exception.category.CategoryNotFoundException;
 import io.goorm.board.mapper.CategoryMapper;
 import io.goorm.board.service.CategoryService;
 import io.goorm.board.service.ExcelExportService;
+import io.goorm.board.service.product.SellableCatalogCache;
+import io.goorm.board.service.excel.ExportFormat;
+import io.goorm.board.service.paging.CountFreePager;
 import io.goorm.board.util.ExcelUtil.CellType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -33,6 +38,8 @@ public class CategoryServiceMyBatisImpl implements CategoryService {
 
     private final CategoryMapper categoryMapper;
     private final ExcelExportService excelExportService;
+    private final SellableCatalogCache sellableCatalogCache;
+    private final CountFreePager countFreePager;
 
     @Override
     @Transactional
@@ -88,6 +95,7 @@ public class CategoryServiceMyBatisImpl implements CategoryService {
             throw new RuntimeException("카테고리 수정에 실패했습니다.");
         }
 
+        sellableCatalogCache.invalidate();
         log.info("Category updated successfully with seq: {}", updateDto.getCategorySeq());
 
         // 수정된 카테고리 조회해서 반환
@@ -103,44 +111,31 @@ public class CategoryServiceMyBatisImpl implements CategoryService {
         return category;
     }
 
+    /**
+     * 카테고리 목록 조회 (exactCount 요청이 없으면 COUNT 쿼리 없이 추정 건수 사용)
+     */
     @Override
     public Page<CategoryDto> findAll(CategorySearchDto searchDto) {
-        // 페이징 정보
-        List<CategoryDto> categories = categoryMapper.findAll(searchDto);
-        int total = categoryMapper.count(searchDto);
-
-        PageRequest pageRequest = PageRequest.of(
-                Math.max(0, searchDto.getPage() - 1),
-                searchDto.getSize()
-        );
-
-        return new PageImpl<>(categories, pageRequest, total);
+        return countFreePager.page(searchDto, categoryMapper::findAll, categoryMapper::count);
     }
 
     @Override
-    public List<CategoryDto> findAllForExport(CategorySearchDto searchDto) {
-        log.debug("Finding all categories for export with search: {}", searchDto);
-
-        // 페이징 무시하고 전체 데이터 조회
-        searchDto.setPage(0);
-        searchDto.setSize(Integer.MAX_VALUE);
-
-        return categoryMapper.findAllForExcel(searchDto);
+    public byte[] exportToExcel(CategorySearchDto searchDto) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportToExcel(searchDto, outputStream);
+        return outputStream.toByteArray();
     }
 
     @Override
-    public byte[] exportToExcel(CategorySearchDto searchDto) {
-        log.debug("Exporting categories to Excel with search: {}", searchDto);
-
-        // Excel 내보내기용 카테고리 목록 조회
-        List<CategoryDto> categories = findAllForExport(searchDto);
+    public void exportToExcel(CategorySearchDto searchDto, OutputStream outputStream) {
+        export(searchDto, ExportFormat.XLSX, outputStream);
+    }
 
-        // CategoryDto를 CategoryExcelDto로 변환
-        List<CategoryExcelDto> excelCategories = categories.stream()
-                .map(this::convertToExcelDto)
-                .toList();
+    @Override
+    public void export(CategorySearchDto searchDto, ExportFormat format, OutputStream outputStream) {
+        log.debug("Exporting categories to {} with search: {}", format, searchDto);
 
-        // Excel 생성
+        // Excel 헤더
         String[] headers = {
             "카테고리명", "설명", "상태", "정렬순서", "등록일"
         };
@@ -154,8 +149,14 @@ public class CategoryServiceMyBatisImpl implements CategoryService {
             CellType.STRING   // 등록일
         };
 
-        return excelExportService.exportToExcelWithTypes("카테고리목록", headers, excelCategories,
-                this::mapToRowDataWithTypes, columnTypes, LocaleContextHolder.getLocale());
+        // 전체 목록을 List로 올리지 않고 Cursor로 한 행씩 읽어 바로 기록
+        try (Cursor<CategoryDto> categories = categoryMapper.streamAllForExcel(searchDto)) {
+            excelExportService.exportStream(format, "카테고리목록", headers, categories,
+                    category -> mapToRowDataWithTypes(convertToExcelDto(category)), columnTypes, outputStream,
+                    LocaleContextHolder.getLocale());
+        } catch (IOException e) {
+            log.warn("Failed to close category export cursor", e);
+        }
     }
 
     @Override
@@ -186,6 +187,7 @@ public class CategoryServiceMyBatisImpl implements CategoryService {
             throw new RuntimeException("카테고리 활성화에 실패했습니다.");
         }
 
+        sellableCatalogCache.invalidate();
         log.info("Category activated successfully with seq: {}", categorySeq);
     }
 
@@ -204,6 +206,7 @@ public class CategoryServiceMyBatisImpl implements CategoryService {
             throw new RuntimeException("카테고리 비활성화에 실패했습니다.");
         }
 
+        sellableCatalogCache.invalidate();
         log.info("Category deactivated successfully with seq: {}", categorySeq);
     }
 
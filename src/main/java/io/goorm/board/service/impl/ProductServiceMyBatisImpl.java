@@ -3,6 +3,7 @@ package io.goorm.board.service.impl;
 import io.goorm.board.dto.product.ProductCreateDto;
 import io.goorm.board.dto.product.ProductDto;
 import io.goorm.board.dto.product.ProductExcelDto;
+import io.goorm.board.dto.product.ProductFacetDto;
 import io.goorm.board.dto.product.ProductSearchDto;
 import io.goorm.board.dto.product.ProductUpdateDto;
 import io.goorm.board.entity.Product;
@@ -11,6 +12,11 @@ import io.goorm.board.exception.product.ProductNotFoundException;
 import io.goorm.board.exception.product.ProductValidationException;
 import io.goorm.board.mapper.ProductMapper;
 import io.goorm.board.service.ExcelExportService;
+import io.goorm.board.service.excel.ExportFormat;
+import io.goorm.board.service.paging.CountFreePager;
+import io.goorm.board.service.product.ProductCodeFilter;
+import io.goorm.board.service.product.ProductSearchIndex;
+import io.goorm.board.service.product.SellableCatalogCache;
 import io.goorm.board.util.ExcelUtil.CellType;
 import io.goorm.board.util.FileUploadUtil;
 import lombok.RequiredArgsConstructor;
@@ -19,10 +25,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.context.i18n.LocaleContextHolder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import io.goorm.board.service.ProductService;
 
@@ -39,14 +53,18 @@ public class ProductServiceMyBatisImpl implements ProductService {
     private final ProductMapper productMapper;
     private final FileUploadUtil fileUploadUtil;
     private final ExcelExportService excelExportService;
+    private final SellableCatalogCache sellableCatalogCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final CountFreePager countFreePager;
+    private final ProductCodeFilter productCodeFilter;
 
     @Override
     @Transactional
     public ProductDto create(ProductCreateDto createDto) {
         log.debug("Creating product with code: {}", createDto.getCode());
 
-        // 코드 중복 확인
-        if (productMapper.existsByCode(createDto.getCode())) {
+        // 코드 중복 확인 (필터에 없는 신규 코드는 DB 조회 생략)
+        if (isCodeDuplicate(createDto.getCode())) {
             throw new ProductCodeDuplicateException(createDto.getCode());
         }
 
@@ -90,6 +108,9 @@ public class ProductServiceMyBatisImpl implements ProductService {
             throw new RuntimeException("상품 등록에 실패했습니다.");
         }
 
+        sellableCatalogCache.invalidate();
+        productSearchIndex.refreshAfterCommit(product.getProductSeq());
+        productCodeFilter.added(product.getCode());
         log.info("Product created successfully with seq: {}", product.getProductSeq());
         return findById(product.getProductSeq());
     }
@@ -104,7 +125,7 @@ public class ProductServiceMyBatisImpl implements ProductService {
                 .orElseThrow(() -> new ProductNotFoundException(updateDto.getProductSeq()));
 
         // 코드 중복 확인 (자신 제외)
-        if (productMapper.existsByCodeAndNotSeq(updateDto.getCode(), updateDto.getProductSeq())) {
+        if (isCodeDuplicate(updateDto.getCode(), updateDto.getProductSeq())) {
             throw new ProductCodeDuplicateException(updateDto.getCode());
         }
 
@@ -174,6 +195,12 @@ public class ProductServiceMyBatisImpl implements ProductService {
             throw new RuntimeException("상품 수정에 실패했습니다.");
         }
 
+        sellableCatalogCache.invalidate();
+        productSearchIndex.refreshAfterCommit(updateDto.getProductSeq());
+        if (!Objects.equals(existingProduct.getCode(), updateDto.getCode())) {
+            productCodeFilter.removed(existingProduct.getCode());
+            productCodeFilter.added(updateDto.getCode());
+        }
         log.info("Product updated successfully with seq: {}", updateDto.getProductSeq());
         return findById(updateDto.getProductSeq());
     }
@@ -202,6 +229,9 @@ public class ProductServiceMyBatisImpl implements ProductService {
             throw new RuntimeException("상품 삭제에 실패했습니다.");
         }
 
+        sellableCatalogCache.invalidate();
+        productSearchIndex.refreshAfterCommit(productSeq);
+        productCodeFilter.removed(product.getCode());
         log.info("Product deleted successfully with seq: {}", productSeq);
     }
 
@@ -211,27 +241,62 @@ public class ProductServiceMyBatisImpl implements ProductService {
                 .orElseThrow(() -> new ProductNotFoundException(productSeq));
     }
 
+    /**
+     * 상품 목록 조회
+     * 검색 인덱스가 준비되어 있으면 조건에 맞는 현재 페이지 상품 번호만 구해 해당 상품만 조회 (LIKE 검색/COUNT 쿼리 없음)
+     * DB 검색 시에는 exactCount 요청이 없으면 COUNT 쿼리 없이 추정 건수 사용
+     */
     @Override
     public Page<ProductDto> findAll(ProductSearchDto searchDto) {
-        List<ProductDto> products = productMapper.findAll(searchDto);
-        int total = productMapper.count(searchDto);
-
         PageRequest pageRequest = PageRequest.of(
                 Math.max(0, searchDto.getPage() - 1),
                 searchDto.getSize()
         );
 
-        return new PageImpl<>(products, pageRequest, total);
+        ProductSearchIndex.SearchResult indexed = productSearchIndex.search(searchDto);
+        if (indexed != null) {
+            return new PageImpl<>(findDtosInOrder(indexed.productSeqs()), pageRequest, indexed.total());
+        }
+
+        return countFreePager.page(searchDto, productMapper::findAll, productMapper::count);
+    }
+
+    /**
+     * 패싯 값별 상품 수 (카테고리/공급업체/상태/단위/가격 구간을 DB 조회 없이 한 번에 계산)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductFacetDto getFacets(ProductSearchDto searchDto) {
+        return productSearchIndex.facets(searchDto);
+    }
+
+    /**
+     * 상품 번호 순서대로 DTO 조회
+     */
+    private List<ProductDto> findDtosInOrder(List<Long> productSeqs) {
+        if (productSeqs.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductDto> bySeq = new HashMap<>();
+        for (ProductDto product : productMapper.findDtosByIds(productSeqs)) {
+            bySeq.putIfAbsent(product.getProductSeq(), product);
+        }
+        return productSeqs.stream()
+                .map(bySeq::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
     public boolean isCodeDuplicate(String code) {
-        return productMapper.existsByCode(code);
+        return productCodeFilter.exists(code, () -> productMapper.existsByCode(code));
     }
 
     @Override
     public boolean isCodeDuplicate(String code, Long excludeProductSeq) {
-        return productMapper.existsByCodeAndNotSeq(code, excludeProductSeq);
+        return productCodeFilter.existsExcluding(code,
+                () -> productMapper.existsByCodeAndNotSeq(code, excludeProductSeq));
     }
 
     @Override
@@ -239,9 +304,13 @@ public class ProductServiceMyBatisImpl implements ProductService {
         return productMapper.findByStatus(status);
     }
 
+    /**
+     * 발주 화면용 판매 가능 상품 목록 (캐시 적중 시 트랜잭션/커넥션을 사용하지 않음)
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ProductDto> findSellableProducts() {
-        return productMapper.findSellableProducts();
+        return sellableCatalogCache.getSellableProducts();
     }
 
     @Override
@@ -260,29 +329,22 @@ public class ProductServiceMyBatisImpl implements ProductService {
     }
 
     @Override
-    public List<ProductDto> findAllForExport(ProductSearchDto searchDto) {
-        log.debug("Finding all products for export with search: {}", searchDto);
-
-        // 페이징 없이 전체 조회
-        searchDto.setPage(0);
-        searchDto.setSize(Integer.MAX_VALUE);
-        Page<ProductDto> productPage = findAll(searchDto);
-        return productPage.getContent();
+    public byte[] exportToExcel(ProductSearchDto searchDto) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportToExcel(searchDto, outputStream);
+        return outputStream.toByteArray();
     }
 
     @Override
-    public byte[] exportToExcel(ProductSearchDto searchDto) {
-        log.debug("Exporting products to Excel with search: {}", searchDto);
-
-        // Excel 내보내기용 상품 목록 조회
-        List<ProductDto> products = findAllForExport(searchDto);
+    public void exportToExcel(ProductSearchDto searchDto, OutputStream outputStream) {
+        export(searchDto, ExportFormat.XLSX, outputStream);
+    }
 
-        // ProductDto를 ProductExcelDto로 변환
-        List<ProductExcelDto> excelProducts = products.stream()
-                .map(this::convertToExcelDto)
-                .toList();
+    @Override
+    public void export(ProductSearchDto searchDto, ExportFormat format, OutputStream outputStream) {
+        log.debug("Exporting products to {} with search: {}", format, searchDto);
 
-        // Excel 생성
+        // Excel 헤더
         String[] headers = {
             "상품명", "상품코드", "카테고리", "공급업체",
             "판매가", "원가", "단위", "상태",
@@ -304,8 +366,14 @@ public class ProductServiceMyBatisImpl implements ProductService {
             CellType.STRING   // 등록일
         };
 
-        return excelExportService.exportToExcelWithTypes("상품목록", headers, excelProducts, this::mapToRowDataWithTypes,
-                columnTypes, LocaleContextHolder.getLocale());
+        // 전체 목록을 List로 올리지 않고 Cursor로 한 행씩 읽어 바로 기록
+        try (Cursor<ProductDto> products = productMapper.streamAllForExcel(searchDto)) {
+            excelExportService.exportStream(format, "상품목록", headers, products,
+                    product -> mapToRowDataWithTypes(convertToExcelDto(product)), columnTypes, outputStream,
+                    LocaleContextHolder.getLocale());
+        } catch (IOException e) {
+            log.warn("Failed to close product export cursor", e);
+        }
     }
 
     /**
@@ -11,17 +11,22 @@ import io.goorm.board.exception.supplier.SupplierValidationException;
 import io.goorm.board.exception.supplier.SupplierStateException;
 import io.goorm.board.mapper.SupplierMapper;
 import io.goorm.board.service.ExcelExportService;
+import io.goorm.board.service.product.SellableCatalogCache;
+import io.goorm.board.service.excel.ExportFormat;
+import io.goorm.board.service.paging.CountFreePager;
 import io.goorm.board.service.SupplierService;
 import io.goorm.board.util.ExcelUtil.CellType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
@@ -37,6 +42,8 @@ public class SupplierServiceMyBatisImpl implements SupplierService {
 
     private final SupplierMapper supplierMapper;
     private final ExcelExportService excelExportService;
+    private final SellableCatalogCache sellableCatalogCache;
+    private final CountFreePager countFreePager;
 
     @Override
     @Transactional
@@ -95,6 +102,7 @@ public class SupplierServiceMyBatisImpl implements SupplierService {
             throw new SupplierValidationException();
         }
 
+        sellableCatalogCache.invalidate();
         log.info("Supplier updated successfully with seq: {}", supplierSeq);
     }
 
@@ -107,44 +115,31 @@ public class SupplierServiceMyBatisImpl implements SupplierService {
         return supplier;
     }
 
+    /**
+     * 공급업체 목록 조회 (exactCount 요청이 없으면 COUNT 쿼리 없이 추정 건수 사용)
+     */
     @Override
     public Page<SupplierDto> searchSuppliers(SupplierSearchDto searchDto) {
-        // 페이징 정보
-        List<SupplierDto> suppliers = supplierMapper.findAll(searchDto);
-        int total = supplierMapper.count(searchDto);
-
-        PageRequest pageRequest = PageRequest.of(
-                Math.max(0, searchDto.getPage() - 1),
-                searchDto.getSize()
-        );
-
-        return new PageImpl<>(suppliers, pageRequest, total);
+        return countFreePager.page(searchDto, supplierMapper::findAll, supplierMapper::count);
     }
 
     @Override
-    public List<SupplierDto> findAllForExport(SupplierSearchDto searchDto) {
-        log.debug("Finding all suppliers for export with search: {}", searchDto);
-
-        // 페이징 무시하고 전체 데이터 조회
-        searchDto.setPage(0);
-        searchDto.setSize(Integer.MAX_VALUE);
-
-        return supplierMapper.findAllForExcel(searchDto);
+    public byte[] exportToExcel(SupplierSearchDto searchDto) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportToExcel(searchDto, outputStream);
+        return outputStream.toByteArray();
     }
 
     @Override
-    public byte[] exportToExcel(SupplierSearchDto searchDto) {
-        log.debug("Exporting suppliers to Excel with search: {}", searchDto);
-
-        // Excel 내보내기용 공급업체 목록 조회
-        List<SupplierDto> suppliers = findAllForExport(searchDto);
+    public void exportToExcel(SupplierSearchDto searchDto, OutputStream outputStream) {
+        export(searchDto, ExportFormat.XLSX, outputStream);
+    }
 
-        // SupplierDto를 SupplierExcelDto로 변환
-        List<SupplierExcelDto> excelSuppliers = suppliers.stream()
-                .map(this::convertToExcelDto)
-                .toList();
+    @Override
+    public void export(SupplierSearchDto searchDto, ExportFormat format, OutputStream outputStream) {
+        log.debug("Exporting suppliers to {} with search: {}", format, searchDto);
 
-        // Excel 생성
+        // Excel 헤더
         String[] headers = {
             "업체명", "담당자명", "이메일", "전화번호", "주소", "설명", "상태", "등록일", "수정일"
         };
@@ -162,8 +157,14 @@ public class SupplierServiceMyBatisImpl implements SupplierService {
             CellType.STRING   // 수정일
         };
 
-        return excelExportService.exportToExcelWithTypes("공급업체목록", headers, excelSuppliers,
-                this::mapToRowDataWithTypes, columnTypes, LocaleContextHolder.getLocale());
+        // 전체 목록을 List로 올리지 않고 Cursor로 한 행씩 읽어 바로 기록
+        try (Cursor<SupplierDto> suppliers = supplierMapper.streamAllForExcel(searchDto)) {
+            excelExportService.exportStream(format, "공급업체목록", headers, suppliers,
+                    supplier -> mapToRowDataWithTypes(convertToExcelDto(supplier)), columnTypes, outputStream,
+                    LocaleContextHolder.getLocale());
+        } catch (IOException e) {
+            log.warn("Failed to close supplier export cursor", e);
+        }
     }
 
     @Override
@@ -194,6 +195,7 @@ public class SupplierServiceMyBatisImpl implements SupplierService {
             throw new SupplierStateException(supplierSeq, supplier.getStatus(), SupplierStatus.ACTIVE);
         }
 
+        sellableCatalogCache.invalidate();
         log.info("Supplier activated successfully with seq: {}", supplierSeq);
     }
 
@@ -212,6 +214,7 @@ public class SupplierServiceMyBatisImpl implements SupplierService {
             throw new SupplierStateException(supplierSeq, supplier.getStatus(), SupplierStatus.INACTIVE);
         }
 
+        sellableCatalogCache.invalidate();
         log.info("Supplier deactivated successfully with seq: {}", supplierSeq);
     }
 
@@ -220,12 +223,6 @@ public class SupplierServiceMyBatisImpl implements SupplierService {
         return Arrays.asList(SupplierStatus.values());
     }
 
-    @Override
-    public List<SupplierExcelDto> findSuppliersForExcel(SupplierSearchDto searchDto) {
-        List<SupplierDto> suppliers = findAllForExport(searchDto);
-        return suppliers.stream().map(this::convertToExcelDto).toList();
-    }
-
     /**
      * SupplierDto를 SupplierExcelDto로 변환
      */
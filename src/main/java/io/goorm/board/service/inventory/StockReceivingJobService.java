@@ -0,0 +1,267 @@
+package io.goorm.board.service.inventory;
+
+import io.goorm.board.dto.excel.ExcelStockDto;
+import io.goorm.board.entity.StockReceivingJob;
+import io.goorm.board.entity.StockReceivingJobError;
+import io.goorm.board.mapper.StockReceivingJobMapper;
+import io.goorm.board.service.ExcelService;
+import io.goorm.board.service.InventoryService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엑셀 입고 백그라운드 작업 서비스
+ * 업로드된 파일을 스트리밍으로 읽어 chunk-size 행마다 별도 트랜잭션으로 커밋하고,
+ * 청크와 같은 트랜잭션에서 진행률/행별 오류/마지막 엑셀 행 번호를 기록
+ * 애플리케이션이 중단되면 재시작 시 마지막으로 커밋된 행 다음부터 이어서 처리
+ */
+@Slf4j
+@Service
+public class StockReceivingJobService {
+
+    // 진행 화면에 표시할 행별 오류 최대 건수
+    private static final int ERROR_DISPLAY_LIMIT = 200;
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 1000;
+
+    private final StockReceivingJobMapper jobMapper;
+    private final InventoryService inventoryService;
+    private final ExcelService excelService;
+    private final TransactionTemplate chunkTransaction;
+    private final ThreadPoolTaskExecutor executor;
+    private final int chunkSize;
+
+    // 이 JVM에서 실행 중이거나 대기 중인 작업 (중복 실행 방지)
+    private final Set<Long> dispatchedJobs = ConcurrentHashMap.newKeySet();
+
+    public StockReceivingJobService(StockReceivingJobMapper jobMapper,
+                                    InventoryService inventoryService,
+                                    ExcelService excelService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.inventory.receiving.chunk-size:500}") int chunkSize,
+                                    @Value("${app.inventory.receiving.workers:1}") int workers) {
+        this.jobMapper = jobMapper;
+        this.inventoryService = inventoryService;
+        this.excelService = excelService;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(Math.max(1, workers));
+        this.executor.setMaxPoolSize(Math.max(1, workers));
+        this.executor.setThreadNamePrefix("stock-receiving-");
+        this.executor.initialize();
+    }
+
+    /**
+     * 입고 작업 등록 후 워커에 전달
+     */
+    public StockReceivingJob submit(Long supplierSeq, Long requestedBySeq, String excelFilename, String excelFilepath) {
+        StockReceivingJob job = StockReceivingJob.builder()
+                .supplierSeq(supplierSeq)
+                .requestedBySeq(requestedBySeq)
+                .excelFilename(excelFilename)
+                .excelFilepath(excelFilepath)
+                .build();
+        jobMapper.insert(job);
+
+        log.info("엑셀 입고 작업 등록 - JobSeq: {}, 파일: {}", job.getJobSeq(), excelFilename);
+        dispatch(job.getJobSeq());
+        return job;
+    }
+
+    /**
+     * 작업 조회
+     */
+    public Optional<StockReceivingJob> findJob(Long jobSeq) {
+        return jobMapper.findById(jobSeq);
+    }
+
+    /**
+     * 행별 오류 조회 (표시 건수 제한)
+     */
+    public List<StockReceivingJobError> findErrors(Long jobSeq) {
+        return jobMapper.findErrors(jobSeq, ERROR_DISPLAY_LIMIT);
+    }
+
+    /**
+     * 재시작 시 완료되지 않은 작업 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        for (StockReceivingJob job : jobMapper.findUnfinished()) {
+            log.info("미완료 입고 작업 재개 - JobSeq: {}, 마지막 커밋 행: {}", job.getJobSeq(), job.getLastExcelRowNum());
+            dispatch(job.getJobSeq());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 청크는 롤백되고 다음 기동 시 재개됨
+        executor.shutdown();
+    }
+
+    private void dispatch(Long jobSeq) {
+        if (!dispatchedJobs.add(jobSeq)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobSeq);
+                } finally {
+                    dispatchedJobs.remove(jobSeq);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // PENDING 상태로 남아 다음 기동 시 재개
+            dispatchedJobs.remove(jobSeq);
+            log.warn("입고 작업 실행 거부 - JobSeq: {}, {}", jobSeq, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 실행 (워커 스레드)
+     */
+    void run(Long jobSeq) {
+        StockReceivingJob job = jobMapper.findById(jobSeq).orElse(null);
+        if (job == null || job.getStatus().isFinished()) {
+            return;
+        }
+
+        Path path = Paths.get(job.getExcelFilepath());
+        try {
+            // 진행률 계산용 전체 행 수 사전 집계 (SAX 스트리밍이라 메모리 사용량 일정)
+            AtomicInteger failedRows = new AtomicInteger();
+            int parsedRows = excelService.readStockReceivingExcel(path, dto -> { },
+                    (rowNumber, message) -> failedRows.incrementAndGet());
+            jobMapper.markRunning(jobSeq, parsedRows + failedRows.get());
+
+            int resumeAfterRow = job.getLastExcelRowNum() != null ? job.getLastExcelRowNum() : 0;
+            if (resumeAfterRow > 0) {
+                log.info("입고 작업 이어서 처리 - JobSeq: {}, {}행 이후부터", jobSeq, resumeAfterRow);
+            }
+
+            ChunkBuffer chunk = new ChunkBuffer(job);
+            excelService.readStockReceivingExcel(path,
+                    dto -> {
+                        if (dto.getRowNumber() > resumeAfterRow) {
+                            chunk.add(dto);
+                        }
+                    },
+                    (rowNumber, message) -> {
+                        if (rowNumber > resumeAfterRow) {
+                            chunk.addFailure(rowNumber, message);
+                        }
+                    });
+            chunk.flush();
+
+            jobMapper.markCompleted(jobSeq);
+            log.info("엑셀 입고 작업 완료 - JobSeq: {}, 파일: {}", jobSeq, job.getExcelFilename());
+
+        } catch (Exception e) {
+            log.error("엑셀 입고 작업 실패 - JobSeq: {}", jobSeq, e);
+            jobMapper.markFailed(jobSeq, truncate(e.getMessage()));
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return "알 수 없는 오류";
+        }
+        return message.length() > ERROR_MESSAGE_MAX_LENGTH
+                ? message.substring(0, ERROR_MESSAGE_MAX_LENGTH)
+                : message;
+    }
+
+    /**
+     * 청크 버퍼 - chunk-size 행이 모이면 한 트랜잭션으로 커밋
+     */
+    private final class ChunkBuffer {
+
+        private final StockReceivingJob job;
+        private final List<ExcelStockDto> rows = new ArrayList<>();
+        private final Map<Integer, String> parseFailures = new TreeMap<>();
+        private int lastRowNum;
+
+        private ChunkBuffer(StockReceivingJob job) {
+            this.job = job;
+        }
+
+        void add(ExcelStockDto dto) {
+            rows.add(dto);
+            lastRowNum = Math.max(lastRowNum, dto.getRowNumber());
+            flushIfFull();
+        }
+
+        void addFailure(int rowNumber, String message) {
+            parseFailures.put(rowNumber, message);
+            lastRowNum = Math.max(lastRowNum, rowNumber);
+            flushIfFull();
+        }
+
+        private void flushIfFull() {
+            if (rows.size() + parseFailures.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty() && parseFailures.isEmpty()) {
+                return;
+            }
+
+            chunkTransaction.executeWithoutResult(status -> {
+                Map<Integer, String> failures = new TreeMap<>(parseFailures);
+                int receiveFailures = 0;
+                if (!rows.isEmpty()) {
+                    Map<Integer, String> chunkFailures = inventoryService.receiveStockChunk(rows,
+                            job.getSupplierSeq(), job.getRequestedBySeq(), job.getExcelFilename(), job.getExcelFilepath());
+                    receiveFailures = chunkFailures.size();
+                    failures.putAll(chunkFailures);
+                }
+
+                if (!failures.isEmpty()) {
+                    jobMapper.insertErrors(failures.entrySet().stream()
+                            .map(entry -> StockReceivingJobError.builder()
+                                    .jobSeq(job.getJobSeq())
+                                    .excelRowNum(entry.getKey())
+                                    .message(truncate(entry.getValue()))
+                                    .build())
+                            .toList());
+                }
+
+                int updated = jobMapper.updateProgress(job.getJobSeq(),
+                        rows.size() - receiveFailures, failures.size(), lastRowNum);
+                if (updated == 0) {
+                    // 이미 커밋된 구간을 다시 처리한 경우 재고가 중복 반영되지 않도록 롤백
+                    throw new IllegalStateException(
+                            String.format("이미 처리된 청크입니다. JobSeq: %d, 행: %d", job.getJobSeq(), lastRowNum));
+                }
+            });
+
+            log.debug("입고 청크 커밋 - JobSeq: {}, {}행까지", job.getJobSeq(), lastRowNum);
+            rows.clear();
+            parseFailures.clear();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.goorm.board.service.invoice;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 저장된 확정 인보이스 PDF
+ */
+@Getter
+@AllArgsConstructor
+public class InvoiceArtifact {
+
+    private final Long orderSeq;
+    private final String invoiceId;
+    private final String contentHash;
+    private final Path path;
+    private final long size;
+}
@@ -0,0 +1,89 @@
+package io.goorm.board.service.invoice;
+
+import io.goorm.board.util.FileUploadUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 확정 인보이스 PDF 저장소 (콘텐츠 주소 방식)
+ * 인보이스 내용 해시를 파일명으로 문서 루트(invoices/<해시 앞 2자리>/<해시>.pdf)에 한 번만 저장하고,
+ * 같은 해시 요청은 저장된 파일을 그대로 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvoiceArtifactStore {
+
+    private final FileUploadUtil fileUploadUtil;
+
+    // 같은 해시의 동시 생성 방지용 잠금
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 해시에 해당하는 PDF 파일 경로 반환 (없으면 writer로 생성)
+     * 임시 파일에 기록한 뒤 이름을 바꿔, 다른 요청이 작성 중인 파일을 읽지 않도록 함
+     *
+     * @param contentHash 인보이스 내용 해시 (SHA-256 hex)
+     * @param writer 파일이 없을 때만 호출되는 PDF 기록 함수
+     */
+    public Path getOrCreate(String contentHash, ArtifactWriter writer) throws IOException {
+        Path target = resolve(contentHash);
+        if (Files.exists(target)) {
+            return target;
+        }
+
+        Object lock = locks.computeIfAbsent(contentHash, k -> new Object());
+        try {
+            synchronized (lock) {
+                if (Files.exists(target)) {
+                    return target;
+                }
+
+                Files.createDirectories(target.getParent());
+                Path tempFile = target.resolveSibling(contentHash + "." + UUID.randomUUID() + ".part");
+                try {
+                    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                        writer.write(out);
+                    }
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException | RuntimeException e) {
+                    Files.deleteIfExists(tempFile);
+                    throw e;
+                }
+
+                log.info("인보이스 PDF 저장 - Hash: {}, 크기: {} bytes", contentHash, Files.size(target));
+                return target;
+            }
+        } finally {
+            locks.remove(contentHash, lock);
+        }
+    }
+
+    private Path resolve(String contentHash) throws IOException {
+        if (contentHash == null || !contentHash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("잘못된 인보이스 해시입니다: " + contentHash);
+        }
+        return fileUploadUtil.getInvoiceDirectory()
+                .resolve(contentHash.substring(0, 2))
+                .resolve(contentHash + ".pdf");
+    }
+
+    /**
+     * PDF 기록 함수 (출력 스트림은 저장소가 닫음)
+     */
+    @FunctionalInterface
+    public interface ArtifactWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+}
@@ -0,0 +1,225 @@
+package io.goorm.board.service.invoice;
+
+import io.goorm.board.dto.order.OrderDto;
+import io.goorm.board.entity.User;
+import io.goorm.board.service.InvoiceService;
+import io.goorm.board.service.OrderService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 월말 인보이스 일괄 출력 서비스
+ * 청구월(입금예정일 기준) 확정 인보이스를 제한된 워커 풀에서 병렬로 저장소에 만들고,
+ * 완료되는 순서대로 하나의 ZIP 스트림에 기록
+ * - 대상 발주는 CHUNK_SIZE건씩 키셋 페이지로 읽어(상품 목록도 페이지 단위) 청구월 전체를 메모리에 올리지 않음
+ * - 요청당 동시에 진행되는 인보이스는 워커 수 이하로 유지해 렌더러 대기를 워커 수에 비례하도록 제한
+ * - PDF는 메모리에 모으지 않고 저장된 파일을 ZIP 항목으로 바로 복사
+ * - 출력 이력은 ZIP에 기록된 인보이스 CHUNK_SIZE건마다 다중 행 upsert로 저장
+ */
+@Slf4j
+@Service
+public class InvoiceBatchService {
+
+    private static final String FAILURE_ENTRY_NAME = "failed-invoices.txt";
+
+    // 대상 발주 한 페이지 크기이자 출력 이력 저장 단위
+    private static final int CHUNK_SIZE = 500;
+
+    private final InvoiceService invoiceService;
+    private final OrderService orderService;
+    private final ThreadPoolTaskExecutor executor;
+    private final int workers;
+
+    public InvoiceBatchService(InvoiceService invoiceService,
+                               OrderService orderService,
+                               @Value("${app.invoice.batch.workers:4}") int workers) {
+        this.invoiceService = invoiceService;
+        this.orderService = orderService;
+        this.workers = Math.max(1, workers);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(this.workers);
+        this.executor.setMaxPoolSize(this.workers);
+        this.executor.setThreadNamePrefix("invoice-batch-");
+        this.executor.initialize();
+    }
+
+    /**
+     * 청구월 첫 번째 확정 인보이스 (대상 유무와 파일명 확인용)
+     *
+     * @param companySeq 회사 (null이면 전체)
+     */
+    public Optional<OrderDto> findFirstTarget(YearMonth billingMonth, Long companySeq) {
+        return orderService.findInvoicedOrders(billingMonth, companySeq, null, 1).stream().findFirst();
+    }
+
+    /**
+     * 청구월 확정 인보이스 PDF를 ZIP으로 출력 스트림에 기록 (출력 스트림은 닫지 않음)
+     * 렌더링에 실패한 인보이스는 건너뛰고 ZIP 마지막에 실패 목록 파일로 남김
+     *
+     * @param companySeq 회사 (null이면 전체)
+     * @return ZIP에 포함된 인보이스 수
+     */
+    public int writeInvoiceZip(YearMonth billingMonth, Long companySeq, User user, OutputStream outputStream)
+            throws IOException {
+        long started = System.currentTimeMillis();
+        CompletionService<InvoiceArtifact> completionService = new ExecutorCompletionService<>(executor.getThreadPoolExecutor());
+        Map<Future<InvoiceArtifact>, OrderDto> inFlight = new LinkedHashMap<>();
+        TargetIterator pending = new TargetIterator(billingMonth, companySeq);
+
+        // 출력 이력 저장 대기 (CHUNK_SIZE건마다 저장 후 비움)
+        List<InvoiceArtifact> unrecorded = new ArrayList<>(CHUNK_SIZE);
+        int writtenCount = 0;
+        List<String> failures = new ArrayList<>();
+
+        ZipOutputStream zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        // PDF는 이미 압축되어 있으므로 압축률보다 속도 우선
+        zip.setLevel(Deflater.BEST_SPEED);
+        try {
+            while (inFlight.size() < workers && pending.hasNext()) {
+                submit(completionService, inFlight, pending.next());
+            }
+
+            while (!inFlight.isEmpty()) {
+                Future<InvoiceArtifact> done = completionService.take();
+                OrderDto order = inFlight.remove(done);
+
+                // 하나가 끝나면 다음 인보이스를 바로 등록해 워커가 쉬지 않도록 함
+                if (pending.hasNext()) {
+                    submit(completionService, inFlight, pending.next());
+                }
+
+                try {
+                    InvoiceArtifact artifact = done.get();
+                    zip.putNextEntry(new ZipEntry(entryName(order)));
+                    Files.copy(artifact.getPath(), zip);
+                    zip.closeEntry();
+                    writtenCount++;
+                    unrecorded.add(artifact);
+                    if (unrecorded.size() >= CHUNK_SIZE) {
+                        invoiceService.recordInvoicePrints(unrecorded, user);
+                        unrecorded.clear();
+                    }
+                } catch (ExecutionException e) {
+                    log.warn("일괄 인보이스 생성 실패 - Order: {}, Error: {}", order.getOrderSeq(), e.getCause().getMessage());
+                    failures.add(order.getOrderNumber() + "\t" + e.getCause().getMessage());
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                zip.putNextEntry(new ZipEntry(FAILURE_ENTRY_NAME));
+                zip.write(String.join("\r\n", failures).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("인보이스 일괄 생성 중 인터럽트되었습니다.", e);
+        } finally {
+            // 응답 중단 등으로 빠져나온 경우 남은 작업 취소
+            inFlight.keySet().forEach(future -> future.cancel(true));
+        }
+
+        invoiceService.recordInvoicePrints(unrecorded, user);
+        log.info("인보이스 일괄 출력 완료 - 대상: {}건, 성공: {}건, 실패: {}건, {}ms, User: {}",
+                pending.getReadCount(), writtenCount, failures.size(), System.currentTimeMillis() - started, user.getEmail());
+        return writtenCount;
+    }
+
+    /**
+     * ZIP 다운로드 파일명 (invoices_202510.zip, 회사 지정 시 invoices_202510_회사명.zip)
+     *
+     * @param firstTarget 청구월 첫 번째 확정 인보이스 (회사명 확인용)
+     */
+    public String generateFileName(YearMonth billingMonth, OrderDto firstTarget, Long companySeq) {
+        String month = String.format("%04d%02d", billingMonth.getYear(), billingMonth.getMonthValue());
+        if (companySeq == null || firstTarget == null || firstTarget.getCompanyName() == null) {
+            return "invoices_" + month + ".zip";
+        }
+        return "invoices_" + month + "_" + firstTarget.getCompanyName() + ".zip";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void submit(CompletionService<InvoiceArtifact> completionService,
+                        Map<Future<InvoiceArtifact>, OrderDto> inFlight, OrderDto order) {
+        inFlight.put(completionService.submit(() -> invoiceService.storeInvoiceArtifact(order)), order);
+    }
+
+    /**
+     * 대상 발주 반복자 - 현재 페이지를 다 쓰면 다음 CHUNK_SIZE건을 조회
+     */
+    private final class TargetIterator implements Iterator<OrderDto> {
+
+        private final YearMonth billingMonth;
+        private final Long companySeq;
+        private Iterator<OrderDto> page = Collections.emptyIterator();
+        private Long lastOrderSeq;
+        private boolean exhausted;
+        private int readCount;
+
+        private TargetIterator(YearMonth billingMonth, Long companySeq) {
+            this.billingMonth = billingMonth;
+            this.companySeq = companySeq;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !exhausted) {
+                List<OrderDto> orders = orderService.findInvoicedOrders(billingMonth, companySeq, lastOrderSeq, CHUNK_SIZE);
+                exhausted = orders.size() < CHUNK_SIZE;
+                if (!orders.isEmpty()) {
+                    lastOrderSeq = orders.get(orders.size() - 1).getOrderSeq();
+                }
+                page = orders.iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public OrderDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            readCount++;
+            return page.next();
+        }
+
+        int getReadCount() {
+            return readCount;
+        }
+    }
+
+    private static String entryName(OrderDto order) {
+        String company = order.getCompanyName() != null ? order.getCompanyName().replaceAll("[\\\\/:*?\"<>|]", "_") : "company";
+        return company + "/invoice_" + order.getOrderNumber() + ".pdf";
+    }
+}
@@ -0,0 +1,276 @@
+package io.goorm.board.service.invoice;
+
+import com.lowagie.text.pdf.BaseFont;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.w3c.dom.Document;
+import org.xhtmlrenderer.pdf.ITextFontResolver;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.CharArrayReader;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인보이스 PDF 렌더링 엔진
+ * - 인보이스 전용 템플릿 엔진: 전역 Thymeleaf 캐시 설정(cache: false)과 무관하게 템플릿을 한 번만 파싱하고 SpEL을 컴파일
+ * - 렌더러 풀: ITextRenderer(폰트 등록/폰트 캐시/CSS 캐시 포함)와 XML 파서, 출력 버퍼를 묶어 재사용하고
+ *   동시에 렌더링할 수 있는 수를 pool-size로 제한해 대량 출력 시 CPU 포화를 막음
+ * - 스타일시트는 외부 파일(invoice.css)로 분리되어 렌더러별로 한 번만 파싱됨
+ */
+@Slf4j
+@Component
+public class InvoicePdfRenderer {
+
+    private static final String TEMPLATE_NAME = "invoice/invoice-template";
+    private static final String TEMPLATE_RESOURCE = "templates/" + TEMPLATE_NAME + ".html";
+    // 스타일시트 등 상대 경로 리소스의 기준 URL
+    private static final String BASE_RESOURCE = "templates/invoice/invoice.css";
+
+    private final SpringTemplateEngine templateEngine;
+    private final DocumentBuilderFactory documentBuilderFactory;
+    private final BlockingQueue<RendererSlot> pool;
+    private final int poolSize;
+    private final long acquireTimeoutSeconds;
+    private final String[] fontPaths;
+    private final String baseUrl;
+    private final String templateFingerprint;
+
+    public InvoicePdfRenderer(@Value("${app.invoice.renderer.pool-size:4}") int poolSize,
+                              @Value("${app.invoice.renderer.acquire-timeout-seconds:30}") long acquireTimeoutSeconds,
+                              @Value("${app.invoice.renderer.font-paths:}") String[] fontPaths) {
+        this.poolSize = Math.max(1, poolSize);
+        this.acquireTimeoutSeconds = Math.max(1, acquireTimeoutSeconds);
+        this.fontPaths = fontPaths;
+        this.templateEngine = createTemplateEngine();
+        this.documentBuilderFactory = createDocumentBuilderFactory();
+
+        URL baseResource = Objects.requireNonNull(getClass().getClassLoader().getResource(BASE_RESOURCE),
+                "인보이스 스타일시트를 찾을 수 없습니다: " + BASE_RESOURCE);
+        this.baseUrl = baseResource.toExternalForm();
+        this.templateFingerprint = fingerprint(TEMPLATE_RESOURCE, BASE_RESOURCE);
+
+        this.pool = new ArrayBlockingQueue<>(this.poolSize);
+        for (int i = 0; i < this.poolSize; i++) {
+            pool.add(createSlot());
+        }
+    }
+
+    /**
+     * 인보이스 PDF를 출력 스트림에 바로 기록 (출력 스트림은 닫지 않음)
+     * 풀의 렌더러가 모두 사용 중이면 acquire-timeout-seconds까지 대기
+     *
+     * @param variables 템플릿 변수
+     */
+    public void render(Map<String, Object> variables, OutputStream outputStream) throws IOException {
+        RendererSlot slot = acquire();
+        boolean reusable = false;
+        try {
+            slot.render(variables, outputStream);
+            reusable = true;
+        } finally {
+            // 렌더링 도중 실패한 렌더러는 내부 상태를 신뢰할 수 없으므로 새로 만들어 반환
+            pool.add(reusable ? slot : replace(slot));
+        }
+    }
+
+    /**
+     * 풀의 모든 렌더러로 샘플 인보이스를 한 번씩 렌더링
+     * 템플릿 파싱/SpEL 컴파일, 폰트/스타일시트 로딩, 클래스 로딩과 JIT를 기동 시점에 끝내 첫 요청 지연을 없앰
+     */
+    public void warmUp(Map<String, Object> sampleVariables) {
+        long started = System.currentTimeMillis();
+        List<RendererSlot> slots = new ArrayList<>(poolSize);
+        try {
+            for (int i = 0; i < poolSize; i++) {
+                slots.add(acquire());
+            }
+            for (int i = 0; i < slots.size(); i++) {
+                RendererSlot slot = slots.get(i);
+                try {
+                    slot.render(sampleVariables, OutputStream.nullOutputStream());
+                } catch (Exception e) {
+                    log.warn("인보이스 렌더러 예열 실패: {}", e.getMessage());
+                    slots.set(i, replace(slot));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("인보이스 렌더러 예열 중단: {}", e.getMessage());
+        } finally {
+            pool.addAll(slots);
+        }
+        log.info("인보이스 렌더러 예열 완료 - 렌더러: {}개, {}ms", slots.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 템플릿과 스타일시트 내용의 해시
+     * 저장된 PDF의 콘텐츠 키에 포함해 양식이 바뀌면 기존 파일을 재사용하지 않도록 함
+     */
+    public String getTemplateFingerprint() {
+        return templateFingerprint;
+    }
+
+    private RendererSlot acquire() throws IOException {
+        try {
+            RendererSlot slot = pool.poll(acquireTimeoutSeconds, TimeUnit.SECONDS);
+            if (slot == null) {
+                throw new IOException("인보이스 렌더러 대기 시간이 초과되었습니다.");
+            }
+            return slot;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("인보이스 렌더러 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * 실패한 렌더러를 대신할 새 렌더러 생성
+     * 생성에 실패하면 풀이 줄어들지 않도록 기존 렌더러를 그대로 반환 (다음 렌더링에서 문서를 새로 설정하므로 재사용 가능)
+     */
+    private RendererSlot replace(RendererSlot failed) {
+        try {
+            return createSlot();
+        } catch (RuntimeException e) {
+            log.warn("인보이스 렌더러 교체 실패 - 기존 렌더러 재사용: {}", e.getMessage());
+            return failed;
+        }
+    }
+
+    private RendererSlot createSlot() {
+        ITextRenderer renderer = new ITextRenderer();
+
+        // 폰트는 렌더러 생성 시 한 번만 등록 (이후 렌더링은 폰트 리졸버 캐시 사용)
+        ITextFontResolver fontResolver = renderer.getFontResolver();
+        for (String fontPath : fontPaths) {
+            try {
+                fontResolver.addFont(fontPath, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+            } catch (Exception e) {
+                log.warn("인보이스 폰트 등록 실패: {} - {}", fontPath, e.getMessage());
+            }
+        }
+
+        try {
+            return new RendererSlot(renderer, documentBuilderFactory.newDocumentBuilder());
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("인보이스 XML 파서 생성 실패", e);
+        }
+    }
+
+    private String fingerprint(String... resources) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String resource : resources) {
+                try (InputStream in = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(resource),
+                        "인보이스 리소스를 찾을 수 없습니다: " + resource)) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("인보이스 템플릿 해시 계산 실패", e);
+        }
+    }
+
+    private static SpringTemplateEngine createTemplateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        engine.setEnableSpringELCompiler(true);
+        return engine;
+    }
+
+    private static DocumentBuilderFactory createDocumentBuilderFactory() {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        try {
+            // 외부 DTD/엔티티는 읽지 않음
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        } catch (ParserConfigurationException e) {
+            log.warn("XML 파서 보안 설정 실패: {}", e.getMessage());
+        }
+        return factory;
+    }
+
+    /**
+     * 풀에 보관되는 렌더링 단위 (한 번에 한 스레드만 사용)
+     */
+    private class RendererSlot {
+
+        private final ITextRenderer renderer;
+        private final DocumentBuilder documentBuilder;
+        private final ReusableCharBuffer html = new ReusableCharBuffer();
+
+        RendererSlot(ITextRenderer renderer, DocumentBuilder documentBuilder) {
+            this.renderer = renderer;
+            this.documentBuilder = documentBuilder;
+        }
+
+        void render(Map<String, Object> variables, OutputStream outputStream) throws IOException {
+            // 템플릿을 문자열로 만들지 않고 재사용 버퍼에 바로 기록
+            html.reset();
+            Context context = new Context();
+            context.setVariables(variables);
+            templateEngine.process(TEMPLATE_NAME, context, html);
+
+            Document document;
+            try {
+                document = documentBuilder.parse(new InputSource(html.reader()));
+            } catch (SAXException e) {
+                throw new IOException("인보이스 XHTML 파싱 실패: " + e.getMessage(), e);
+            } finally {
+                documentBuilder.reset();
+            }
+
+            renderer.setDocument(document, baseUrl);
+            renderer.layout();
+            renderer.createPDF(outputStream);
+        }
+    }
+
+    /**
+     * 내부 버퍼를 복사하지 않고 읽을 수 있는 CharArrayWriter
+     */
+    private static class ReusableCharBuffer extends CharArrayWriter {
+
+        ReusableCharBuffer() {
+            super(16 * 1024);
+        }
+
+        Reader reader() {
+            return new CharArrayReader(buf, 0, count);
+        }
+    }
+}
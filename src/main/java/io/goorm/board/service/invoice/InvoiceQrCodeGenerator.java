@@ -0,0 +1,59 @@
+package io.goorm.board.service.invoice;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import io.goorm.board.dto.order.OrderDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * 인보이스 검증용 QR 코드 생성기
+ * QRCodeWriter와 날짜 포맷터는 상태가 없으므로 한 번만 만들어 공유
+ */
+@Slf4j
+@Component
+public class InvoiceQrCodeGenerator {
+
+    private static final int QR_CODE_SIZE = 100;
+    private static final DateTimeFormatter ISSUE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final QRCodeWriter qrCodeWriter = new QRCodeWriter();
+
+    /**
+     * QR 코드 생성 (PNG Base64)
+     * 생성에 실패해도 인보이스는 출력되도록 빈 문자열 반환
+     *
+     * @param issuedAt 인보이스 발행 시각
+     */
+    public String generate(String invoiceId, OrderDto order, LocalDateTime issuedAt) {
+        try {
+            // QR 코드에 포함될 검증 데이터
+            String qrData = String.format(
+                "{\"invoiceId\":\"%s\",\"orderSeq\":%d,\"companySeq\":%d,\"finalAmount\":%s,\"issueDate\":\"%s\"}",
+                invoiceId,
+                order.getOrderSeq(),
+                order.getCompanySeq(),
+                order.getFinalAmount().toString(),
+                issuedAt.format(ISSUE_DATE_FORMATTER)
+            );
+
+            BitMatrix bitMatrix = qrCodeWriter.encode(qrData, BarcodeFormat.QR_CODE, QR_CODE_SIZE, QR_CODE_SIZE);
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
+
+            return Base64.getEncoder().encodeToString(outputStream.toByteArray());
+
+        } catch (Exception e) {
+            log.warn("QR 코드 생성 실패 - InvoiceId: {}, Error: {}", invoiceId, e.getMessage());
+            return "";
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.goorm.board.service.order;
+
+import io.goorm.board.mapper.OrderNumberSequenceMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 발주번호 할당기 (yyyyMMddNNNN)
+ * order_number_sequence 테이블에서 일자별 시퀀스 블록을 원자적으로 임대하고,
+ * 임대한 범위는 JVM 내부에서 소진될 때까지 DB 조회 없이 할당
+ * 재시작 시 남은 범위는 버려지므로 번호는 비어 있을 수 있으나 재사용되지 않음
+ */
+@Slf4j
+@Component
+public class OrderNumberAllocator {
+
+    private static final DateTimeFormatter DATE_PREFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final OrderNumberSequenceMapper sequenceMapper;
+    private final TransactionTemplate leaseTransaction;
+    private final int blockSize;
+
+    // 현재 임대 범위와 먼저 설치된 범위 때문에 아직 쓰지 않은 임대 범위 (동기화 블록 안에서만 접근)
+    private String leasedDate;
+    private int nextValue;
+    private int lastValue;
+    private final Deque<LeasedBlock> spareBlocks = new ArrayDeque<>();
+
+    public OrderNumberAllocator(OrderNumberSequenceMapper sequenceMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.order.number-block-size:20}") int blockSize) {
+        this.sequenceMapper = sequenceMapper;
+        this.blockSize = Math.max(1, blockSize);
+
+        // 발주 트랜잭션이 롤백되어도 임대한 블록은 반환하지 않음 (별도 트랜잭션)
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다음 발주번호 할당
+     * 블록 임대(DB 커넥션 획득 포함)는 잠금 밖에서 하므로, 다른 스레드는 임대를 기다리며 잠금을 붙잡고 있지 않음
+     * 발주 트랜잭션 밖에서 호출해야 함 (트랜잭션 안에서 호출하면 발주 커넥션을 잡은 채 임대용 커넥션을 하나 더 기다림)
+     */
+    public String nextOrderNumber() {
+        String datePrefix = LocalDate.now().format(DATE_PREFIX_FORMAT);
+
+        synchronized (this) {
+            if (hasNumber(datePrefix)) {
+                return format(datePrefix, nextValue++);
+            }
+        }
+
+        LeasedBlock leased = leaseBlock(datePrefix);
+
+        synchronized (this) {
+            // 임대하는 동안 다른 스레드가 새 블록을 설치했으면 이 블록은 다음 차례로 보관
+            if (!hasNumber(datePrefix)) {
+                install(leased);
+            } else {
+                spareBlocks.addLast(leased);
+            }
+            return format(datePrefix, nextValue++);
+        }
+    }
+
+    /**
+     * 현재 범위에 남은 번호가 있는지 확인 (소진되었으면 같은 일자의 보관 블록으로 교체, 동기화 블록 안에서 호출)
+     */
+    private boolean hasNumber(String datePrefix) {
+        if (datePrefix.equals(leasedDate) && nextValue <= lastValue) {
+            return true;
+        }
+        while (!spareBlocks.isEmpty()) {
+            LeasedBlock spare = spareBlocks.pollFirst();
+            if (spare.date().equals(datePrefix)) {
+                install(spare);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void install(LeasedBlock block) {
+        this.leasedDate = block.date();
+        this.nextValue = block.first();
+        this.lastValue = block.last();
+    }
+
+    private static String format(String datePrefix, int value) {
+        return String.format("%s%04d", datePrefix, value);
+    }
+
+    /**
+     * 일자별 시퀀스 블록 임대
+     */
+    private LeasedBlock leaseBlock(String datePrefix) {
+        Integer leasedLast = leaseTransaction.execute(status -> {
+            sequenceMapper.increaseBy(datePrefix, blockSize);
+            return sequenceMapper.findLastValue(datePrefix);
+        });
+
+        if (leasedLast == null) {
+            throw new IllegalStateException("발주번호 시퀀스 임대에 실패했습니다: " + datePrefix);
+        }
+
+        LeasedBlock block = new LeasedBlock(datePrefix, leasedLast - blockSize + 1, leasedLast);
+        log.debug("발주번호 시퀀스 블록 임대 - 일자: {}, 범위: {} ~ {}", datePrefix, block.first(), block.last());
+        return block;
+    }
+
+    /**
+     * 임대한 일자별 번호 범위 (양 끝 포함)
+     */
+    private record LeasedBlock(String date, int first, int last) {
+    }
+}
@@ -0,0 +1,139 @@
+package io.goorm.board.service.order;
+
+import io.goorm.board.dto.order.OrderSummaryReconciliationDto;
+import io.goorm.board.entity.Order;
+import io.goorm.board.entity.OrderSummaryMonthly;
+import io.goorm.board.mapper.OrderSummaryMonthlyMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 월별 발주 집계(order_summary_monthly) 증분 관리
+ * 발주 등록/취소 시 회사/연/월 행의 카운터를 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 증감하고,
+ * 재집계는 orders를 GROUP BY 한 번으로 다시 계산해 집계 테이블과의 차이를 보고
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryAggregator {
+
+    private final OrderSummaryMonthlyMapper summaryMapper;
+
+    /**
+     * 발주 등록 반영 (발주 트랜잭션 안에서 호출)
+     */
+    public void recordOrderCreated(Order order) {
+        summaryMapper.upsertDelta(toDelta(order, 1));
+    }
+
+    /**
+     * 발주 취소 반영 (발주 트랜잭션 안에서 호출)
+     */
+    public void recordOrderCancelled(Order order) {
+        summaryMapper.upsertDelta(toDelta(order, -1));
+    }
+
+    /**
+     * 전체 재집계
+     * orders 기준 집계와 집계 테이블을 비교해 불일치를 보고하고, apply면 불일치 행을 발주 기준 값으로 덮어씀
+     * 발주가 없는 집계 행은 이관된 과거 실적일 수 있으므로 보고만 하고 삭제하지 않음
+     */
+    @Transactional
+    public OrderSummaryReconciliationDto reconcile(boolean apply) {
+        Map<String, OrderSummaryMonthly> expected = summaryMapper.aggregateFromOrders().stream()
+                .collect(Collectors.toMap(OrderSummaryAggregator::key, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        Map<String, OrderSummaryMonthly> actual = summaryMapper.findAllYears().stream()
+                .collect(Collectors.toMap(OrderSummaryAggregator::key, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+        List<OrderSummaryReconciliationDto.Drift> drifts = new ArrayList<>();
+        List<OrderSummaryMonthly> corrections = new ArrayList<>();
+
+        expected.forEach((key, summary) -> {
+            OrderSummaryMonthly current = actual.get(key);
+            if (current == null) {
+                drifts.add(drift(summary, null, OrderSummaryReconciliationDto.DriftType.MISSING));
+                corrections.add(summary);
+            } else if (!sameCounters(summary, current)) {
+                drifts.add(drift(summary, current, OrderSummaryReconciliationDto.DriftType.MISMATCH));
+                corrections.add(summary);
+            }
+        });
+        actual.forEach((key, summary) -> {
+            if (!expected.containsKey(key)) {
+                drifts.add(drift(null, summary, OrderSummaryReconciliationDto.DriftType.SUMMARY_ONLY));
+            }
+        });
+
+        boolean applied = apply && !corrections.isEmpty();
+        if (applied) {
+            summaryMapper.upsertBatch(corrections);
+        }
+
+        log.info("월별 발주 집계 재집계 - 발주 기준: {}건, 집계: {}건, 불일치: {}건, 반영: {}",
+                expected.size(), actual.size(), drifts.size(), applied);
+        return OrderSummaryReconciliationDto.builder()
+                .orderMonthCount(expected.size())
+                .summaryRowCount(actual.size())
+                .applied(applied)
+                .drifts(drifts)
+                .build();
+    }
+
+    private static OrderSummaryMonthly toDelta(Order order, int sign) {
+        BigDecimal multiplier = BigDecimal.valueOf(sign);
+        return OrderSummaryMonthly.builder()
+                .companySeq(order.getCompanySeq())
+                .summaryYear(String.format("%04d", order.getOrderDate().getYear()))
+                .summaryMonth(String.format("%02d", order.getOrderDate().getMonthValue()))
+                .orderCount(sign)
+                .totalAmount(amount(order.getTotalAmount()).multiply(multiplier))
+                .discountAmount(amount(order.getDiscountAmount()).multiply(multiplier))
+                .finalAmount(amount(order.getFinalAmount()).multiply(multiplier))
+                .build();
+    }
+
+    private static BigDecimal amount(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private static String key(OrderSummaryMonthly summary) {
+        return summary.getCompanySeq() + ":" + summary.getSummaryYear() + ":" + summary.getSummaryMonth();
+    }
+
+    private static boolean sameCounters(OrderSummaryMonthly expected, OrderSummaryMonthly actual) {
+        return Objects.equals(expected.getOrderCount(), actual.getOrderCount())
+                && sameAmount(expected.getTotalAmount(), actual.getTotalAmount())
+                && sameAmount(expected.getDiscountAmount(), actual.getDiscountAmount())
+                && sameAmount(expected.getFinalAmount(), actual.getFinalAmount());
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return amount(a).compareTo(amount(b)) == 0;
+    }
+
+    private static OrderSummaryReconciliationDto.Drift drift(OrderSummaryMonthly expected, OrderSummaryMonthly actual,
+                                                            OrderSummaryReconciliationDto.DriftType type) {
+        OrderSummaryMonthly source = expected != null ? expected : actual;
+        return OrderSummaryReconciliationDto.Drift.builder()
+                .companySeq(source.getCompanySeq())
+                .summaryYear(source.getSummaryYear())
+                .summaryMonth(source.getSummaryMonth())
+                .type(type)
+                .expectedOrderCount(expected != null ? expected.getOrderCount() : null)
+                .actualOrderCount(actual != null ? actual.getOrderCount() : null)
+                .expectedFinalAmount(expected != null ? expected.getFinalAmount() : null)
+                .actualFinalAmount(actual != null ? actual.getFinalAmount() : null)
+                .build();
+    }
+}
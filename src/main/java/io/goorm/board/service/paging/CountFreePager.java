@@ -0,0 +1,111 @@
+package io.goorm.board.service.paging;
+
+import io.goorm.board.dto.common.BaseSearchConditionDto;
+import io.goorm.board.dto.common.SearchPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * COUNT 쿼리 없는 목록 페이징
+ * - 페이지 크기보다 한 건 더 조회(BaseSearchConditionDto.getFetchSize)해 다음 페이지 유무를 판단
+ * - 마지막 페이지까지 한 번에 조회되면(작은 목록, 마지막 페이지) 그 자리에서 정확한 건수를 알 수 있으므로 COUNT 없이 확정
+ * - 그 외에는 필터 조건별로 캐시한 건수를 추정치로 사용하고, 캐시가 없거나 count-ttl-seconds가 지나면 COUNT 한 번으로 다시 채움
+ * - 검색 조건에 exactCount=true가 있으면 매번 COUNT 쿼리로 정확한 건수를 구하고 캐시도 그 값으로 갱신
+ * 추정치는 캐시 유지 시간 동안 그 사이 등록/삭제된 건수만큼 어긋날 수 있음
+ */
+@Slf4j
+@Component
+public class CountFreePager {
+
+    private final long countTtlNanos;
+    private final int maxEntries;
+
+    // 필터 조건(BaseSearchConditionDto.toCountCondition)별 전체 건수
+    private final Map<BaseSearchConditionDto, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public CountFreePager(@Value("${app.paging.count-ttl-seconds:60}") long countTtlSeconds,
+                          @Value("${app.paging.count-cache-max-entries:1000}") int maxEntries) {
+        this.countTtlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, countTtlSeconds));
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * 목록 페이지 조회
+     *
+     * @param finder 목록 쿼리 (LIMIT에 search.fetchSize 사용)
+     * @param counter 전체 건수 쿼리 (정확한 건수 요청 또는 추정치가 없을 때만 실행)
+     */
+    public <T, S extends BaseSearchConditionDto> SearchPage<T> page(S search, Function<S, List<T>> finder,
+                                                                    ToLongFunction<S> counter) {
+        PageRequest pageRequest = PageRequest.of(
+                Math.max(0, search.getPage() - 1),
+                search.getSize()
+        );
+        List<T> rows = finder.apply(search);
+        BaseSearchConditionDto key = search.toCountCondition();
+
+        if (search.isExactCountRequested()) {
+            long total = counter.applyAsLong(search);
+            store(key, total);
+            return new SearchPage<>(rows, pageRequest, total, false);
+        }
+
+        boolean hasNext = rows.size() > search.getSize();
+        List<T> content = hasNext ? rows.subList(0, search.getSize()) : rows;
+        long offset = search.getOffset();
+
+        if (!hasNext && (!content.isEmpty() || offset == 0)) {
+            long total = offset + content.size();
+            store(key, total);
+            return new SearchPage<>(content, pageRequest, total, false);
+        }
+
+        // 다음 페이지가 있으면 추정치가 작더라도 다음 페이지 링크가 나오도록 현재 위치 + 1건 이상으로 보정
+        long estimated = estimatedCount(key, search, counter);
+        long total = hasNext ? Math.max(estimated, offset + content.size() + 1) : estimated;
+        return new SearchPage<>(content, pageRequest, total, true);
+    }
+
+    private <S extends BaseSearchConditionDto> long estimatedCount(BaseSearchConditionDto key, S search,
+                                                                    ToLongFunction<S> counter) {
+        CachedCount cached = counts.get(key);
+        if (cached != null && !cached.isExpired(System.nanoTime(), countTtlNanos)) {
+            return cached.count();
+        }
+
+        long count = counter.applyAsLong(search);
+        store(key, count);
+        return count;
+    }
+
+    private void store(BaseSearchConditionDto key, long count) {
+        if (counts.size() >= maxEntries && !counts.containsKey(key)) {
+            long now = System.nanoTime();
+            counts.values().removeIf(cached -> cached.isExpired(now, countTtlNanos));
+            if (counts.size() >= maxEntries) {
+                log.debug("목록 건수 캐시 상한 도달로 비움 - {}개", counts.size());
+                counts.clear();
+            }
+        }
+        counts.put(key, new CachedCount(count, System.nanoTime()));
+    }
+
+    /**
+     * 캐시된 전체 건수와 조회 시각
+     */
+    private record CachedCount(long count, long loadedAt) {
+
+        boolean isExpired(long now, long ttlNanos) {
+            return now - loadedAt >= ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package io.goorm.board.service.product;
+
+import io.goorm.board.dto.product.ProductSearchDto;
+import io.goorm.board.mapper.ProductMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 상품 코드 존재 여부 사전 판정 (Bloom 필터 + 확인된 코드 목록)
+ * - Bloom 필터에 없는 코드는 DB에 없는 코드로 확정하고 DB 조회를 생략 (대량 등록/입고 시 신규 코드 대부분)
+ * - 등록 커밋으로 존재가 확인된 코드는 확인된 코드 목록에 두고 중복 확인 시 DB 조회 없이 true
+ * - 기동 시 전체 코드로 다시 적재하고, 상품 등록/수정/삭제 시 함께 갱신 (Bloom 필터는 삭제를 지원하지 않으므로 삭제된 코드는 오탐으로 남음)
+ * - 코드 비교는 DB 정렬 규칙(utf8mb4_unicode_ci, 대소문자 무시, 끝 공백 무시)과 같게 정규화하고,
+ *   정규화로 같음을 보장할 수 없는 코드(ASCII 출력 문자 외 포함)는 항상 DB 조회
+ * 적재 전, 적재 실패, 비활성화 상태에서는 항상 DB 조회
+ */
+@Slf4j
+@Component
+public class ProductCodeFilter {
+
+    private final ProductMapper productMapper;
+    private final TransactionTemplate readTransaction;
+    private final boolean enabled;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+    private final int confirmedMaxEntries;
+
+    // 필터 교체와 코드 추가 순서를 맞추기 위한 잠금 (조회는 잠금 없음)
+    private final Object writeLock = new Object();
+
+    // 사용 중인 필터 (적재 전이면 null)
+    private volatile BloomFilter filter;
+
+    // 적재 중인 필터 (적재 중 추가된 코드도 함께 넣음, writeLock 보유 시에만 접근)
+    private BloomFilter building;
+
+    // 등록 커밋으로 존재가 확인된 코드 (정규화된 코드)
+    private final Set<String> confirmed = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder definiteNegatives = new LongAdder();
+    private final LongAdder confirmedHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public ProductCodeFilter(ProductMapper productMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.product.code-filter.enabled:true}") boolean enabled,
+                             @Value("${app.product.code-filter.expected-insertions:100000}") long minExpectedInsertions,
+                             @Value("${app.product.code-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                             @Value("${app.product.code-filter.confirmed-max-entries:10000}") int confirmedMaxEntries) {
+        this.productMapper = productMapper;
+        this.enabled = enabled;
+        this.minExpectedInsertions = Math.max(1, minExpectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+        this.confirmedMaxEntries = Math.max(1, confirmedMaxEntries);
+
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 기동 시 전체 상품 코드로 필터 적재
+     * 필터 크기는 현재 상품 수의 2배와 expected-insertions 중 큰 값 기준
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        BloomFilter rebuilt;
+        try {
+            int existing = productMapper.count(ProductSearchDto.builder().build());
+            rebuilt = new BloomFilter(Math.max(minExpectedInsertions, existing * 2L), falsePositiveRate);
+            synchronized (writeLock) {
+                building = rebuilt;
+            }
+
+            readTransaction.executeWithoutResult(status -> {
+                try (Cursor<String> codes = productMapper.streamAllCodes()) {
+                    for (String code : codes) {
+                        String key = normalize(code);
+                        if (key != null) {
+                            rebuilt.put(key);
+                        }
+                    }
+                } catch (IOException e) {
+                    log.warn("Failed to close product code cursor", e);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("상품 코드 필터 적재 실패 - DB 조회 사용: {}", e.getMessage());
+            synchronized (writeLock) {
+                building = null;
+            }
+            return;
+        }
+
+        synchronized (writeLock) {
+            filter = rebuilt;
+            building = null;
+        }
+        log.info("상품 코드 필터 적재 완료 - 코드: {}개, 비트: {}, 해시: {}개, 예상 오탐률: {}, {}ms",
+                rebuilt.insertions(), rebuilt.bitSize(), rebuilt.hashCount(),
+                String.format("%.4f", rebuilt.expectedFalsePositiveRate()), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 코드 존재 여부 (등록 시 중복 확인)
+     * 확인된 코드면 true, 필터에 없으면 false, 그 외에는 dbLookup 결과
+     */
+    public boolean exists(String code, BooleanSupplier dbLookup) {
+        return check(code, true, dbLookup);
+    }
+
+    /**
+     * 다른 상품의 코드 존재 여부 (수정 시 자신 제외 중복 확인)
+     * 확인된 코드가 수정 대상 자신의 코드일 수 있으므로 확인된 코드 목록은 사용하지 않음
+     */
+    public boolean existsExcluding(String code, BooleanSupplier dbLookup) {
+        return check(code, false, dbLookup);
+    }
+
+    /**
+     * 존재할 수 있는 코드만 추림 (일괄 IN 조회 전, 순서 유지)
+     * 조회 후 찾지 못한 코드 수는 recordFalsePositives로 알려야 오탐률이 집계됨
+     */
+    public List<String> filterPossible(Collection<String> codes) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return new ArrayList<>(codes);
+        }
+
+        List<String> possible = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            String key = normalize(code);
+            if (key == null) {
+                possible.add(code);
+                continue;
+            }
+            lookups.increment();
+            if (confirmed.contains(key) || current.mightContain(key)) {
+                possible.add(code);
+            } else {
+                definiteNegatives.increment();
+            }
+        }
+        return possible;
+    }
+
+    /**
+     * 필터가 존재 가능으로 판정했지만 DB에 없던 코드 수 기록
+     */
+    public void recordFalsePositives(long count) {
+        if (count > 0 && filter != null) {
+            falsePositives.add(count);
+        }
+    }
+
+    /**
+     * 코드 추가 반영 (상품 등록, 코드 변경)
+     * 필터에는 즉시 넣고(롤백되면 오탐으로 남음), 커밋 후 한 번 더 넣어 적재 중인 필터에도 빠지지 않도록 함
+     * 확인된 코드 목록에는 커밋 후에만 추가
+     */
+    public void added(String code) {
+        String key = normalize(code);
+        if (!enabled || key == null) {
+            return;
+        }
+
+        put(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(key);
+                    confirm(key);
+                }
+            });
+        } else {
+            confirm(key);
+        }
+    }
+
+    /**
+     * 코드 제거 반영 (상품 삭제, 코드 변경)
+     * 확인된 코드 목록에서 즉시, 그리고 커밋/롤백 후 한 번 더 제거 (Bloom 필터에서는 제거할 수 없음)
+     */
+    public void removed(String code) {
+        String key = normalize(code);
+        if (!enabled || key == null) {
+            return;
+        }
+
+        confirmed.remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    confirmed.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * 필터 상태와 조회 통계 (기동 이후 누적)
+     */
+    public Stats stats() {
+        BloomFilter current = filter;
+        long negatives = definiteNegatives.sum();
+        long misses = falsePositives.sum();
+        return new Stats(
+                current != null,
+                current != null ? current.insertions() : 0,
+                current != null ? current.bitSize() : 0,
+                current != null ? current.hashCount() : 0,
+                current != null ? current.expectedFalsePositiveRate() : 0,
+                lookups.sum(),
+                negatives,
+                confirmedHits.sum(),
+                misses,
+                negatives + misses > 0 ? (double) misses / (negatives + misses) : 0);
+    }
+
+    private boolean check(String code, boolean useConfirmed, BooleanSupplier dbLookup) {
+        BloomFilter current = filter;
+        String key = normalize(code);
+        if (current == null || key == null) {
+            return dbLookup.getAsBoolean();
+        }
+
+        lookups.increment();
+        if (useConfirmed && confirmed.contains(key)) {
+            confirmedHits.increment();
+            return true;
+        }
+        if (!current.mightContain(key)) {
+            definiteNegatives.increment();
+            return false;
+        }
+
+        boolean exists = dbLookup.getAsBoolean();
+        if (!exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    private void put(String key) {
+        synchronized (writeLock) {
+            if (filter != null && !filter.mightContain(key)) {
+                filter.put(key);
+            }
+            if (building != null && !building.mightContain(key)) {
+                building.put(key);
+            }
+        }
+    }
+
+    private void confirm(String key) {
+        if (confirmed.size() >= confirmedMaxEntries) {
+            confirmed.clear();
+        }
+        confirmed.add(key);
+    }
+
+    /**
+     * DB 비교 규칙에 맞춘 정규화 (끝 공백 제거, 대문자)
+     * ASCII 출력 문자 외의 문자가 있으면 악센트/무시 문자 비교 규칙 때문에 같음을 보장할 수 없어 null
+     */
+    static String normalize(String code) {
+        if (code == null) {
+            return null;
+        }
+        int end = code.length();
+        while (end > 0 && code.charAt(end - 1) == ' ') {
+            end--;
+        }
+        for (int i = 0; i < end; i++) {
+            char c = code.charAt(i);
+            if (c < 0x20 || c > 0x7e) {
+                return null;
+            }
+        }
+        return code.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 필터 통계
+     *
+     * @param observedFalsePositiveRate DB에 없던 코드 중 필터가 존재 가능으로 판정한 비율
+     */
+    public record Stats(boolean ready, long codes, long bitSize, int hashCount, double expectedFalsePositiveRate,
+                        long lookups, long definiteNegatives, long confirmedHits, long falsePositives,
+                        double observedFalsePositiveRate) {
+    }
+}
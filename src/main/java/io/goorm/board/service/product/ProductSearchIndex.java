@@ -0,0 +1,737 @@
+package io.goorm.board.service.product;
+
+import io.goorm.board.dto.product.ProductFacetDto;
+import io.goorm.board.dto.product.ProductSearchDto;
+import io.goorm.board.entity.Product;
+import io.goorm.board.enums.ProductPriceRange;
+import io.goorm.board.enums.ProductStatus;
+import io.goorm.board.enums.ProductUnit;
+import io.goorm.board.mapper.ProductMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 상품 검색 인덱스 (메모리)
+ * 상품명/상품코드의 단어별 상품 번호 비트맵과 카테고리/공급업체/상태/단위/가격 구간/이미지 비트맵을 보관하고,
+ * 조건 교집합과 정렬, 페이지 자르기까지 메모리에서 처리해 현재 페이지의 상품 번호만 반환
+ * 같은 비트맵으로 패싯 값별 상품 수도 계산
+ * - 한글 음절과 그 외 문자/숫자는 같은 종류가 이어지는 구간(토큰)으로 나누고, 구간 안의 두 글자(bigram)와 한 글자를 색인
+ * - 비트맵 교집합은 후보만 좁히고 최종 판정은 소문자 부분 문자열 비교 (검색어의 %, _도 문자 그대로 비교하며 DB 검색도 이스케이프해 동일)
+ * - DB 정렬 규칙(utf8mb4_unicode_ci)과 달리 악센트/전각·반각 차이는 구분하므로 그런 변형 문자는 DB 검색과 결과가 다를 수 있음
+ * - 기동 시 전체 상품으로 적재하고, 상품 등록/수정/삭제는 커밋 후 해당 상품만 다시 읽어 반영
+ * - 같은 상품의 반영이 겹치면 커밋 후 발급한 순번이 가장 큰 요청의 조회 결과만 남김 (늦게 끝난 이전 조회가 덮어쓰지 않음)
+ * - 반영에 실패한 상품은 retry-delay-ms마다 다시 읽고, 적재에 실패하면 전체를 다시 적재
+ * 적재 전, 적재 실패, 재시도 대기 상품이 있는 동안, 비활성화 상태에서는 search가 null을 반환하며 호출자는 DB 검색을 사용
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    // 이보다 큰 페이지(전체 조회 등)는 IN 목록이 커지므로 DB 검색 사용
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int NONE = 0;
+    private static final int HANGUL = 1;
+    private static final int WORD = 2;
+
+    private final ProductMapper productMapper;
+    private final TransactionTemplate readTransaction;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 적재 완료된 인덱스 (적재 전이거나 DB와 어긋난 경우 null)
+    private IndexData data;
+
+    // 전체 적재 중 변경된 상품 (적재가 끝난 뒤 다시 반영, 적재 중이 아니면 null)
+    private Set<Long> changedDuringBuild;
+
+    // 반영 요청 순번 (커밋 후 발급하므로 순번이 큰 요청의 조회는 순번이 작은 요청의 커밋을 모두 포함)
+    private final AtomicLong refreshSequence = new AtomicLong();
+
+    // 반영에 실패해 다시 읽어야 하는 상품과 실패한 요청 순번 (비어 있지 않으면 인덱스가 DB와 어긋난 상태)
+    private final Map<Long, Long> pendingRetry = new HashMap<>();
+
+    // 전체 적재 실패 여부 (재시도 작업에서 다시 적재)
+    private volatile boolean buildFailed;
+
+    public ProductSearchIndex(ProductMapper productMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.product.search-index.enabled:true}") boolean enabled) {
+        this.productMapper = productMapper;
+        this.enabled = enabled;
+
+        // 커밋 후 반영 시 원래 트랜잭션 자원을 이어 쓰지 않도록 별도 읽기 트랜잭션으로 조회
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 기동 시 전체 상품으로 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        long baseSequence;
+        lock.writeLock().lock();
+        try {
+            changedDuringBuild = new HashSet<>();
+            baseSequence = refreshSequence.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 이 순번 이전에 요청된 반영은 커밋이 적재 조회보다 앞서므로 적재 결과에 포함됨
+        IndexData built = new IndexData(baseSequence);
+        try {
+            readTransaction.executeWithoutResult(status -> {
+                try (Cursor<Product> products = productMapper.streamAllForSearchIndex()) {
+                    for (Product product : products) {
+                        built.add(IndexedProduct.from(product));
+                    }
+                } catch (IOException e) {
+                    log.warn("Failed to close product search index cursor", e);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("상품 검색 인덱스 적재 실패 - 다시 적재할 때까지 DB 검색 사용: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                changedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            buildFailed = true;
+            return;
+        }
+
+        Set<Long> changed;
+        lock.writeLock().lock();
+        try {
+            data = built;
+            changed = changedDuringBuild;
+            changedDuringBuild = null;
+            // 이전 인덱스의 재시도 대상은 적재 결과에 포함되었거나 changed로 다시 반영됨
+            pendingRetry.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        buildFailed = false;
+        changed.forEach(this::refresh);
+
+        log.info("상품 검색 인덱스 적재 완료 - 상품: {}개, 단어: {}개, {}ms",
+                built.products.size(), built.nameTerms.size() + built.codeTerms.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 검색 조건에 맞는 현재 페이지 상품 번호와 전체 건수
+     *
+     * @return 인덱스를 사용할 수 없으면 null
+     */
+    public SearchResult search(ProductSearchDto search) {
+        if (search.getSize() <= 0 || search.getSize() > MAX_PAGE_SIZE) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            return isUsable() ? data.search(search) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건 기준 패싯 값별 상품 수 (카테고리/공급업체/상태/단위/가격 구간)
+     *
+     * @return 인덱스를 사용할 수 없으면 null
+     */
+    public ProductFacetDto facets(ProductSearchDto search) {
+        lock.readLock().lock();
+        try {
+            return isUsable() ? data.facets(search) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 변경 반영 (트랜잭션 안이면 커밋 후, 롤백되면 반영하지 않음)
+     */
+    public void refreshAfterCommit(Long productSeq) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(productSeq);
+                }
+            });
+        } else {
+            refresh(productSeq);
+        }
+    }
+
+    /**
+     * 반영에 실패한 상품 다시 읽기 (적재에 실패했으면 전체 다시 적재)
+     */
+    @Scheduled(fixedDelayString = "${app.product.search-index.retry-delay-ms:30000}")
+    public void retryFailed() {
+        if (!enabled) {
+            return;
+        }
+        if (buildFailed) {
+            build();
+            return;
+        }
+
+        List<Long> productSeqs;
+        lock.readLock().lock();
+        try {
+            productSeqs = new ArrayList<>(pendingRetry.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+        productSeqs.forEach(this::refresh);
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (잠금 보유 상태에서 호출)
+     */
+    private boolean isUsable() {
+        return data != null && pendingRetry.isEmpty();
+    }
+
+    /**
+     * 상품 한 건을 DB에서 다시 읽어 인덱스 교체 (삭제된 상품은 제거)
+     * 적재 중이면 조회 전에 변경 상품으로 기록해, 조회에 실패하더라도 적재가 끝난 뒤 다시 반영되도록 함
+     */
+    private void refresh(Long productSeq) {
+        long sequence;
+        lock.writeLock().lock();
+        try {
+            if (data == null && changedDuringBuild == null) {
+                // 적재 전/적재 실패 상태 - 다음 전체 적재에 포함됨
+                return;
+            }
+            if (changedDuringBuild != null) {
+                changedDuringBuild.add(productSeq);
+            }
+            sequence = refreshSequence.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Optional<Product> product;
+        try {
+            product = readTransaction.execute(status -> productMapper.findById(productSeq));
+        } catch (RuntimeException e) {
+            // DB와 어긋난 인덱스는 결과를 신뢰할 수 없으므로 재시도가 성공할 때까지 DB 검색 사용
+            log.warn("상품 검색 인덱스 반영 실패 - 재시도 전까지 DB 검색 사용, Product: {}, Error: {}", productSeq, e.getMessage());
+            lock.writeLock().lock();
+            try {
+                if (data != null) {
+                    pendingRetry.merge(productSeq, sequence, Math::max);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (data != null) {
+                data.apply(productSeq, sequence, product.map(IndexedProduct::from).orElse(null));
+            }
+            // 실패한 요청보다 나중에 시작한 조회가 성공했으면 그 커밋까지 반영된 상태
+            Long failedSequence = pendingRetry.get(productSeq);
+            if (failedSequence != null && failedSequence < sequence) {
+                pendingRetry.remove(productSeq);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 단어 (구간 안의 모든 한 글자와 두 글자)
+     */
+    static Set<String> terms(String text) {
+        Set<String> terms = new HashSet<>();
+        forEachRun(text, run -> {
+            for (int i = 0; i < run.length(); i++) {
+                terms.add(run.substring(i, i + 1));
+                if (i + 1 < run.length()) {
+                    terms.add(run.substring(i, i + 2));
+                }
+            }
+        });
+        return terms;
+    }
+
+    /**
+     * 검색어 단어 (한 글자 구간은 한 글자, 두 글자 이상 구간은 두 글자 단어만 사용)
+     */
+    static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachRun(query, run -> {
+            if (run.length() == 1) {
+                terms.add(run);
+                return;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        });
+        return terms;
+    }
+
+    /**
+     * 같은 종류(한글 음절 / 그 외 문자·숫자) 문자가 이어지는 구간 단위로 전달 (공백·기호는 구분자)
+     */
+    private static void forEachRun(String text, Consumer<String> consumer) {
+        int start = 0;
+        int runType = NONE;
+        for (int i = 0; i <= text.length(); i++) {
+            int type = i < text.length() ? charType(text.charAt(i)) : NONE;
+            if (type != runType) {
+                if (runType != NONE) {
+                    consumer.accept(text.substring(start, i));
+                }
+                start = i;
+                runType = type;
+            }
+        }
+    }
+
+    private static int charType(char c) {
+        if (c >= '가' && c <= '힣') {
+            return HANGUL;
+        }
+        return Character.isLetterOrDigit(c) ? WORD : NONE;
+    }
+
+    /**
+     * 대소문자 구분 없는 비교용 정규화 (DB 정렬 규칙과 동일하게 대소문자 무시)
+     */
+    private static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * 다른 조건과 따로 건수를 세는 패싯
+     */
+    private enum Facet {
+        CATEGORY, SUPPLIER, STATUS, UNIT, PRICE
+    }
+
+    /**
+     * 검색 결과 (현재 페이지 상품 번호는 정렬 순서대로)
+     */
+    public record SearchResult(List<Long> productSeqs, int total) {
+    }
+
+    /**
+     * 색인된 상품 (검색 조건과 정렬에 필요한 값만 보관)
+     */
+    private record IndexedProduct(int id, Long productSeq, String name, String code,
+                                  String nameText, String codeText,
+                                  Long categorySeq, Long supplierSeq, ProductStatus status, ProductUnit unit,
+                                  BigDecimal unitPrice, boolean hasImage,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static IndexedProduct from(Product product) {
+            return new IndexedProduct(
+                    Math.toIntExact(product.getProductSeq()),
+                    product.getProductSeq(),
+                    product.getName(),
+                    product.getCode(),
+                    normalize(product.getName()),
+                    normalize(product.getCode()),
+                    product.getCategorySeq(),
+                    product.getSupplierSeq(),
+                    product.getStatus(),
+                    product.getUnit(),
+                    product.getUnitPrice(),
+                    product.getImageUrl() != null && !product.getImageUrl().isEmpty(),
+                    product.getCreatedAt(),
+                    product.getUpdatedAt());
+        }
+    }
+
+    /**
+     * 인덱스 본체 (읽기/쓰기 잠금 안에서만 접근)
+     */
+    private static final class IndexData {
+
+        // 적재 시점 반영 순번과 상품별 마지막으로 반영한 요청 순번
+        private final long baseSequence;
+        private final Map<Long, Long> appliedSequences = new HashMap<>();
+
+        private final Map<Integer, IndexedProduct> products = new HashMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> nameTerms = new HashMap<>();
+        private final Map<String, RoaringBitmap> codeTerms = new HashMap<>();
+        private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+        private final Map<Long, RoaringBitmap> bySupplier = new HashMap<>();
+        private final Map<ProductStatus, RoaringBitmap> byStatus = new EnumMap<>(ProductStatus.class);
+        private final Map<ProductUnit, RoaringBitmap> byUnit = new EnumMap<>(ProductUnit.class);
+        private final Map<ProductPriceRange, RoaringBitmap> byPriceRange = new EnumMap<>(ProductPriceRange.class);
+        private final RoaringBitmap withImage = new RoaringBitmap();
+
+        IndexData(long baseSequence) {
+            this.baseSequence = baseSequence;
+        }
+
+        /**
+         * 상품 한 건 교체 (product가 null이면 제거)
+         * 이미 더 큰 순번의 조회 결과가 반영되었으면 오래된 조회 결과이므로 무시
+         */
+        void apply(Long productSeq, long sequence, IndexedProduct product) {
+            if (sequence <= appliedSequences.getOrDefault(productSeq, baseSequence)) {
+                return;
+            }
+            appliedSequences.put(productSeq, sequence);
+            remove(productSeq);
+            if (product != null) {
+                add(product);
+            }
+        }
+
+        void add(IndexedProduct product) {
+            int id = product.id();
+            products.put(id, product);
+            all.add(id);
+            for (String term : terms(product.nameText())) {
+                nameTerms.computeIfAbsent(term, key -> new RoaringBitmap()).add(id);
+            }
+            for (String term : terms(product.codeText())) {
+                codeTerms.computeIfAbsent(term, key -> new RoaringBitmap()).add(id);
+            }
+            addTo(byCategory, product.categorySeq(), id);
+            addTo(bySupplier, product.supplierSeq(), id);
+            addTo(byStatus, product.status(), id);
+            addTo(byUnit, product.unit(), id);
+            addTo(byPriceRange, ProductPriceRange.of(product.unitPrice()), id);
+            if (product.hasImage()) {
+                withImage.add(id);
+            }
+        }
+
+        void remove(Long productSeq) {
+            IndexedProduct product = products.remove(Math.toIntExact(productSeq));
+            if (product == null) {
+                return;
+            }
+
+            int id = product.id();
+            all.remove(id);
+            for (String term : terms(product.nameText())) {
+                removeFrom(nameTerms, term, id);
+            }
+            for (String term : terms(product.codeText())) {
+                removeFrom(codeTerms, term, id);
+            }
+            removeFrom(byCategory, product.categorySeq(), id);
+            removeFrom(bySupplier, product.supplierSeq(), id);
+            removeFrom(byStatus, product.status(), id);
+            removeFrom(byUnit, product.unit(), id);
+            removeFrom(byPriceRange, ProductPriceRange.of(product.unitPrice()), id);
+            withImage.remove(id);
+        }
+
+        SearchResult search(ProductSearchDto search) {
+            RoaringBitmap matched = matching(filters(search), null);
+
+            int total = matched.getCardinality();
+            int from = search.getOffset();
+            if (from >= total) {
+                return new SearchResult(List.of(), total);
+            }
+            int to = (int) Math.min((long) from + search.getSize(), total);
+
+            List<IndexedProduct> candidates = new ArrayList<>(total);
+            matched.forEach((int id) -> candidates.add(products.get(id)));
+
+            List<IndexedProduct> top = topK(candidates, comparator(search), to);
+            List<Long> productSeqs = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                productSeqs.add(top.get(i).productSeq());
+            }
+            return new SearchResult(productSeqs, total);
+        }
+
+        /**
+         * 패싯 값별 건수
+         * 패싯마다 자신을 뺀 나머지 조건의 결과 비트맵을 한 번 만들고, 값별 비트맵과의 교집합 크기만 계산
+         */
+        ProductFacetDto facets(ProductSearchDto search) {
+            Filters filters = filters(search);
+
+            ProductFacetDto facets = ProductFacetDto.builder()
+                    .total(matching(filters, null).getCardinality())
+                    .build();
+            countInto(byCategory, matching(filters, Facet.CATEGORY), facets.getCategories());
+            countInto(bySupplier, matching(filters, Facet.SUPPLIER), facets.getSuppliers());
+            countInto(byStatus, matching(filters, Facet.STATUS), facets.getStatuses());
+            countInto(byUnit, matching(filters, Facet.UNIT), facets.getUnits());
+            countInto(byPriceRange, matching(filters, Facet.PRICE), facets.getPriceRanges());
+            return facets;
+        }
+
+        /**
+         * 조건 교집합 (excluded 패싯 조건은 제외, 조건이 없으면 전체 상품)
+         */
+        private RoaringBitmap matching(Filters filters, Facet excluded) {
+            RoaringBitmap matched = filters.matching(excluded);
+            return matched != null ? matched : all;
+        }
+
+        /**
+         * 검색 조건별 일치 상품 비트맵 (조건이 없으면 null)
+         */
+        private Filters filters(ProductSearchDto search) {
+            return new Filters(
+                    textMatches(search),
+                    search.hasCategorySeq() ? posting(byCategory, search.getCategorySeq()) : null,
+                    search.hasSupplierSeq() ? posting(bySupplier, search.getSupplierSeq()) : null,
+                    search.getStatus() != null ? posting(byStatus, search.getStatus()) : null,
+                    search.getUnit() != null ? posting(byUnit, search.getUnit()) : null,
+                    search.hasPriceRange() ? priceMatches(search.getMinPrice(), search.getMaxPrice()) : null,
+                    search.getHasImage() == null ? null
+                            : search.getHasImage() ? withImage : RoaringBitmap.andNot(all, withImage));
+        }
+
+        /**
+         * 검색어/상품명/상품코드 조건 일치 상품
+         * 단어 비트맵 교집합으로 후보를 좁힌 뒤 소문자 부분 문자열 비교로 확정
+         */
+        private RoaringBitmap textMatches(ProductSearchDto search) {
+            String keyword = search.hasKeyword() ? normalize(search.getKeyword()) : null;
+            String name = search.hasName() ? normalize(search.getName()) : null;
+            String code = search.hasCode() ? normalize(search.getCode()) : null;
+            if (keyword == null && name == null && code == null) {
+                return null;
+            }
+
+            RoaringBitmap candidates = all.clone();
+            if (keyword != null) {
+                candidates.and(RoaringBitmap.or(termCandidates(nameTerms, keyword), termCandidates(codeTerms, keyword)));
+            }
+            if (name != null) {
+                candidates.and(termCandidates(nameTerms, name));
+            }
+            if (code != null) {
+                candidates.and(termCandidates(codeTerms, code));
+            }
+
+            RoaringBitmap matched = new RoaringBitmap();
+            candidates.forEach((int id) -> {
+                IndexedProduct product = products.get(id);
+                if ((keyword == null || product.nameText().contains(keyword) || product.codeText().contains(keyword))
+                        && (name == null || product.nameText().contains(name))
+                        && (code == null || product.codeText().contains(code))) {
+                    matched.add(id);
+                }
+            });
+            return matched;
+        }
+
+        /**
+         * 검색어 단어를 모두 포함하는 상품 후보 (문자/숫자가 없는 검색어는 전체를 후보로 두고 문자열 비교로 판정)
+         */
+        private RoaringBitmap termCandidates(Map<String, RoaringBitmap> postings, String query) {
+            RoaringBitmap result = null;
+            for (String term : queryTerms(query)) {
+                RoaringBitmap posting = postings.get(term);
+                if (posting == null) {
+                    return new RoaringBitmap();
+                }
+                if (result == null) {
+                    result = posting.clone();
+                } else {
+                    result.and(posting);
+                }
+            }
+            return result != null ? result : all;
+        }
+
+        /**
+         * 판매가 범위 일치 상품 (양 끝 포함)
+         * 범위에 완전히 들어가는 가격 구간은 비트맵을 그대로 합치고, 걸치는 구간만 상품별로 비교
+         */
+        private RoaringBitmap priceMatches(BigDecimal minPrice, BigDecimal maxPrice) {
+            RoaringBitmap matched = new RoaringBitmap();
+            for (Map.Entry<ProductPriceRange, RoaringBitmap> entry : byPriceRange.entrySet()) {
+                ProductPriceRange range = entry.getKey();
+                boolean aboveMin = minPrice == null
+                        || (range.getMinPrice() != null && range.getMinPrice().compareTo(minPrice) >= 0);
+                boolean belowMax = maxPrice == null
+                        || (range.getMaxPrice() != null && range.getMaxPrice().compareTo(maxPrice) <= 0);
+                if (aboveMin && belowMax) {
+                    matched.or(entry.getValue());
+                    continue;
+                }
+
+                boolean overlaps = (maxPrice == null || range.getMinPrice() == null || range.getMinPrice().compareTo(maxPrice) <= 0)
+                        && (minPrice == null || range.getMaxPrice() == null || range.getMaxPrice().compareTo(minPrice) > 0);
+                if (overlaps) {
+                    entry.getValue().forEach((int id) -> {
+                        BigDecimal price = products.get(id).unitPrice();
+                        if ((minPrice == null || price.compareTo(minPrice) >= 0)
+                                && (maxPrice == null || price.compareTo(maxPrice) <= 0)) {
+                            matched.add(id);
+                        }
+                    });
+                }
+            }
+            return matched;
+        }
+
+        private static <K> RoaringBitmap posting(Map<K, RoaringBitmap> postings, K key) {
+            RoaringBitmap posting = postings.get(key);
+            return posting != null ? posting : new RoaringBitmap();
+        }
+
+        private static <K> void countInto(Map<K, RoaringBitmap> postings, RoaringBitmap matched, Map<K, Integer> counts) {
+            for (Map.Entry<K, RoaringBitmap> entry : postings.entrySet()) {
+                int count = RoaringBitmap.andCardinality(entry.getValue(), matched);
+                if (count > 0) {
+                    counts.put(entry.getKey(), count);
+                }
+            }
+        }
+
+        /**
+         * 조건별 일치 상품 비트맵 (null이면 조건 없음, 비트맵은 읽기 전용으로만 사용)
+         */
+        private record Filters(RoaringBitmap text, RoaringBitmap category, RoaringBitmap supplier,
+                               RoaringBitmap status, RoaringBitmap unit, RoaringBitmap price, RoaringBitmap image) {
+
+            /**
+             * 조건 교집합 (excluded 패싯 조건은 제외, 적용할 조건이 없으면 null)
+             */
+            RoaringBitmap matching(Facet excluded) {
+                RoaringBitmap result = null;
+                result = and(result, text);
+                result = and(result, image);
+                result = excluded != Facet.CATEGORY ? and(result, category) : result;
+                result = excluded != Facet.SUPPLIER ? and(result, supplier) : result;
+                result = excluded != Facet.STATUS ? and(result, status) : result;
+                result = excluded != Facet.UNIT ? and(result, unit) : result;
+                result = excluded != Facet.PRICE ? and(result, price) : result;
+                return result;
+            }
+
+            private static RoaringBitmap and(RoaringBitmap result, RoaringBitmap condition) {
+                if (condition == null) {
+                    return result;
+                }
+                return result == null ? condition.clone() : RoaringBitmap.and(result, condition);
+            }
+        }
+
+        /**
+         * 정렬 기준 상위 k건 (전체 정렬 없이 크기 k의 힙으로 선택)
+         */
+        private static List<IndexedProduct> topK(List<IndexedProduct> matched, Comparator<IndexedProduct> order, int k) {
+            if (k >= matched.size()) {
+                matched.sort(order);
+                return matched;
+            }
+
+            PriorityQueue<IndexedProduct> heap = new PriorityQueue<>(k + 1, order.reversed());
+            for (IndexedProduct product : matched) {
+                heap.offer(product);
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+            }
+            List<IndexedProduct> top = new ArrayList<>(heap);
+            top.sort(order);
+            return top;
+        }
+
+        /**
+         * ProductMapper.xml의 orderBy와 같은 정렬 (NULL은 오름차순에서 먼저, 상태는 ENUM 정의 순서, 동률은 상품 번호)
+         */
+        private static Comparator<IndexedProduct> comparator(ProductSearchDto search) {
+            String sortBy = search.getSortBy() != null ? search.getSortBy() : "";
+            Comparator<IndexedProduct> order = switch (sortBy) {
+                case "name" -> Comparator.comparing(IndexedProduct::name,
+                        Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+                case "code" -> Comparator.comparing(IndexedProduct::code,
+                        Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+                case "unitPrice" -> Comparator.comparing(IndexedProduct::unitPrice,
+                        Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "status" -> Comparator.comparing(IndexedProduct::status,
+                        Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "updated_at" -> Comparator.comparing(IndexedProduct::updatedAt,
+                        Comparator.nullsFirst(Comparator.naturalOrder()));
+                default -> Comparator.comparing(IndexedProduct::createdAt,
+                        Comparator.nullsFirst(Comparator.naturalOrder()));
+            };
+            order = order.thenComparingInt(IndexedProduct::id);
+            return "ASC".equals(search.getSortDirection()) ? order : order.reversed();
+        }
+
+        private static <K> void addTo(Map<K, RoaringBitmap> postings, K key, int id) {
+            if (key != null) {
+                postings.computeIfAbsent(key, k -> new RoaringBitmap()).add(id);
+            }
+        }
+
+        private static <K> void removeFrom(Map<K, RoaringBitmap> postings, K key, int id) {
+            if (key == null) {
+                return;
+            }
+            RoaringBitmap posting = postings.get(key);
+            if (posting == null) {
+                return;
+            }
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.goorm.board.service.product;
+
+import io.goorm.board.dto.product.ProductDto;
+import io.goorm.board.mapper.ProductMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 발주 화면용 판매 가능 상품 목록 캐시
+ * - 상품/카테고리/공급업체 정보는 변경 시점(상품 등록/수정/삭제, 카테고리/공급업체 수정/활성화/비활성화)에 무효화
+ * - 재고는 stock-ttl-seconds마다 재고 테이블만 조회해 갱신하고, 갱신 중인 동안 다른 요청은 직전 목록을 그대로 사용
+ * - 판매 가능 상품이 max-products를 넘으면 캐시하지 않고 매번 DB에서 조회 (메모리 상한)
+ * 반환 목록과 DTO는 요청 간에 공유되므로 호출자는 수정하지 않아야 함
+ */
+@Slf4j
+@Component
+public class SellableCatalogCache {
+
+    private final ProductMapper productMapper;
+    private final int maxProducts;
+    private final long stockTtlNanos;
+
+    // 카탈로그 적재/재고 갱신/무효화는 한 스레드만 수행
+    // (무효화는 진행 중인 적재가 끝난 뒤 적용되므로 무효화 이전 결과가 남지 않음)
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    // 현재 카탈로그 (null이면 다음 조회 시 적재)
+    private volatile Catalog catalog;
+
+    // 상품 수가 상한을 넘어 캐시하지 않는 상태 (다음 무효화 때 다시 적재 시도)
+    private volatile boolean oversized;
+
+    public SellableCatalogCache(ProductMapper productMapper,
+                                @Value("${app.catalog.sellable.max-products:5000}") int maxProducts,
+                                @Value("${app.catalog.sellable.stock-ttl-seconds:10}") long stockTtlSeconds) {
+        this.productMapper = productMapper;
+        this.maxProducts = Math.max(1, maxProducts);
+        this.stockTtlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, stockTtlSeconds));
+    }
+
+    /**
+     * 판매 가능 상품 목록 (재고 포함)
+     */
+    public List<ProductDto> getSellableProducts() {
+        Catalog current = catalog;
+        if (current == null) {
+            return oversized ? productMapper.findSellableProducts() : load();
+        }
+
+        if (current.isStockExpired(System.nanoTime(), stockTtlNanos) && loadLock.tryLock()) {
+            try {
+                return refreshStock(current);
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current.products();
+    }
+
+    /**
+     * 카탈로그 무효화
+     * 트랜잭션 안에서 호출되면 커밋/롤백 후에도 한 번 더 무효화해
+     * 커밋 전 데이터를 다시 적재한 요청의 결과가 남지 않도록 함
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict();
+                }
+            });
+        }
+        evict();
+    }
+
+    private void evict() {
+        loadLock.lock();
+        try {
+            catalog = null;
+            oversized = false;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private List<ProductDto> load() {
+        loadLock.lock();
+        try {
+            Catalog current = catalog;
+            if (current != null) {
+                return current.products();
+            }
+
+            List<ProductDto> products = productMapper.findSellableProducts();
+            if (products.size() > maxProducts) {
+                log.warn("판매 가능 상품 수가 캐시 상한을 넘어 캐시하지 않음 - 상품: {}개, 상한: {}개",
+                        products.size(), maxProducts);
+                oversized = true;
+                return products;
+            }
+
+            Catalog loaded = new Catalog(List.copyOf(products), System.nanoTime());
+            catalog = loaded;
+            log.debug("판매 가능 상품 캐시 적재 - 상품: {}개", products.size());
+            return loaded.products();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 재고만 다시 조회해 목록 교체 (loadLock 보유 상태에서 호출)
+     */
+    private List<ProductDto> refreshStock(Catalog current) {
+        if (catalog != current) {
+            // 다른 스레드가 이미 갱신했거나 무효화됨
+            Catalog latest = catalog;
+            return latest != null ? latest.products() : load();
+        }
+
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (ProductDto stock : productMapper.findSellableStocks()) {
+            stocks.put(stock.getProductSeq(), stock.getStock());
+        }
+
+        List<ProductDto> refreshed = current.products().stream()
+                .map(product -> product.toBuilder()
+                        .stock(stocks.getOrDefault(product.getProductSeq(), 0))
+                        .build())
+                .toList();
+
+        Catalog updated = new Catalog(refreshed, System.nanoTime());
+        catalog = updated;
+        return updated.products();
+    }
+
+    /**
+     * 캐시된 상품 목록과 재고 갱신 시각
+     */
+    private record Catalog(List<ProductDto> products, long stockRefreshedAt) {
+
+        boolean isStockExpired(long now, long ttlNanos) {
+            return now - stockRefreshedAt >= ttlNanos;
+        }
+    }
+}
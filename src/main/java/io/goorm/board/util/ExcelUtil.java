@@ -1,18 +1,19 @@
 package io.goorm.board.util;
 
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import java.math.BigDecimal;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Field;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 
@@ -20,6 +21,15 @@ public class ExcelUtil {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    // SXSSF 메모리 유지 행 수 (초과분은 임시 파일로 flush)
+    private static final int ROW_ACCESS_WINDOW_SIZE = 200;
+
+    // 컬럼 폭 추정에 사용할 앞부분 데이터 행 수
+    private static final int WIDTH_SAMPLE_ROWS = 500;
+
+    // 컬럼 폭 상한 (글자 수)
+    private static final int MAX_COLUMN_WIDTH_CHARS = 60;
+
     /**
      * 범용 Excel 생성 메서드 (기존 호환성)
      */
@@ -39,46 +49,91 @@ public class ExcelUtil {
      */
     public static <T> byte[] createExcelWithTypes(String sheetName, String[] headers, List<T> data,
                                        Function<T, Object[]> rowMapper, CellType[] columnTypes) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet(sheetName);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeExcel(sheetName, headers, data.iterator(), rowMapper, columnTypes, outputStream);
+        return outputStream.toByteArray();
+    }
 
-        // 헤더 스타일
-        CellStyle headerStyle = createHeaderStyle(workbook);
+    /**
+     * 스트리밍 Excel 생성 메서드 (SXSSF)
+     * 최근 ROW_ACCESS_WINDOW_SIZE 행만 메모리에 두고 나머지는 임시 파일로 내보내므로
+     * 데이터 건수와 무관하게 메모리 사용량이 일정함 (MyBatis Cursor 등 1회성 Iterator와 함께 사용)
+     * 컬럼 폭은 autoSizeColumn 대신 헤더와 앞부분 샘플 행의 글자 수로 추정
+     *
+     * @return 작성한 데이터 행 수
+     */
+    public static <T> int writeExcel(String sheetName, String[] headers, Iterator<T> data,
+                                     Function<T, Object[]> rowMapper, CellType[] columnTypes,
+                                     OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+
+        try {
+            Sheet sheet = workbook.createSheet(sheetName);
+
+            // 헤더 스타일
+            CellStyle headerStyle = createHeaderStyle(workbook);
+
+            // 데이터 스타일
+            CellStyle dataStyle = createDataStyle(workbook);
+
+            // 헤더 생성
+            int[] columnWidths = new int[headers.length];
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < headers.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(headers[i]);
+                cell.setCellStyle(headerStyle);
+                columnWidths[i] = displayWidth(headers[i]);
+            }
 
-        // 데이터 스타일
-        CellStyle dataStyle = createDataStyle(workbook);
+            // 데이터 행 생성
+            int rowCount = 0;
+            while (data.hasNext()) {
+                Row row = sheet.createRow(rowCount + 1);
+                Object[] rowData = rowMapper.apply(data.next());
 
-        // 헤더 생성
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
+                for (int j = 0; j < rowData.length; j++) {
+                    CellType cellType = (columnTypes != null && j < columnTypes.length)
+                        ? columnTypes[j] : CellType.STRING;
+                    createTypedCell(row, j, rowData[j], dataStyle, cellType);
 
-        // 데이터 행 생성
-        for (int i = 0; i < data.size(); i++) {
-            Row row = sheet.createRow(i + 1);
-            Object[] rowData = rowMapper.apply(data.get(i));
+                    if (rowCount < WIDTH_SAMPLE_ROWS && j < columnWidths.length && rowData[j] != null) {
+                        columnWidths[j] = Math.max(columnWidths[j], displayWidth(rowData[j].toString()));
+                    }
+                }
+                rowCount++;
+            }
 
-            for (int j = 0; j < rowData.length; j++) {
-                CellType cellType = (columnTypes != null && j < columnTypes.length)
-                    ? columnTypes[j] : CellType.STRING;
-                createTypedCell(row, j, rowData[j], dataStyle, cellType);
+            // 컬럼 폭 설정 (샘플 기반 추정)
+            for (int i = 0; i < columnWidths.length; i++) {
+                int widthChars = Math.min(MAX_COLUMN_WIDTH_CHARS, columnWidths[i] + 2);
+                sheet.setColumnWidth(i, widthChars * 256);
             }
-        }
 
-        // 컬럼 폭 자동 조정
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
-        }
+            workbook.write(outputStream);
+            outputStream.flush();
+            return rowCount;
 
-        // 바이트 배열로 변환
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
+        } finally {
+            // 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
+        }
+    }
 
-        return outputStream.toByteArray();
+    /**
+     * 셀 표시 폭 추정 (한글 등 전각 문자는 2칸)
+     */
+    private static int displayWidth(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int width = 0;
+        for (int i = 0; i < value.length(); i++) {
+            width += value.charAt(i) >= 0x1100 ? 2 : 1;
+        }
+        return width;
     }
 
     private static CellStyle createHeaderStyle(Workbook workbook) {
@@ -147,9 +202,8 @@ public class ExcelUtil {
                 break;
             case STRING:
             default:
+                // 문자열 값 설정 시 텍스트 타입 셀로 생성됨
                 cell.setCellValue(value.toString());
-                // 텍스트 타입으로 명시적 설정
-                cell.setCellType(org.apache.poi.ss.usermodel.CellType.STRING);
                 break;
         }
     }
@@ -165,8 +219,15 @@ public class ExcelUtil {
      * Excel 파일명 생성
      */
     public static String generateFileName(String prefix) throws UnsupportedEncodingException {
+        return generateFileName(prefix, "xlsx");
+    }
+
+    /**
+     * 내보내기 파일명 생성 (확장자 지정)
+     */
+    public static String generateFileName(String prefix, String extension) throws UnsupportedEncodingException {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String fileName = prefix + "_" + timestamp + ".xlsx";
+        String fileName = prefix + "_" + timestamp + "." + extension;
         return URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
                 .replaceAll("\\+", "%20");
     }
@@ -176,15 +237,8 @@ public class ExcelUtil {
      */
     public static <T> void downloadExcel(HttpServletResponse response, List<T> data,
                                        String[] headers, String[] properties, String filePrefix) throws IOException {
-        // 파일명 설정
-        String fileName = generateFileName(filePrefix);
-
-        // 응답 헤더 설정
-        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
-        response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
-        response.setHeader("Pragma", "no-cache");
-        response.setHeader("Expires", "0");
+        // 파일명 및 응답 헤더 설정
+        setDownloadHeaders(response, generateFileName(filePrefix));
 
         // Excel 생성
         Function<T, Object[]> rowMapper = item -> {
@@ -200,11 +254,28 @@ public class ExcelUtil {
             return row;
         };
 
-        byte[] excelData = createExcelWithTypes(filePrefix, headers, data, rowMapper, null);
+        // 응답 스트림으로 바로 전송
+        writeExcel(filePrefix, headers, data.iterator(), rowMapper, null, response.getOutputStream());
+    }
+
+    /**
+     * Excel 다운로드 응답 헤더 설정
+     *
+     * @param fileName URL 인코딩된 파일명 ({@link #generateFileName(String)})
+     */
+    public static void setDownloadHeaders(HttpServletResponse response, String fileName) {
+        setDownloadHeaders(response, fileName, "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    }
 
-        // 응답으로 전송
-        response.getOutputStream().write(excelData);
-        response.getOutputStream().flush();
+    /**
+     * 내보내기 다운로드 응답 헤더 설정 (Content-Type 지정)
+     */
+    public static void setDownloadHeaders(HttpServletResponse response, String fileName, String contentType) {
+        response.setContentType(contentType);
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+        response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+        response.setHeader("Pragma", "no-cache");
+        response.setHeader("Expires", "0");
     }
 
     /**
@@ -0,0 +1,48 @@
+package io.goorm.board.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 저장된 파일 다운로드 응답 유틸리티
+ */
+public class FileDownloadUtil {
+
+    // Tomcat sendfile 요청 속성 (NIO 커넥터가 커널에서 직접 소켓으로 전송)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 파일을 응답 본문으로 전송 (Content-Type/Content-Disposition은 호출자가 설정)
+     * 컨테이너가 sendfile을 지원하면 애플리케이션 버퍼를 거치지 않고 커널에서 바로 전송하고,
+     * 지원하지 않으면 FileChannel.transferTo로 응답 채널에 전송
+     */
+    public static void sendFile(HttpServletRequest request, HttpServletResponse response,
+                                Path file, long size) throws IOException {
+        response.setContentLengthLong(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+}
@@ -29,6 +29,8 @@ public class FileUploadUtil {
     // 업로드 타입별 경로
     private static final String PRODUCT_PATH = "products";
     private static final String EXCEL_PATH = "excel";
+    private static final String EXPORT_PATH = "exports";
+    private static final String INVOICE_PATH = "invoices";
 
     // 허용 확장자 설정
     private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp");
@@ -148,6 +150,28 @@ public class FileUploadUtil {
         }
     }
 
+    /**
+     * 내보내기 파일 저장 디렉토리 (문서 루트 하위, 웹 접근 불가)
+     */
+    public Path getExportDirectory() throws IOException {
+        return getDocumentDirectory(EXPORT_PATH);
+    }
+
+    /**
+     * 확정 인보이스 PDF 저장 디렉토리 (문서 루트 하위, 웹 접근 불가)
+     */
+    public Path getInvoiceDirectory() throws IOException {
+        return getDocumentDirectory(INVOICE_PATH);
+    }
+
+    private Path getDocumentDirectory(String subPath) throws IOException {
+        Path documentPath = Paths.get(documentUploadRoot, subPath);
+        if (!Files.exists(documentPath)) {
+            Files.createDirectories(documentPath);
+        }
+        return documentPath;
+    }
+
     /**
      * 파일 확장자 유효성 검증
      */
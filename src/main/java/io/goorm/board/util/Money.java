@@ -0,0 +1,137 @@
+package io.goorm.board.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 고정 소수점 금액 (원화, 소수 둘째 자리까지를 long 최소 단위로 보관)
+ * 금액 컬럼(DECIMAL(15,2))과 같은 정밀도로 계산하며, 모든 연산은 정확하고 오버플로 시 ArithmeticException
+ * BigDecimal 변환은 DB/화면 경계(of, toBigDecimal)에서만 수행
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_PER_WON = 100;
+    // 할인율 1% = 100bp, 100% = 10,000bp
+    private static final long BASIS_POINTS_PER_WHOLE = 10_000;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * 최소 단위(0.01원) 금액
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * 원 단위 금액
+     */
+    public static Money ofWon(long won) {
+        return ofMinor(Math.multiplyExact(won, MINOR_PER_WON));
+    }
+
+    /**
+     * BigDecimal 금액 변환 (소수 셋째 자리 이하 값이 있으면 ArithmeticException)
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    /**
+     * null을 0원으로 보는 변환 (선택 컬럼용)
+     */
+    public static Money ofNullable(BigDecimal amount) {
+        return amount != null ? of(amount) : ZERO;
+    }
+
+    /**
+     * 백분율 할인율(5.0 = 5%)을 bp로 변환 (소수 셋째 자리 이하 값이 있으면 ArithmeticException)
+     */
+    public static long basisPoints(BigDecimal ratePercent) {
+        return ratePercent.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    /**
+     * 비율 금액 (금액 × bp / 10,000, 최소 단위에서 HALF_UP 반올림)
+     * 몫/나머지로 나눠 곱해 중간값이 long 범위를 넘지 않도록 함
+     */
+    public Money applyRate(long basisPoints) {
+        long quotient = minorUnits / BASIS_POINTS_PER_WHOLE;
+        long remainder = minorUnits % BASIS_POINTS_PER_WHOLE;
+
+        long whole = Math.multiplyExact(quotient, basisPoints);
+        long partial = Math.multiplyExact(remainder, basisPoints);
+        long rounded = partial / BASIS_POINTS_PER_WHOLE;
+        long rest = partial % BASIS_POINTS_PER_WHOLE;
+        if (Math.abs(rest) * 2 >= BASIS_POINTS_PER_WHOLE) {
+            rounded += Long.signum(rest);
+        }
+        return ofMinor(Math.addExact(whole, rounded));
+    }
+
+    public Money max(Money other) {
+        return minorUnits >= other.minorUnits ? this : other;
+    }
+
+    public Money min(Money other) {
+        return minorUnits <= other.minorUnits ? this : other;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isGreaterThanOrEqual(Money other) {
+        return minorUnits >= other.minorUnits;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * DB/화면용 BigDecimal (scale 2)
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,19 @@
+-- V29: 발주번호 일자별 시퀀스 테이블 생성
+-- 목적: findMaxDailySequence(MAX + LIKE 스캔) 대신 원자적 증가 카운터로 발주번호 블록을 할당
+
+CREATE TABLE IF NOT EXISTS order_number_sequence (
+    sequence_date CHAR(8) NOT NULL COMMENT '발주일자 (yyyyMMdd)',
+    last_value INT NOT NULL DEFAULT 0 COMMENT '마지막으로 할당된 시퀀스',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (sequence_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT '발주번호 일자별 시퀀스';
+
+-- 기존 발주번호 기준으로 일자별 마지막 시퀀스 초기화 (재사용 방지)
+INSERT INTO order_number_sequence (sequence_date, last_value)
+SELECT LEFT(order_number, 8), MAX(CAST(SUBSTRING(order_number, 9) AS UNSIGNED))
+FROM orders
+WHERE order_number REGEXP '^[0-9]{12,}$'
+GROUP BY LEFT(order_number, 8)
+ON DUPLICATE KEY UPDATE last_value = GREATEST(last_value, VALUES(last_value));
@@ -0,0 +1,15 @@
+-- V30: 발주 검색 조건에 맞춘 복합 인덱스 추가
+-- 목적: 발주 목록/건수 조회의 날짜 조건을 반열린 구간(order_date >= ? AND order_date < ?)으로 변경함에 따라
+--       실제 필터 조합과 키셋 정렬(order_date DESC, order_seq DESC)을 인덱스로 처리
+
+-- 바이어 발주 목록 / 대시보드 최근 발주 (회사 + 기간 + 키셋 커서)
+CREATE INDEX IF NOT EXISTS idx_orders_company_date ON orders (company_seq, order_date, order_seq);
+
+-- 관리자 발주 목록 (상태 + 배송상태 + 기간)
+CREATE INDEX IF NOT EXISTS idx_orders_status_delivery_date ON orders (status, delivery_status, order_date);
+
+-- 관리자 발주 목록 (배송상태 + 기간)
+CREATE INDEX IF NOT EXISTS idx_orders_delivery_date ON orders (delivery_status, order_date);
+
+-- 관리자 발주 목록 기본 정렬 (기간 + 키셋 커서)
+CREATE INDEX IF NOT EXISTS idx_orders_date_seq ON orders (order_date, order_seq);
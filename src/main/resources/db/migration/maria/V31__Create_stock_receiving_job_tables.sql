@@ -0,0 +1,38 @@
+-- V31: 엑셀 입고 백그라운드 작업 테이블 생성
+-- 목적: 업로드 요청 스레드/단일 트랜잭션에서 벗어나 청크 단위로 커밋하고, 진행률과 행별 오류를 보존하여 중단 시 이어서 처리
+
+CREATE TABLE IF NOT EXISTS stock_receiving_job (
+    job_seq BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '입고 작업 시퀀스',
+    supplier_seq BIGINT NOT NULL COMMENT '공급업체 시퀀스',
+    excel_filename VARCHAR(255) NOT NULL COMMENT '업로드된 엑셀 파일명',
+    excel_filepath TEXT NOT NULL COMMENT '엑셀 파일 전체 경로',
+    status ENUM('PENDING', 'RUNNING', 'COMPLETED', 'FAILED') NOT NULL DEFAULT 'PENDING' COMMENT '작업 상태',
+    total_rows INT NULL COMMENT '전체 데이터 행 수 (사전 집계 후 설정)',
+    processed_rows INT NOT NULL DEFAULT 0 COMMENT '커밋된 처리 행 수',
+    success_count INT NOT NULL DEFAULT 0 COMMENT '성공 행 수',
+    failure_count INT NOT NULL DEFAULT 0 COMMENT '실패 행 수',
+    last_excel_row_num INT NOT NULL DEFAULT 0 COMMENT '마지막으로 커밋된 청크의 엑셀 행 번호 (재개 지점)',
+    error_message VARCHAR(1000) NULL COMMENT '작업 실패 사유',
+    requested_by_seq BIGINT NOT NULL COMMENT '요청자 시퀀스',
+    started_at DATETIME NULL COMMENT '처리 시작 일시',
+    finished_at DATETIME NULL COMMENT '처리 종료 일시',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
+
+    CONSTRAINT fk_stock_receiving_job_supplier FOREIGN KEY (supplier_seq) REFERENCES suppliers(supplier_seq),
+    CONSTRAINT fk_stock_receiving_job_requester FOREIGN KEY (requested_by_seq) REFERENCES users(user_seq),
+
+    INDEX idx_stock_receiving_job_status (status, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT '엑셀 입고 작업';
+
+CREATE TABLE IF NOT EXISTS stock_receiving_job_error (
+    error_seq BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '오류 시퀀스',
+    job_seq BIGINT NOT NULL COMMENT '입고 작업 시퀀스',
+    excel_row_num INT NOT NULL COMMENT '엑셀 내 행 번호',
+    message VARCHAR(1000) NOT NULL COMMENT '오류 사유',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
+
+    CONSTRAINT fk_stock_receiving_job_error_job FOREIGN KEY (job_seq) REFERENCES stock_receiving_job(job_seq) ON DELETE CASCADE,
+
+    INDEX idx_stock_receiving_job_error_row (job_seq, excel_row_num)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT '엑셀 입고 작업 행별 오류';
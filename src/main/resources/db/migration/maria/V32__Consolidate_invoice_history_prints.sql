@@ -0,0 +1,29 @@
+-- 인보이스 출력 이력을 인보이스당 한 행으로 통합 (재출력 시 print_count만 증가)
+
+-- 같은 주문/인보이스의 중복 행 출력 횟수를 가장 오래된 행에 합산
+UPDATE invoice_history ih
+JOIN (
+    SELECT MIN(print_seq) AS keep_seq,
+           SUM(print_count) AS total_count,
+           MAX(printed_at) AS last_printed_at
+    FROM invoice_history
+    GROUP BY order_seq, invoice_id
+    HAVING COUNT(*) > 1
+) merged ON ih.print_seq = merged.keep_seq
+SET ih.print_count = merged.total_count,
+    ih.printed_at = merged.last_printed_at;
+
+-- 합산된 나머지 행 삭제
+DELETE ih FROM invoice_history ih
+JOIN (
+    SELECT order_seq, invoice_id, MIN(print_seq) AS keep_seq
+    FROM invoice_history
+    GROUP BY order_seq, invoice_id
+) kept ON ih.order_seq = kept.order_seq
+      AND ih.invoice_id = kept.invoice_id
+      AND ih.print_seq <> kept.keep_seq;
+
+-- 출력한 PDF 파일의 콘텐츠 해시와 인보이스당 한 행 제약 추가
+ALTER TABLE invoice_history
+    ADD COLUMN content_hash CHAR(64) NULL COMMENT '출력한 PDF 콘텐츠 해시 (SHA-256)' AFTER invoice_id,
+    ADD UNIQUE KEY uk_invoice_history_order_invoice (order_seq, invoice_id);
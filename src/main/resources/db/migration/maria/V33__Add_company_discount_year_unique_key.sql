@@ -0,0 +1,11 @@
+-- 회사별 할인율 이력을 회사/적용 연도당 한 행으로 제한 (연간 갱신 작업의 중복 실행 방지)
+
+-- 같은 회사/연도의 중복 행은 가장 최근 등록 행만 남김
+DELETE cdh FROM company_discount_history cdh
+JOIN company_discount_history newer
+  ON newer.company_seq = cdh.company_seq
+ AND newer.apply_year = cdh.apply_year
+ AND newer.history_seq > cdh.history_seq;
+
+ALTER TABLE company_discount_history
+    ADD UNIQUE KEY uk_company_discount_year (company_seq, apply_year);
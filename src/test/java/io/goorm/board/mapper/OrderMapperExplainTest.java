@@ -0,0 +1,141 @@
+package io.goorm.board.mapper;
+
+import io.goorm.board.dto.order.OrderSearchDto;
+import io.goorm.board.enums.DeliveryStatus;
+import io.goorm.board.enums.OrderStatus;
+import org.apache.ibatis.binding.MapperMethod;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 발주 검색 쿼리 실행계획 테스트
+ * 시드 데이터를 넣은 뒤 MyBatis가 생성한 SQL에 EXPLAIN을 실행하여 orders 테이블 풀스캔 여부를 검증
+ */
+@SpringBootTest
+@DisplayName("발주 검색 실행계획 테스트")
+class OrderMapperExplainTest {
+
+    private static final String ORDER_NUMBER_PREFIX = "EXPLAIN-";
+    private static final int SEED_ROWS = 3000;
+    private static final LocalDate SEED_START = LocalDate.of(2020, 1, 1);
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long companySeq;
+
+    @BeforeEach
+    void setUp() {
+        companySeq = jdbcTemplate.queryForObject("SELECT MIN(company_seq) FROM companies", Long.class);
+        assertThat(companySeq).as("시드용 회사 데이터 필요").isNotNull();
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < SEED_ROWS; i++) {
+            rows.add(new Object[]{
+                    ORDER_NUMBER_PREFIX + i,
+                    SEED_START.plusDays(i % 1500),
+                    companySeq,
+                    i % 2 == 0 ? OrderStatus.APPROVED.name() : OrderStatus.PENDING.name(),
+                    i % 3 == 0 ? DeliveryStatus.DELIVERY_COMPLETED.name() : DeliveryStatus.ORDER_COMPLETED.name()
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO orders (order_number, order_date, company_seq, status, delivery_status, total_amount, final_amount) " +
+                "VALUES (?, ?, ?, ?, ?, 0, 0)", rows);
+
+        // 통계 갱신 (옵티마이저가 시드 데이터 분포를 반영하도록)
+        jdbcTemplate.execute("ANALYZE TABLE orders");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM orders WHERE order_number LIKE ?", ORDER_NUMBER_PREFIX + "%");
+    }
+
+    @DisplayName("관리자 발주 목록 - 기간 검색")
+    @Test
+    void findAll_DateRange() {
+        OrderSearchDto searchDto = OrderSearchDto.builder()
+                .startDate(SEED_START.plusDays(100))
+                .endDate(SEED_START.plusDays(107))
+                .build();
+
+        assertNoFullScan("findAll", searchDto);
+        assertNoFullScan("countAll", searchDto);
+    }
+
+    @DisplayName("관리자 발주 목록 - 상태 + 배송상태 + 기간 검색")
+    @Test
+    void findAll_StatusAndDateRange() {
+        OrderSearchDto searchDto = OrderSearchDto.builder()
+                .status(OrderStatus.APPROVED)
+                .deliveryStatus(DeliveryStatus.ORDER_COMPLETED)
+                .startDate(SEED_START.plusDays(100))
+                .endDate(SEED_START.plusDays(107))
+                .build();
+
+        assertNoFullScan("findAll", searchDto);
+        assertNoFullScan("countAll", searchDto);
+    }
+
+    @DisplayName("바이어 발주 목록 - 회사 + 기간 검색")
+    @Test
+    void findByCompanySeq_DateRange() {
+        OrderSearchDto searchDto = OrderSearchDto.builder()
+                .startDate(SEED_START.plusDays(100))
+                .endDate(SEED_START.plusDays(107))
+                .build();
+
+        MapperMethod.ParamMap<Object> params = new MapperMethod.ParamMap<>();
+        params.put("companySeq", companySeq);
+        params.put("searchDto", searchDto);
+
+        assertNoFullScan("findByCompanySeq", params);
+        assertNoFullScan("countByCompanySeq", params);
+    }
+
+    private void assertNoFullScan(String statementId, Object parameter) {
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        MappedStatement statement = configuration.getMappedStatement(OrderMapper.class.getName() + "." + statementId);
+        BoundSql boundSql = statement.getBoundSql(parameter);
+
+        MetaObject metaObject = configuration.newMetaObject(parameter);
+        Object[] args = boundSql.getParameterMappings().stream()
+                .map(mapping -> {
+                    String property = mapping.getProperty();
+                    Object value = boundSql.hasAdditionalParameter(property)
+                            ? boundSql.getAdditionalParameter(property)
+                            : metaObject.getValue(property);
+                    return value instanceof Enum<?> e ? e.name() : value;
+                })
+                .toArray();
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + boundSql.getSql(), args);
+
+        assertThat(plan)
+                .as("%s 실행계획: %s", statementId, plan)
+                .filteredOn(row -> "o".equals(row.get("table")))
+                .isNotEmpty()
+                .allSatisfy(row -> assertThat(row.get("type")).isNotEqualTo("ALL"));
+    }
+}
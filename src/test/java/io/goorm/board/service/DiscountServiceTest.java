@@ -1,5 +1,8 @@
 package io.goorm.board.service;
 
+import io.goorm.board.entity.CompanyDiscountHistory;
+import io.goorm.board.entity.OrderSummaryMonthly;
+import io.goorm.board.mapper.CompanyDiscountHistoryMapper;
 import io.goorm.board.mapper.OrderMapper;
 import io.goorm.board.mapper.OrderSummaryMonthlyMapper;
 import io.goorm.board.service.discount.DiscountCalculator;
@@ -11,6 +14,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,6 +34,9 @@ class DiscountServiceTest {
     @Mock
     private DiscountCalculator discountCalculator;
 
+    @Mock
+    private CompanyDiscountHistoryMapper discountHistoryMapper;
+
     @InjectMocks
     private DiscountService discountService;
 
@@ -113,4 +121,60 @@ class DiscountServiceTest {
         assertThat(result).isEqualTo(expectedAmount);
         verify(summaryMapper).findPreviousYearTotalAmount(companySeq, year);
     }
-}
\ No newline at end of file
+
+    @DisplayName("회사별 할인율 - 올해 이력이 있으면 이력 할인율을 캐시해 이후 조회는 DB 미사용")
+    @Test
+    void calculateDiscountRate_CachedFromHistory() {
+        // Given
+        int applyYear = LocalDate.now().getYear();
+        CompanyDiscountHistory history = CompanyDiscountHistory.builder()
+                .companySeq(1L)
+                .applyYear(String.valueOf(applyYear))
+                .previousYearAmount(new BigDecimal("180000000"))
+                .discountRate(new BigDecimal("6.00"))
+                .build();
+
+        given(discountHistoryMapper.findByApplyYear(String.valueOf(applyYear))).willReturn(List.of(history));
+        given(discountCalculator.evaluateDiscountGrade(history.getPreviousYearAmount()))
+                .willReturn(DiscountCalculator.DiscountGrade.PREMIUM);
+
+        // When
+        BigDecimal first = discountService.calculateDiscountRate(1L);
+        BigDecimal second = discountService.calculateDiscountRate(1L);
+
+        // Then
+        assertThat(first).isEqualByComparingTo("6.00");
+        assertThat(second).isEqualByComparingTo("6.00");
+        assertThat(discountService.getCompanyDiscount(1L).getGrade()).isEqualTo(DiscountCalculator.DiscountGrade.PREMIUM);
+        verify(discountHistoryMapper, times(1)).findByApplyYear(anyString());
+        verify(summaryMapper, never()).findPreviousYearTotalAmount(any(), anyString());
+    }
+
+    @DisplayName("할인율 연간 갱신 - 전체 회사 집계 한 번으로 등급별 할인율 저장 후 캐시 교체")
+    @Test
+    void rolloverDiscountRates_ValidCase() {
+        // Given
+        OrderSummaryMonthly gold = OrderSummaryMonthly.builder()
+                .companySeq(1L).finalAmount(new BigDecimal("90000000")).build();
+        OrderSummaryMonthly none = OrderSummaryMonthly.builder()
+                .companySeq(2L).finalAmount(BigDecimal.ZERO).build();
+
+        given(summaryMapper.findYearTotalsByCompany("2025")).willReturn(List.of(gold, none));
+        given(discountCalculator.evaluateDiscountGrade(gold.getFinalAmount())).willReturn(DiscountCalculator.DiscountGrade.GOLD);
+        given(discountCalculator.evaluateDiscountGrade(none.getFinalAmount())).willReturn(DiscountCalculator.DiscountGrade.NONE);
+        given(discountCalculator.getRecommendedDiscountRate(DiscountCalculator.DiscountGrade.GOLD)).willReturn(new BigDecimal("5.0"));
+        given(discountCalculator.getRecommendedDiscountRate(DiscountCalculator.DiscountGrade.NONE)).willReturn(BigDecimal.ZERO);
+        given(discountHistoryMapper.insertBatchIfAbsent(anyList())).willReturn(2);
+
+        // When
+        int inserted = discountService.rolloverDiscountRates(2026);
+
+        // Then
+        assertThat(inserted).isEqualTo(2);
+        verify(discountHistoryMapper).insertBatchIfAbsent(argThat(histories -> histories.size() == 2
+                && histories.get(0).getApplyYear().equals("2026")
+                && histories.get(0).getDiscountRate().compareTo(new BigDecimal("5.0")) == 0
+                && histories.get(0).getEffectiveTo().equals(LocalDate.of(2026, 12, 31))));
+        verify(discountHistoryMapper).findByApplyYear("2026");
+    }
+}
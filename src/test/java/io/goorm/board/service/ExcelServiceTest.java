@@ -0,0 +1,117 @@
+package io.goorm.board.service;
+
+import io.goorm.board.dto.excel.ExcelStockDto;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("입고 엑셀 파싱 테스트")
+class ExcelServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ExcelService excelService;
+
+    @BeforeEach
+    void setUp() {
+        excelService = new ExcelService();
+    }
+
+    @DisplayName("xlsx 스트리밍 파싱 - 빈 행/오류 행은 건너뛰고 서식 있는 숫자도 원본 값으로 읽음")
+    @Test
+    void readStockReceivingExcel_Xlsx() throws IOException {
+        // Given
+        Path path = writeWorkbook(new XSSFWorkbook(), "stock.xlsx");
+
+        // When
+        List<ExcelStockDto> rows = new ArrayList<>();
+        int parsedCount = excelService.readStockReceivingExcel(path, rows::add);
+
+        // Then
+        assertThat(parsedCount).isEqualTo(2);
+        assertThat(rows).extracting(ExcelStockDto::getRowNumber).containsExactly(2, 5);
+
+        ExcelStockDto first = rows.get(0);
+        assertThat(first.getProductCode()).isEqualTo("PROD-001");
+        assertThat(first.getQuantity()).isEqualTo(10);
+        assertThat(first.getUnitPrice()).isEqualByComparingTo(new BigDecimal("1200000"));
+        assertThat(first.getNote()).isEqualTo("신제품 입고");
+
+        ExcelStockDto second = rows.get(1);
+        assertThat(second.getProductCode()).isEqualTo("12345");
+        assertThat(second.getProductName()).isEmpty();
+        assertThat(second.getUnitPrice()).isEqualByComparingTo(new BigDecimal("1500.5"));
+    }
+
+    @DisplayName("xls 파일도 동일한 검증 규칙으로 파싱")
+    @Test
+    void readStockReceivingExcel_Xls() throws IOException {
+        // Given
+        Path path = writeWorkbook(new HSSFWorkbook(), "stock.xls");
+
+        // When
+        List<ExcelStockDto> rows = excelService.parseStockReceivingExcel(path);
+
+        // Then
+        assertThat(rows).extracting(ExcelStockDto::getProductCode).containsExactly("PROD-001", "12345");
+    }
+
+    private Path writeWorkbook(Workbook workbook, String filename) throws IOException {
+        try (workbook) {
+            Sheet sheet = workbook.createSheet("입고처리");
+            CellStyle thousands = workbook.createCellStyle();
+            thousands.setDataFormat(workbook.createDataFormat().getFormat("#,##0"));
+
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("상품코드");
+            header.createCell(2).setCellValue("입고수량");
+
+            Row valid = sheet.createRow(1);
+            valid.createCell(0).setCellValue(" PROD-001 ");
+            valid.createCell(1).setCellValue("갤럭시 S24");
+            valid.createCell(2).setCellValue(10);
+            valid.createCell(3).setCellValue(1200000);
+            valid.getCell(3).setCellStyle(thousands);
+            valid.createCell(4).setCellValue("신제품 입고");
+
+            // 입고수량 0 - 검증 실패
+            Row invalid = sheet.createRow(2);
+            invalid.createCell(0).setCellValue("PROD-002");
+            invalid.createCell(2).setCellValue(0);
+            invalid.createCell(3).setCellValue(1000);
+
+            // 공백만 있는 행
+            sheet.createRow(3).createCell(1).setCellValue("   ");
+
+            // 숫자형 상품코드, 문자열 단가
+            Row numericCode = sheet.createRow(4);
+            numericCode.createCell(0).setCellValue(12345);
+            numericCode.createCell(2).setCellValue("3");
+            numericCode.createCell(3).setCellValue("1500.5");
+
+            Path path = tempDir.resolve(filename);
+            try (OutputStream out = Files.newOutputStream(path)) {
+                workbook.write(out);
+            }
+            return path;
+        }
+    }
+}
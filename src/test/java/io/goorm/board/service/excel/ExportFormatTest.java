@@ -0,0 +1,85 @@
+package io.goorm.board.service.excel;
+
+import io.goorm.board.util.ExcelUtil.CellType;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.util.ByteArrayReadableSeekableByteChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("내보내기 형식 테스트")
+class ExportFormatTest {
+
+    private static final String[] HEADERS = {"상품명", "판매가", "비고"};
+    private static final CellType[] COLUMN_TYPES = {CellType.STRING, CellType.NUMERIC, CellType.STRING};
+    private static final Function<Object[], Object[]> IDENTITY = row -> row;
+
+    private static final List<Object[]> ROWS = List.of(
+        new Object[] {"갤럭시 S24", new BigDecimal("1200000.00"), "신제품, \"한정\""},
+        new Object[] {"아이폰", null, null},
+        new Object[] {"케이블", 1.5E7, "1행\n2행"}
+    );
+
+    @DisplayName("CSV - UTF-8 BOM, 특수문자 따옴표 처리, 숫자는 지수 표기 없이 기록")
+    @Test
+    void writeCsv() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        int rowCount = ExportFormat.CSV.write("상품목록", HEADERS, ROWS.iterator(), IDENTITY, COLUMN_TYPES, out);
+
+        // Then
+        byte[] bytes = out.toByteArray();
+        assertThat(rowCount).isEqualTo(3);
+        assertThat(Arrays.copyOf(bytes, 3)).containsExactly(0xEF, 0xBB, 0xBF);
+        assertThat(new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8)).isEqualTo(
+            "상품명,판매가,비고\r\n"
+                + "갤럭시 S24,1200000.00,\"신제품, \"\"한정\"\"\"\r\n"
+                + "아이폰,,\r\n"
+                + "케이블,15000000,\"1행\n2행\"\r\n");
+    }
+
+    @DisplayName("Arrow - NUMERIC 컬럼은 Float64, STRING 컬럼은 Utf8로 읽힘")
+    @Test
+    void writeArrow() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        int rowCount = ExportFormat.ARROW.write("상품목록", HEADERS, ROWS.iterator(), IDENTITY, COLUMN_TYPES, out);
+
+        // Then
+        assertThat(rowCount).isEqualTo(3);
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowFileReader reader = new ArrowFileReader(
+                     new ByteArrayReadableSeekableByteChannel(out.toByteArray()), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertThat(root.getSchema().getCustomMetadata()).containsEntry("name", "상품목록");
+            assertThat(reader.loadNextBatch()).isTrue();
+            assertThat(root.getRowCount()).isEqualTo(3);
+
+            VarCharVector names = (VarCharVector) root.getVector("상품명");
+            Float8Vector prices = (Float8Vector) root.getVector("판매가");
+            assertThat(names.getObject(0).toString()).isEqualTo("갤럭시 S24");
+            assertThat(prices.get(0)).isEqualTo(1200000.0);
+            assertThat(prices.isNull(1)).isTrue();
+            assertThat(root.getVector("비고").isNull(1)).isTrue();
+            assertThat(prices.get(2)).isEqualTo(1.5E7);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.goorm.board.service.excel;
+
+import io.goorm.board.dto.category.CategorySearchDto;
+import io.goorm.board.enums.ExportJobStatus;
+import io.goorm.board.util.FileUploadUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.MessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("내보내기 작업 서비스 테스트")
+class ExportJobServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ExportJobService exportJobService;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadUtil fileUploadUtil = new FileUploadUtil();
+        ReflectionTestUtils.setField(fileUploadUtil, "documentUploadRoot", tempDir.toString());
+        exportJobService = new ExportJobService(fileUploadUtil, mock(MessageSource.class), 1, 5, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportJobService.shutdown();
+    }
+
+    @DisplayName("정규화된 조건이 같은 요청은 하나의 작업으로 병합되고 완료 후에는 캐시 파일을 재사용")
+    @Test
+    void submit_CoalescesSameSearch() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger renderCount = new AtomicInteger();
+        Consumer<OutputStream> renderer = out -> {
+            renderCount.incrementAndGet();
+            await(release);
+            write(out, "id,name\r\n1,가전\r\n");
+        };
+
+        CategorySearchDto first = new CategorySearchDto();
+        first.setKeyword("   ");
+        CategorySearchDto second = new CategorySearchDto();
+        second.setPage(3);
+
+        // When - 첫 작업이 생성 중일 때 같은 조건으로 재요청
+        ExportJob job = exportJobService.submit("카테고리목록", ExportFormat.CSV, first, renderer);
+        ExportJob coalesced = exportJobService.submit("카테고리목록", ExportFormat.CSV, second, renderer);
+        release.countDown();
+        waitUntilFinished(job);
+        ExportJob cached = exportJobService.submit("카테고리목록", ExportFormat.CSV, new CategorySearchDto(), renderer);
+
+        // Then
+        assertThat(coalesced).isSameAs(job);
+        assertThat(cached).isSameAs(job);
+        assertThat(renderCount).hasValue(1);
+        assertThat(job.getStatus()).isEqualTo(ExportJobStatus.COMPLETED);
+        assertThat(job.isDownloadable()).isTrue();
+        assertThat(job.getFilePath()).hasFileName(job.getJobId() + ".csv");
+        assertThat(Files.readString(job.getFilePath())).isEqualTo("id,name\r\n1,가전\r\n");
+        assertThat(exportJobService.findJob(job.getJobId())).contains(job);
+    }
+
+    @DisplayName("형식이 다르거나 이전 작업이 실패했으면 새 작업 생성")
+    @Test
+    void submit_CreatesNewJob() throws Exception {
+        // Given
+        ExportJob failed = exportJobService.submit("카테고리목록", ExportFormat.XLSX, new CategorySearchDto(),
+                out -> { throw new IllegalStateException("boom"); });
+        waitUntilFinished(failed);
+
+        // When
+        ExportJob retried = exportJobService.submit("카테고리목록", ExportFormat.XLSX, new CategorySearchDto(),
+                out -> write(out, "retry"));
+        ExportJob csv = exportJobService.submit("카테고리목록", ExportFormat.CSV, new CategorySearchDto(),
+                out -> write(out, "csv"));
+
+        // Then
+        assertThat(failed.getStatus()).isEqualTo(ExportJobStatus.FAILED);
+        assertThat(failed.isDownloadable()).isFalse();
+        assertThat(retried).isNotSameAs(failed);
+        assertThat(csv).isNotSameAs(retried);
+    }
+
+    private static void waitUntilFinished(ExportJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.getStatus().isFinished()) {
+            if (System.nanoTime() > deadline) {
+                fail("내보내기 작업이 끝나지 않음: " + job.getStatus());
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void write(OutputStream out, String content) {
+        try {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
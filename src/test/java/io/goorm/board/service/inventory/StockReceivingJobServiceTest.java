@@ -0,0 +1,171 @@
+package io.goorm.board.service.inventory;
+
+import io.goorm.board.dto.excel.ExcelStockDto;
+import io.goorm.board.entity.StockReceivingJob;
+import io.goorm.board.entity.StockReceivingJobError;
+import io.goorm.board.enums.ReceivingJobStatus;
+import io.goorm.board.mapper.StockReceivingJobMapper;
+import io.goorm.board.service.ExcelService;
+import io.goorm.board.service.InventoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("엑셀 입고 작업 서비스 테스트")
+class StockReceivingJobServiceTest {
+
+    private static final Long JOB_SEQ = 1L;
+
+    @Mock
+    private StockReceivingJobMapper jobMapper;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private ExcelService excelService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockReceivingJobService jobService;
+
+    // receiveStockChunk 호출별 엑셀 행 번호 (청크 목록은 커밋 후 비워지므로 호출 시점에 복사)
+    private final List<List<Integer>> receivedChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        jobService = new StockReceivingJobService(jobMapper, inventoryService, excelService, transactionManager, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @DisplayName("청크 실패 시 해당 청크는 롤백되고, 재개하면 마지막 커밋 행 다음부터 처리")
+    @Test
+    void run_ResumeAfterFailedChunk() {
+        // Given - 2~6행, 청크 크기 2 (2~3행 커밋 후 4~5행 청크에서 실패)
+        StockReceivingJob job = job(ReceivingJobStatus.RUNNING, null);
+        given(jobMapper.findById(JOB_SEQ)).willReturn(Optional.of(job));
+        givenExcelRows(List.of(2, 3, 4, 5, 6), Map.of());
+        given(inventoryService.receiveStockChunk(anyList(), any(), any(), any(), any()))
+                .willAnswer(invocation -> recordChunk(invocation.getArgument(0)))
+                .willThrow(new IllegalStateException("DB 연결 끊김"))
+                .willAnswer(invocation -> recordChunk(invocation.getArgument(0)));
+        given(jobMapper.updateProgress(eq(JOB_SEQ), anyInt(), anyInt(), anyInt())).willReturn(1);
+
+        // When - 첫 실행에서 실패, 마지막 커밋 행(3)이 기록된 상태로 재개
+        jobService.run(JOB_SEQ);
+        job.setLastExcelRowNum(3);
+        jobService.run(JOB_SEQ);
+
+        // Then
+        verify(jobMapper).markFailed(JOB_SEQ, "DB 연결 끊김");
+        verify(transactionManager).rollback(any());
+        assertThat(receivedChunks).containsExactly(List.of(2, 3), List.of(4, 5), List.of(6));
+        verify(jobMapper).updateProgress(JOB_SEQ, 2, 0, 3);
+        verify(jobMapper).updateProgress(JOB_SEQ, 2, 0, 5);
+        verify(jobMapper).updateProgress(JOB_SEQ, 1, 0, 6);
+        verify(jobMapper, times(1)).markCompleted(JOB_SEQ);
+    }
+
+    @DisplayName("파싱 실패 행과 입고 실패 행을 행 순서대로 모아 청크와 함께 기록")
+    @Test
+    void run_CollectsRowFailures() {
+        // Given - 3행은 파싱 실패, 5행은 입고 실패
+        given(jobMapper.findById(JOB_SEQ)).willReturn(Optional.of(job(ReceivingJobStatus.PENDING, null)));
+        givenExcelRows(List.of(2, 4, 5), Map.of(3, "입고수량은 필수입니다"));
+        given(inventoryService.receiveStockChunk(anyList(), any(), any(), any(), any()))
+                .willAnswer(invocation -> recordChunk(invocation.getArgument(0)))
+                .willAnswer(invocation -> {
+                    recordChunk(invocation.getArgument(0));
+                    return Map.of(5, "상품을 찾을 수 없습니다: PROD-005");
+                });
+        given(jobMapper.updateProgress(eq(JOB_SEQ), anyInt(), anyInt(), anyInt())).willReturn(1);
+
+        // When
+        jobService.run(JOB_SEQ);
+
+        // Then - 청크: [2행, 3행(파싱 실패)], [4행, 5행(입고 실패)]
+        verify(jobMapper).markRunning(JOB_SEQ, 4);
+        assertThat(receivedChunks).containsExactly(List.of(2), List.of(4, 5));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockReceivingJobError>> errors = ArgumentCaptor.forClass(List.class);
+        verify(jobMapper, times(2)).insertErrors(errors.capture());
+        assertThat(errors.getAllValues()).flatExtracting(list -> list)
+                .extracting(StockReceivingJobError::getExcelRowNum, StockReceivingJobError::getMessage)
+                .containsExactly(
+                        tuple(3, "입고수량은 필수입니다"),
+                        tuple(5, "상품을 찾을 수 없습니다: PROD-005"));
+
+        verify(jobMapper).updateProgress(JOB_SEQ, 1, 1, 3);
+        verify(jobMapper).updateProgress(JOB_SEQ, 1, 1, 5);
+        verify(jobMapper).markCompleted(JOB_SEQ);
+    }
+
+    private StockReceivingJob job(ReceivingJobStatus status, Integer lastExcelRowNum) {
+        return StockReceivingJob.builder()
+                .jobSeq(JOB_SEQ)
+                .supplierSeq(10L)
+                .requestedBySeq(20L)
+                .excelFilename("stock.xlsx")
+                .excelFilepath("/tmp/stock.xlsx")
+                .status(status)
+                .lastExcelRowNum(lastExcelRowNum)
+                .build();
+    }
+
+    /**
+     * 엑셀 읽기 스텁 - 정상 행과 파싱 실패 행을 행 번호 순서대로 전달
+     */
+    private void givenExcelRows(List<Integer> rowNumbers, Map<Integer, String> parseFailures) {
+        given(excelService.readStockReceivingExcel(eq(Path.of("/tmp/stock.xlsx")), any(), any()))
+                .willAnswer(invocation -> {
+                    Consumer<ExcelStockDto> rowConsumer = invocation.getArgument(1);
+                    BiConsumer<Integer, String> errorConsumer = invocation.getArgument(2);
+                    int lastRow = Math.max(
+                            rowNumbers.stream().mapToInt(Integer::intValue).max().orElse(0),
+                            parseFailures.keySet().stream().mapToInt(Integer::intValue).max().orElse(0));
+                    for (int rowNumber = 2; rowNumber <= lastRow; rowNumber++) {
+                        if (parseFailures.containsKey(rowNumber)) {
+                            errorConsumer.accept(rowNumber, parseFailures.get(rowNumber));
+                        } else if (rowNumbers.contains(rowNumber)) {
+                            ExcelStockDto dto = new ExcelStockDto();
+                            dto.setRowNumber(rowNumber);
+                            dto.setProductCode(String.format("PROD-%03d", rowNumber));
+                            rowConsumer.accept(dto);
+                        }
+                    }
+                    return rowNumbers.size();
+                });
+    }
+
+    private Map<Integer, String> recordChunk(List<ExcelStockDto> rows) {
+        receivedChunks.add(rows.stream().map(ExcelStockDto::getRowNumber).toList());
+        return Map.of();
+    }
+}
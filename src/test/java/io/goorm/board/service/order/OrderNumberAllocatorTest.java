@@ -0,0 +1,100 @@
+package io.goorm.board.service.order;
+
+import io.goorm.board.mapper.OrderNumberSequenceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("발주번호 할당기 테스트")
+class OrderNumberAllocatorTest {
+
+    @Mock
+    private OrderNumberSequenceMapper sequenceMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderNumberAllocator allocator;
+
+    private String datePrefix;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        allocator = new OrderNumberAllocator(sequenceMapper, transactionManager, 3);
+        datePrefix = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    }
+
+    @DisplayName("블록 범위 안에서는 DB 조회 없이 순차 할당")
+    @Test
+    void nextOrderNumber_WithinBlock() {
+        // Given
+        given(sequenceMapper.findLastValue(datePrefix)).willReturn(3);
+
+        // When & Then
+        assertThat(allocator.nextOrderNumber()).isEqualTo(datePrefix + "0001");
+        assertThat(allocator.nextOrderNumber()).isEqualTo(datePrefix + "0002");
+        assertThat(allocator.nextOrderNumber()).isEqualTo(datePrefix + "0003");
+        verify(sequenceMapper, times(1)).increaseBy(datePrefix, 3);
+    }
+
+    @DisplayName("블록 소진 시 다음 블록 임대 - 재시작 등으로 건너뛴 번호는 재사용하지 않음")
+    @Test
+    void nextOrderNumber_LeaseNextBlock() {
+        // Given
+        given(sequenceMapper.findLastValue(datePrefix)).willReturn(3, 9);
+
+        // When
+        allocator.nextOrderNumber();
+        allocator.nextOrderNumber();
+        allocator.nextOrderNumber();
+        String result = allocator.nextOrderNumber();
+
+        // Then
+        assertThat(result).isEqualTo(datePrefix + "0007");
+        verify(sequenceMapper, times(2)).increaseBy(datePrefix, 3);
+    }
+
+    @DisplayName("임대하는 동안 다른 호출이 새 블록을 설치하면 임대한 블록은 보관했다가 다음에 사용")
+    @Test
+    void nextOrderNumber_ConcurrentLeaseKeptAsSpare() {
+        // Given
+        AtomicBoolean nested = new AtomicBoolean();
+        List<String> nestedNumbers = new ArrayList<>();
+        willAnswer(invocation -> {
+            // 첫 임대 도중 다른 발주가 번호를 요청 (할당기 잠금을 잡고 있지 않으므로 진행 가능)
+            if (nested.compareAndSet(false, true)) {
+                nestedNumbers.add(allocator.nextOrderNumber());
+            }
+            return 3;
+        }).given(sequenceMapper).increaseBy(datePrefix, 3);
+        given(sequenceMapper.findLastValue(datePrefix)).willReturn(3, 6);
+
+        // When
+        String first = allocator.nextOrderNumber();
+        String second = allocator.nextOrderNumber();
+        String third = allocator.nextOrderNumber();
+
+        // Then
+        assertThat(nestedNumbers).containsExactly(datePrefix + "0001");
+        assertThat(List.of(first, second, third))
+                .containsExactly(datePrefix + "0002", datePrefix + "0003", datePrefix + "0004");
+        verify(sequenceMapper, times(2)).increaseBy(datePrefix, 3);
+    }
+}
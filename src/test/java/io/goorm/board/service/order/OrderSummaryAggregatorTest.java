@@ -0,0 +1,94 @@
+package io.goorm.board.service.order;
+
+import io.goorm.board.dto.order.OrderSummaryReconciliationDto;
+import io.goorm.board.entity.Order;
+import io.goorm.board.entity.OrderSummaryMonthly;
+import io.goorm.board.mapper.OrderSummaryMonthlyMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("월별 발주 집계 관리 테스트")
+class OrderSummaryAggregatorTest {
+
+    @Mock
+    private OrderSummaryMonthlyMapper summaryMapper;
+
+    @InjectMocks
+    private OrderSummaryAggregator aggregator;
+
+    @DisplayName("발주 등록은 증가분, 취소는 감소분으로 회사/연/월 행에 반영")
+    @Test
+    void recordOrder_CreatedAndCancelled() {
+        // Given
+        Order order = Order.builder()
+                .companySeq(1L)
+                .orderDate(LocalDateTime.of(2025, 3, 15, 10, 0))
+                .totalAmount(new BigDecimal("100000"))
+                .discountAmount(new BigDecimal("5000"))
+                .finalAmount(new BigDecimal("95000"))
+                .build();
+
+        // When
+        aggregator.recordOrderCreated(order);
+        aggregator.recordOrderCancelled(order);
+
+        // Then
+        verify(summaryMapper).upsertDelta(argThat(delta -> delta.getOrderCount() == 1
+                && "2025".equals(delta.getSummaryYear()) && "03".equals(delta.getSummaryMonth())
+                && delta.getFinalAmount().compareTo(new BigDecimal("95000")) == 0));
+        verify(summaryMapper).upsertDelta(argThat(delta -> delta.getOrderCount() == -1
+                && delta.getFinalAmount().compareTo(new BigDecimal("-95000")) == 0));
+    }
+
+    @DisplayName("재집계 - 누락/불일치 행만 덮어쓰고 발주 없는 과거 집계 행은 보고만")
+    @Test
+    void reconcile_ReportsAndAppliesDrift() {
+        // Given
+        OrderSummaryMonthly missing = summary(1L, "2025", "01", 2, "200000");
+        OrderSummaryMonthly changed = summary(1L, "2025", "02", 3, "300000");
+        OrderSummaryMonthly same = summary(2L, "2025", "02", 1, "50000");
+
+        given(summaryMapper.aggregateFromOrders()).willReturn(List.of(missing, changed, same));
+        given(summaryMapper.findAllYears()).willReturn(List.of(
+                summary(1L, "2025", "02", 2, "200000"),
+                summary(2L, "2025", "02", 1, "50000.00"),
+                summary(1L, "2024", "12", 10, "12000000")));
+
+        // When
+        OrderSummaryReconciliationDto result = aggregator.reconcile(true);
+
+        // Then
+        assertThat(result.isApplied()).isTrue();
+        assertThat(result.getDrifts())
+                .extracting(OrderSummaryReconciliationDto.Drift::getType)
+                .containsExactly(OrderSummaryReconciliationDto.DriftType.MISSING,
+                        OrderSummaryReconciliationDto.DriftType.MISMATCH,
+                        OrderSummaryReconciliationDto.DriftType.SUMMARY_ONLY);
+        verify(summaryMapper).upsertBatch(List.of(missing, changed));
+    }
+
+    private static OrderSummaryMonthly summary(Long companySeq, String year, String month, int count, String amount) {
+        return OrderSummaryMonthly.builder()
+                .companySeq(companySeq)
+                .summaryYear(year)
+                .summaryMonth(month)
+                .orderCount(count)
+                .totalAmount(new BigDecimal(amount))
+                .discountAmount(BigDecimal.ZERO)
+                .finalAmount(new BigDecimal(amount))
+                .build();
+    }
+}
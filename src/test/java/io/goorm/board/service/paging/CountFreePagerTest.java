@@ -0,0 +1,88 @@
+package io.goorm.board.service.paging;
+
+import io.goorm.board.dto.category.CategorySearchDto;
+import io.goorm.board.dto.common.SearchPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("COUNT 없는 목록 페이징 테스트")
+class CountFreePagerTest {
+
+    private static final List<Integer> ROWS = IntStream.rangeClosed(1, 25).boxed().toList();
+
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    private CountFreePager pager;
+
+    @BeforeEach
+    void setUp() {
+        pager = new CountFreePager(60, 100);
+    }
+
+    @DisplayName("마지막 페이지까지 한 번에 조회되면 COUNT 없이 정확한 건수 확정")
+    @Test
+    void page_LastPageWithoutCount() {
+        // When
+        SearchPage<Integer> page = pager.page(search(3, null), this::find, this::count);
+
+        // Then
+        assertThat(page.getContent()).containsExactly(21, 22, 23, 24, 25);
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(page.isTotalEstimated()).isFalse();
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @DisplayName("다음 페이지가 있으면 한 건 더 조회해 판단하고, 건수는 조건별 캐시를 재사용")
+    @Test
+    void page_EstimatedCountCachedPerFilter() {
+        // When
+        SearchPage<Integer> first = pager.page(search(1, null), this::find, this::count);
+        SearchPage<Integer> second = pager.page(search(2, null), this::find, this::count);
+
+        // Then
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.isTotalEstimated()).isTrue();
+        assertThat(second.getTotalElements()).isEqualTo(25);
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @DisplayName("exactCount 요청 시 매번 COUNT 쿼리 실행")
+    @Test
+    void page_ExactCountOnDemand() {
+        // When
+        pager.page(search(1, null), this::find, this::count);
+        SearchPage<Integer> exact = pager.page(search(1, true), this::find, this::count);
+
+        // Then
+        assertThat(exact.getContent()).hasSize(10);
+        assertThat(exact.isTotalEstimated()).isFalse();
+        assertThat(countQueries).hasValue(2);
+    }
+
+    private CategorySearchDto search(int page, Boolean exactCount) {
+        return CategorySearchDto.builder()
+                .page(page)
+                .size(10)
+                .exactCount(exactCount)
+                .build();
+    }
+
+    private List<Integer> find(CategorySearchDto search) {
+        int from = Math.min(search.getOffset(), ROWS.size());
+        int to = Math.min(from + search.getFetchSize(), ROWS.size());
+        return ROWS.subList(from, to);
+    }
+
+    private long count(CategorySearchDto search) {
+        countQueries.incrementAndGet();
+        return ROWS.size();
+    }
+}
@@ -0,0 +1,84 @@
+package io.goorm.board.service.product;
+
+import io.goorm.board.mapper.ProductMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 코드 필터 테스트")
+class ProductCodeFilterTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private ProductCodeFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        given(productMapper.count(any())).willReturn(2);
+        given(productMapper.streamAllCodes()).willReturn(cursor);
+        given(cursor.iterator()).willReturn(List.of("PROD-001", "prod-002").iterator());
+
+        filter = new ProductCodeFilter(productMapper, transactionManager, true, 1000, 0.01, 100);
+        filter.rebuild();
+    }
+
+    @DisplayName("필터에 없는 코드는 DB 조회 없이 false, 있는 코드는 대소문자/끝 공백 무시하고 DB 조회")
+    @Test
+    void exists_SkipsDbForDefiniteNegatives() {
+        // When
+        boolean missing = filter.exists("NEW-999", () -> {
+            throw new AssertionError("DB 조회하면 안 됨");
+        });
+        boolean existing = filter.exists("prod-001 ", () -> true);
+
+        // Then
+        assertThat(missing).isFalse();
+        assertThat(existing).isTrue();
+        assertThat(filter.stats().definiteNegatives()).isEqualTo(1);
+    }
+
+    @DisplayName("등록된 코드는 필터와 확인된 코드 목록에 반영되어 DB 조회 없이 true")
+    @Test
+    void added_ConfirmedWithoutDb() {
+        // When
+        filter.added("NEW-100");
+        boolean exists = filter.exists("new-100", () -> {
+            throw new AssertionError("DB 조회하면 안 됨");
+        });
+        List<String> possible = filter.filterPossible(List.of("NEW-100", "PROD-002", "NONE-1"));
+
+        // Then
+        assertThat(exists).isTrue();
+        assertThat(possible).contains("NEW-100", "PROD-002");
+        assertThat(filter.stats().confirmedHits()).isEqualTo(1);
+    }
+
+    @DisplayName("ASCII 외 문자가 포함된 코드는 항상 DB 조회")
+    @Test
+    void exists_NonAsciiAlwaysChecksDb() {
+        // When
+        boolean exists = filter.exists("상품-001", () -> true);
+
+        // Then
+        assertThat(exists).isTrue();
+        assertThat(filter.stats().lookups()).isZero();
+    }
+}
@@ -0,0 +1,175 @@
+package io.goorm.board.service.product;
+
+import io.goorm.board.dto.product.ProductFacetDto;
+import io.goorm.board.dto.product.ProductSearchDto;
+import io.goorm.board.entity.Product;
+import io.goorm.board.enums.ProductPriceRange;
+import io.goorm.board.enums.ProductStatus;
+import io.goorm.board.mapper.ProductMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 검색 인덱스 테스트")
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Cursor<Product> cursor;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        given(productMapper.streamAllForSearchIndex()).willReturn(cursor);
+        given(cursor.iterator()).willReturn(List.of(
+                product(1L, "무선 키보드", "KB-100", 10L, "30000"),
+                product(2L, "유선 키보드", "KB-200", 10L, "15000"),
+                product(3L, "무선 마우스", "MS-100", 20L, "20000"),
+                product(4L, "A4용지 500매", "PAPER-A4", 30L, "5000")).iterator());
+
+        index = new ProductSearchIndex(productMapper, transactionManager, true);
+        index.build();
+    }
+
+    @DisplayName("검색어는 상품명/코드의 부분 문자열로 판정 (대소문자 무시, %/_는 문자 그대로 비교)")
+    @Test
+    void search_KeywordMatchesSubstring() {
+        // When
+        ProductSearchIndex.SearchResult keyboards = index.search(search("선 키"));
+        ProductSearchIndex.SearchResult wireless = index.search(search("무선"));
+        ProductSearchIndex.SearchResult code = index.search(search("kb-1"));
+        ProductSearchIndex.SearchResult mixed = index.search(search("4용"));
+        ProductSearchIndex.SearchResult wildcard = index.search(search("KB_1"));
+
+        // Then
+        assertThat(keyboards.productSeqs()).containsExactly(1L, 2L);
+        assertThat(wireless.productSeqs()).containsExactly(1L, 3L);
+        assertThat(code.productSeqs()).containsExactly(1L);
+        assertThat(mixed.productSeqs()).containsExactly(4L);
+        assertThat(wildcard.productSeqs()).isEmpty();
+    }
+
+    @DisplayName("카테고리/단가 조건과 정렬, 페이지를 메모리에서 적용하고 전체 건수를 함께 반환")
+    @Test
+    void search_FiltersSortsAndPages() {
+        // Given
+        ProductSearchDto searchDto = ProductSearchDto.builder()
+                .categorySeq(10L)
+                .minPrice(new BigDecimal("10000"))
+                .sortBy("unitPrice")
+                .sortDirection("DESC")
+                .page(2)
+                .size(1)
+                .build();
+
+        // When
+        ProductSearchIndex.SearchResult result = index.search(searchDto);
+
+        // Then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.productSeqs()).containsExactly(2L);
+    }
+
+    @DisplayName("패싯 건수는 자신을 뺀 나머지 조건 기준으로 계산")
+    @Test
+    void facets_ExcludeOwnFilter() {
+        // Given
+        ProductSearchDto searchDto = ProductSearchDto.builder()
+                .categorySeq(10L)
+                .build();
+
+        // When
+        ProductFacetDto facets = index.facets(searchDto);
+
+        // Then
+        assertThat(facets.getTotal()).isEqualTo(2);
+        assertThat(facets.getCategoryCount(10L)).isEqualTo(2);
+        assertThat(facets.getCategoryCount(20L)).isEqualTo(1);
+        assertThat(facets.getCategoryCount(30L)).isEqualTo(1);
+        assertThat(facets.getStatusCount(ProductStatus.ACTIVE)).isEqualTo(2);
+        assertThat(facets.getPriceRangeCount(ProductPriceRange.FROM_10K_TO_50K)).isEqualTo(2);
+        assertThat(facets.getPriceRangeCount(ProductPriceRange.UNDER_10K)).isZero();
+    }
+
+    @DisplayName("적재 중 반영에 실패한 상품도 적재가 끝난 뒤 다시 읽어 반영")
+    @Test
+    void build_ReplaysRefreshFailedDuringBuild() {
+        // Given
+        ProductSearchIndex rebuilding = new ProductSearchIndex(productMapper, transactionManager, true);
+        given(productMapper.findById(5L))
+                .willThrow(new RuntimeException("connection reset"))
+                .willReturn(Optional.of(product(5L, "무선 헤드셋", "HS-100", 10L, "50000")));
+        given(cursor.iterator()).willAnswer(invocation -> {
+            // 적재 조회 도중 상품 5 등록이 커밋되어 반영 요청이 들어옴 (조회는 실패)
+            rebuilding.refreshAfterCommit(5L);
+            return List.of(product(1L, "무선 키보드", "KB-100", 10L, "30000")).iterator();
+        });
+
+        // When
+        rebuilding.build();
+        ProductSearchIndex.SearchResult result = rebuilding.search(search("헤드셋"));
+
+        // Then
+        assertThat(result.productSeqs()).containsExactly(5L);
+        verify(productMapper, times(2)).findById(5L);
+    }
+
+    @DisplayName("반영에 실패하면 재시도가 성공할 때까지 인덱스를 사용하지 않음")
+    @Test
+    void refresh_FailureFallsBackUntilRetrySucceeds() {
+        // Given
+        given(productMapper.findById(2L))
+                .willThrow(new RuntimeException("connection reset"))
+                .willReturn(Optional.empty());
+
+        // When
+        index.refreshAfterCommit(2L);
+        ProductSearchIndex.SearchResult beforeRetry = index.search(search("키보드"));
+        index.retryFailed();
+        ProductSearchIndex.SearchResult afterRetry = index.search(search("키보드"));
+
+        // Then
+        assertThat(beforeRetry).isNull();
+        assertThat(afterRetry.productSeqs()).containsExactly(1L);
+    }
+
+    private ProductSearchDto search(String keyword) {
+        return ProductSearchDto.builder()
+                .keyword(keyword)
+                .sortBy("code")
+                .sortDirection("ASC")
+                .build();
+    }
+
+    private Product product(Long productSeq, String name, String code, Long categorySeq, String unitPrice) {
+        return Product.builder()
+                .productSeq(productSeq)
+                .name(name)
+                .code(code)
+                .categorySeq(categorySeq)
+                .unitPrice(new BigDecimal(unitPrice))
+                .status(ProductStatus.ACTIVE)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(productSeq))
+                .build();
+    }
+}
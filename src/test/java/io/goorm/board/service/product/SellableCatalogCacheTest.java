@@ -0,0 +1,73 @@
+package io.goorm.board.service.product;
+
+import io.goorm.board.dto.product.ProductDto;
+import io.goorm.board.mapper.ProductMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("판매 가능 상품 캐시 테스트")
+class SellableCatalogCacheTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    private SellableCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SellableCatalogCache(productMapper, 2, 60);
+    }
+
+    @DisplayName("두 번째 조회부터는 DB를 조회하지 않고, 무효화 후에는 다시 적재")
+    @Test
+    void getSellableProducts_CachedUntilInvalidated() {
+        // Given
+        given(productMapper.findSellableProducts())
+                .willReturn(List.of(product(1L)))
+                .willReturn(List.of(product(1L), product(2L)));
+
+        // When
+        List<ProductDto> first = cache.getSellableProducts();
+        List<ProductDto> second = cache.getSellableProducts();
+        cache.invalidate();
+        List<ProductDto> reloaded = cache.getSellableProducts();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(reloaded).extracting(ProductDto::getProductSeq).containsExactly(1L, 2L);
+        verify(productMapper, times(2)).findSellableProducts();
+    }
+
+    @DisplayName("상품 수가 상한을 넘으면 캐시하지 않고 매번 조회")
+    @Test
+    void getSellableProducts_OversizedNotCached() {
+        // Given
+        given(productMapper.findSellableProducts()).willReturn(List.of(product(1L), product(2L), product(3L)));
+
+        // When
+        cache.getSellableProducts();
+        List<ProductDto> products = cache.getSellableProducts();
+
+        // Then
+        assertThat(products).hasSize(3);
+        verify(productMapper, times(2)).findSellableProducts();
+    }
+
+    private ProductDto product(Long productSeq) {
+        return ProductDto.builder()
+                .productSeq(productSeq)
+                .name("상품 " + productSeq)
+                .stock(10)
+                .build();
+    }
+}
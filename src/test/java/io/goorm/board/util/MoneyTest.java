@@ -0,0 +1,58 @@
+package io.goorm.board.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("고정 소수점 금액 테스트")
+class MoneyTest {
+
+    @DisplayName("BigDecimal 변환 - 소수 둘째 자리까지 정확히 왕복")
+    @Test
+    void of_RoundTrip() {
+        // Given
+        BigDecimal amount = new BigDecimal("1234567.89");
+
+        // When
+        Money money = Money.of(amount);
+
+        // Then
+        assertThat(money.getMinorUnits()).isEqualTo(123456789L);
+        assertThat(money.toBigDecimal()).isEqualTo(amount);
+        assertThat(Money.of(new BigDecimal("100000"))).isEqualTo(Money.ofWon(100000));
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @DisplayName("비율 적용 - 최소 단위에서 HALF_UP 반올림 (BigDecimal 계산과 동일)")
+    @Test
+    void applyRate_HalfUp() {
+        // Given
+        Money amount = Money.of(new BigDecimal("33333.33"));
+        long rate = Money.basisPoints(new BigDecimal("5.5"));
+
+        // When
+        Money discount = amount.applyRate(rate);
+
+        // Then
+        BigDecimal expected = new BigDecimal("33333.33").multiply(new BigDecimal("5.5"))
+                .divide(new BigDecimal("100"), 2, RoundingMode.HALF_UP);
+        assertThat(discount.toBigDecimal()).isEqualByComparingTo(expected);
+        assertThat(Money.ofMinor(-5).applyRate(1_000)).isEqualTo(Money.ofMinor(-1)); // -0.5 → -1
+    }
+
+    @DisplayName("오버플로는 조용히 넘치지 않고 예외")
+    @Test
+    void arithmetic_OverflowChecked() {
+        // Given
+        Money large = Money.ofMinor(Long.MAX_VALUE / 2 + 1);
+
+        // When & Then
+        assertThatThrownBy(() -> large.plus(large)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> large.times(3)).isInstanceOf(ArithmeticException.class);
+        assertThat(Money.ofWon(10_000_000_000_000L).applyRate(10_000)).isEqualTo(Money.ofWon(10_000_000_000_000L));
+    }
+}